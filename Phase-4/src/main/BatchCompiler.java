@@ -0,0 +1,88 @@
+package main;
+
+import main.compileError.CompileError;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+public class BatchCompiler {
+    private final String outputRoot;
+    private final boolean emitBytecode;
+    private final boolean incremental;
+    private final int inlineBudget;
+
+    public BatchCompiler(String outputRoot, boolean emitBytecode, boolean incremental, int inlineBudget){
+        this.outputRoot = outputRoot;
+        this.emitBytecode = emitBytecode;
+        this.incremental = incremental;
+        this.inlineBudget = inlineBudget;
+    }
+
+    public static ArrayList<String> collectSources(List<String> paths) throws IOException {
+        ArrayList<String> sources = new ArrayList<>();
+        for(String path : paths){
+            if(new File(path).isDirectory()){
+                try (Stream<Path> files = Files.walk(Paths.get(path))) {
+                    files.filter(file -> file.toString().endsWith(".fl"))
+                            .sorted()
+                            .forEach(file -> sources.add(file.toString()));
+                }
+            }
+            else
+                sources.add(path);
+        }
+        return sources;
+    }
+
+    private String outputPathFor(String sourceFile){
+        String name = Paths.get(sourceFile).normalize().toString().replaceAll("[^A-Za-z0-9]", "_");
+        return Paths.get(outputRoot, name) + File.separator;
+    }
+
+    public boolean run(List<String> sourceFiles){
+        long startTime = System.nanoTime();
+        ArrayList<Future<List<CompileError>>> results = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors())) {
+            for(String sourceFile : sourceFiles){
+                String outputPath = outputPathFor(sourceFile);
+                CompilationContext context = new CompilationContext(sourceFile, outputPath,
+                        outputPath + "typeCheckErrors.txt", emitBytecode, incremental, inlineBudget);
+                results.add(pool.submit(() -> FunctionCraft.compile(context)));
+            }
+        }
+
+        int failed = 0;
+        for(int i = 0; i < sourceFiles.size(); i++){
+            try {
+                List<CompileError> errors = results.get(i).get();
+                if(errors.isEmpty())
+                    System.out.println(sourceFiles.get(i) + ": ok -> " + outputPathFor(sourceFiles.get(i)));
+                else {
+                    failed++;
+                    System.out.println(sourceFiles.get(i) + ": " + errors.size() + " type error(s)");
+                    for(CompileError error : errors)
+                        System.out.println("\t" + error.getErrorMessage());
+                }
+            } catch (ExecutionException e) {
+                failed++;
+                System.out.println(sourceFiles.get(i) + ": failed: " + e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        System.out.println("Compiled " + sourceFiles.size() + " file(s) in " +
+                (System.nanoTime() - startTime) / 1_000_000 + " ms, " + failed + " failed");
+        return failed == 0;
+    }
+}
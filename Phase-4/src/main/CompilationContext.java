@@ -0,0 +1,53 @@
+package main;
+
+import main.incremental.IncrementalCache;
+import main.symbolTable.SymbolTable;
+import main.symbolTable.Symbols;
+import main.symbolTable.utils.Stack;
+
+public class CompilationContext {
+    private final String sourceFile;
+    private final String outputPath;
+    private final String errorsPath;
+    private final boolean emitBytecode;
+    private final IncrementalCache cache;
+    private final int inlineBudget;
+    private final Symbols symbols = new Symbols();
+    private SymbolTable root;
+    private SymbolTable top;
+    private Stack<SymbolTable> scopes = new Stack<>();
+
+    public CompilationContext(String sourceFile, String outputPath, String errorsPath, boolean emitBytecode,
+                              boolean incremental, int inlineBudget){
+        this.sourceFile = sourceFile;
+        this.outputPath = outputPath;
+        this.errorsPath = errorsPath;
+        this.emitBytecode = emitBytecode;
+        this.inlineBudget = inlineBudget;
+        this.cache = incremental ? new IncrementalCache(IncrementalCache.forSource(sourceFile), inlineBudget) : null;
+    }
+
+    public String getSourceFile(){return sourceFile;}
+    public String getOutputPath(){return outputPath;}
+    public String getErrorsPath(){return errorsPath;}
+    public boolean isEmitBytecode(){return emitBytecode;}
+    public IncrementalCache getCache(){return cache;}
+    public int getInlineBudget(){return inlineBudget;}
+    public Symbols getSymbols(){return symbols;}
+
+    public SymbolTable getRoot(){return root;}
+    public SymbolTable getTop(){return top;}
+    public void resetScopes(){
+        root = new SymbolTable();
+        top = new SymbolTable();
+        scopes = new Stack<>();
+    }
+    public void pushScope(SymbolTable symbolTable){
+        if(top != null)
+            scopes.push(top);
+        top = symbolTable;
+    }
+    public void popScope(){
+        top = scopes.pop();
+    }
+}
@@ -2,7 +2,14 @@ package main;
 
 import main.ast.nodes.Program;
 import main.compileError.CompileError;
+import main.profiler.Profiler;
+import main.runner.InProcessRunner;
+import main.runner.JasminAssembler;
+import main.visitor.closure.ClosureConverter;
 import main.visitor.codeGenerator.CodeGenerator;
+import main.visitor.optimizer.ConstantFolder;
+import main.visitor.optimizer.DeadCodeEliminator;
+import main.visitor.optimizer.Inliner;
 import main.visitor.type.TypeChecker;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
@@ -13,58 +20,177 @@ import parsers.FunctionCraftParser;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.io.*;
 
 public class FunctionCraft {
     public static void main(String[] args) throws IOException {
-        CharStream reader = CharStreams.fromFileName(args[0]);
+        ArrayList<String> sources = new ArrayList<>();
+        boolean profile = false;
+        boolean inProcess = false;
+        boolean emitBytecode = false;
+        boolean incremental = false;
+        int inlineBudget = Inliner.DEFAULT_BUDGET;
+        String batchOutput = null;
+        for(int i = 0; i < args.length; i++){
+            if(args[i].equals("--profile"))
+                profile = true;
+            else if(args[i].equals("--in-process"))
+                inProcess = true;
+            else if(args[i].equals("--bytecode"))
+                emitBytecode = true;
+            else if(args[i].equals("--incremental"))
+                incremental = true;
+            else if(args[i].startsWith("--inline-budget="))
+                inlineBudget = Integer.parseInt(args[i].substring("--inline-budget=".length()));
+            else if(args[i].equals("--batch"))
+                batchOutput = (i + 1 < args.length && args[i + 1].startsWith("--out=")) ?
+                        args[++i].substring("--out=".length()) : "./batchOutput";
+            else
+                sources.add(args[i]);
+        }
+        if(sources.isEmpty())
+            exitWithUsage("no source file given");
+        // the profiler records one compilation at a time, and a batch compiles its files in parallel
+        if(profile && batchOutput != null)
+            exitWithUsage("--profile cannot be combined with --batch");
+        if(batchOutput != null){
+            BatchCompiler batchCompiler = new BatchCompiler(batchOutput, emitBytecode, incremental, inlineBudget);
+            if(!batchCompiler.run(BatchCompiler.collectSources(sources)))
+                System.exit(1);
+            return;
+        }
+        if(profile)
+            Profiler.enable();
+        String sourceFile = sources.getLast();
+        CompilationContext context = new CompilationContext(sourceFile, "./codeGenOutput/",
+                "./samples/typeCheckErrors.txt", emitBytecode, incremental, inlineBudget);
+        for(CompileError compileError : compile(context))
+            System.out.println(compileError.getErrorMessage());
+
+        Profiler.startPhase("assembleAndRun");
+        if(inProcess)
+            runInProcess();
+        else
+            runJasminCode(emitBytecode);
+        Profiler.writeReport(sourceFile, "./samples/profile.json");
+    }
+
+    private static void exitWithUsage(String message){
+        System.err.println(message);
+        System.err.println("usage: FunctionCraft [--profile] [--in-process] [--bytecode] [--incremental] " +
+                "[--inline-budget=N] <source.fl>");
+        System.err.println("       FunctionCraft --batch [--out=<dir>] [--bytecode] [--incremental] " +
+                "[--inline-budget=N] <source.fl or dir>...");
+        System.exit(2);
+    }
+
+    public static ArrayList<CompileError> compile(CompilationContext context) throws IOException {
+        Profiler.startPhase("lexing");
+        CharStream reader = CharStreams.fromFileName(context.getSourceFile());
         FunctionCraftLexer flLexer = new FunctionCraftLexer(reader);
         CommonTokenStream tokens = new CommonTokenStream(flLexer);
+        tokens.fill();
+        Profiler.startPhase("parsing");
         FunctionCraftParser flParser = new FunctionCraftParser(tokens);
         Program program = flParser.program().flProgram;
-        TypeChecker typeChecker = new TypeChecker();
+        new ClosureConverter().visit(program);
+        Profiler.startPhase("typeChecking");
+        TypeChecker typeChecker = new TypeChecker(context);
         typeChecker.visit(program);
         typeChecker.typeErrors.sort(Comparator.comparingInt(CompileError::getLine));
-        FileWriter fileWriter = new FileWriter("./samples/typeCheckErrors.txt");
-        PrintWriter printWriter = new PrintWriter(fileWriter);
-        for(CompileError compileError : typeChecker.typeErrors){
-            printWriter.println(compileError.getErrorMessage());
-            System.out.println(compileError.getErrorMessage());
-        }
-        fileWriter.close();
 
-        CodeGenerator codeGenerator = new CodeGenerator(typeChecker);
+        Profiler.startPhase("optimization");
+        new Inliner(typeChecker.types, context.getInlineBudget()).visit(program);
+        new ConstantFolder(typeChecker.types).visit(program);
+        new DeadCodeEliminator(typeChecker.types).visit(program);
+
+        Profiler.startPhase("codeGeneration");
+        CodeGenerator codeGenerator = new CodeGenerator(typeChecker, context.getOutputPath(), context.isEmitBytecode());
         codeGenerator.visit(program);
+        if(context.getCache() != null && typeChecker.typeErrors.isEmpty())
+            context.getCache().save(typeChecker.types);
 
-        runJasminCode();
+        // written after code generation, which clears the output directory
+        FileWriter fileWriter = new FileWriter(context.getErrorsPath());
+        PrintWriter printWriter = new PrintWriter(fileWriter);
+        for(CompileError compileError : typeChecker.typeErrors)
+            printWriter.println(compileError.getErrorMessage());
+        fileWriter.close();
+        return typeChecker.typeErrors;
     }
 
-    private static void runJasminCode() {
+    private static void runInProcess() {
+        System.out.println("---------------------------Compilation Successful---------------------------");
+        File dir = new File("./codeGenOutput");
         try {
-            System.out.println("---------------------------Compilation Successful---------------------------");
-            File dir = new File("./codeGenOutput");
-            Process process = Runtime.getRuntime().exec("java -jar jasmin.jar *.j", null, dir);
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-            }
-            process = Runtime.getRuntime().exec("java Main", null, dir);
-            printResults(process.getInputStream());
-            printResults(process.getErrorStream());
-        } catch (IOException e) {
-            e.printStackTrace();
+            new InProcessRunner(dir, new File(dir, "jasmin.jar")).run();
+        } catch (Exception e) {
+            System.err.println("In-process assembly failed: " + e.getMessage());
+            System.exit(1);
         }
     }
 
-    private static void printResults(InputStream stream) {
-        BufferedReader reader = new BufferedReader(new InputStreamReader(stream));
-        String line;
+    private static void runJasminCode(boolean emitBytecode) {
+        System.out.println("---------------------------Compilation Successful---------------------------");
+        File dir = new File("./codeGenOutput");
+        String javaPath = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
         try {
-            while ((line = reader.readLine()) != null)
-                System.out.println(line);
-        } catch (IOException e) {
+            if (emitBytecode)
+                // Main.class is already written; only the runtime classes are left as Jasmin
+                new JasminAssembler(new File(dir, "jasmin.jar"))
+                        .assembleInto(dir.listFiles((d, name) -> name.endsWith(".j")), dir);
+            else
+                assemble(dir, javaPath);
+
+            Process process = new ProcessBuilder(javaPath, "Main").directory(dir).start();
+            Thread outputPrinter = printResults(process.getInputStream());
+            Thread errorPrinter = printResults(process.getErrorStream());
+            process.waitFor();
+            outputPrinter.join();
+            errorPrinter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
             e.printStackTrace();
         }
     }
+
+    private static void assemble(File dir, String javaPath) throws IOException, InterruptedException {
+        ArrayList<String> assembleCommand = new ArrayList<>(Arrays.asList(javaPath, "-jar", "jasmin.jar"));
+        File[] jasminFiles = dir.listFiles((d, name) -> name.endsWith(".j"));
+        if (jasminFiles != null)
+            for (File jasminFile : jasminFiles)
+                assembleCommand.add(jasminFile.getName());
+        Process assembler = new ProcessBuilder(assembleCommand)
+                .directory(dir)
+                .redirectErrorStream(true)
+                .start();
+        String assemblerOutput = new String(assembler.getInputStream().readAllBytes());
+        int exitCode = assembler.waitFor();
+        // jasmin reports syntax errors on stdout but still exits with 0
+        if (exitCode != 0 || assemblerOutput.contains("Error") || !new File(dir, "Main.class").exists()) {
+            System.err.print(assemblerOutput);
+            System.err.println("Jasmin assembly failed with exit code " + exitCode);
+            System.exit(1);
+        }
+    }
+
+    private static Thread printResults(InputStream stream) {
+        Thread printer = new Thread(() -> {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(stream));
+            String line;
+            try {
+                while ((line = reader.readLine()) != null)
+                    System.out.println(line);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+        printer.start();
+        return printer;
+    }
 }
@@ -1,6 +1,7 @@
 package main.ast.nodes;
 
 import main.compileError.CompileError;
+import main.profiler.Profiler;
 import main.visitor.IVisitor;
 
 import java.util.ArrayList;
@@ -8,8 +9,22 @@ import java.util.ArrayList;
 public abstract class Node {
     private int line;
 
+    public Node(){
+        if(Profiler.isEnabled())
+            Profiler.nodeCreated();
+    }
     public void setLine(int line){this.line = line;}
     public int getLine(){return this.line;}
     public abstract String toString();
-    public abstract <T> T accept(IVisitor<T> visitor);
+    public <T> T accept(IVisitor<T> visitor){
+        if(!Profiler.isEnabled())
+            return dispatch(visitor);
+        Profiler.enterVisit();
+        try {
+            return dispatch(visitor);
+        } finally {
+            Profiler.exitVisit(visitor, this);
+        }
+    }
+    protected abstract <T> T dispatch(IVisitor<T> visitor);
 }
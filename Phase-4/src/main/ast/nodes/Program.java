@@ -41,6 +41,6 @@ public class Program extends Node{
     @Override
     public String toString(){return "FLProgram";}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 
 }
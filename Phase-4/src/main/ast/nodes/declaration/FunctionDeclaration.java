@@ -24,5 +24,5 @@ public class FunctionDeclaration extends Declaration{
     @Override
     public String toString(){return "FunctionDeclaration:" + this.functionName.getName();}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
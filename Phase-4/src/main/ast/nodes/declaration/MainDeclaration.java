@@ -13,5 +13,5 @@ public class MainDeclaration extends Declaration{
     @Override
     public String toString(){return "MainDeclaration";}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
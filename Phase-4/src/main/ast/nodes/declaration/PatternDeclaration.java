@@ -5,12 +5,15 @@ import main.ast.nodes.expression.Identifier;
 import main.visitor.IVisitor;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public class PatternDeclaration extends Declaration{
     private Identifier patternName;
     private Identifier targetVariable;
     private ArrayList<Expression> conditions = new ArrayList<>();
     private ArrayList<Expression> returnExp = new ArrayList<>();
+    // the parser adds the conditions of one case at a time, and where each case starts is kept to tell them apart
+    private final ArrayList<Integer> caseConditionStarts = new ArrayList<>();
     public PatternDeclaration(Identifier name, Identifier targetVariable){
         this.patternName = name;
         this.targetVariable = targetVariable;
@@ -22,8 +25,19 @@ public class PatternDeclaration extends Declaration{
     public Identifier getTargetVariable(){return this.targetVariable;}
 
     public ArrayList<Expression> getConditions(){return this.conditions;}
-    public void setConditions(ArrayList<Expression> conditions){this.conditions.addAll((conditions));}
-    public void addCondition(Expression condition){this.conditions.add(condition);}
+    public void setConditions(ArrayList<Expression> conditions){
+        this.caseConditionStarts.add(this.conditions.size());
+        this.conditions.addAll((conditions));
+    }
+    public void addCondition(Expression condition){
+        if(caseConditionStarts.isEmpty())
+            caseConditionStarts.add(0);
+        this.conditions.add(condition);
+    }
+    public List<Expression> getCaseConditions(int index){
+        int end = index + 1 < caseConditionStarts.size() ? caseConditionStarts.get(index + 1) : conditions.size();
+        return conditions.subList(caseConditionStarts.get(index), end);
+    }
 
     public ArrayList<Expression> getReturnExp(){return this.returnExp;}
     public void setReturnExp(ArrayList<Expression> returnExp){this.returnExp = returnExp;}
@@ -31,6 +45,6 @@ public class PatternDeclaration extends Declaration{
     @Override
     public String toString(){return "PatternDeclaration:" + patternName + " on variable:" + targetVariable.getName();}
     @Override
-    public <T> T accept(IVisitor<T>visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 
 }
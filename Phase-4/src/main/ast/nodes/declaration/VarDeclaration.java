@@ -19,5 +19,5 @@ public class VarDeclaration extends Declaration{
     @Override
     public String toString(){return "VarDeclaration:" + this.name;}
     @Override
-    public<T>T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
@@ -47,5 +47,5 @@ public class AccessExpression extends Expression{
     @Override
     public String toString(){return "AccessExpression";}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
@@ -23,5 +23,5 @@ public class AppendExpression extends Expression{
     @Override
     public String toString(){return "AppendExpression";}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
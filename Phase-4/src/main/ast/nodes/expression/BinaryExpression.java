@@ -3,6 +3,9 @@ package main.ast.nodes.expression;
 import main.ast.nodes.expression.operators.BinaryOperator;
 import main.visitor.IVisitor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class BinaryExpression extends Expression{
     private Expression firstOperand;
     private Expression secondOperand;
@@ -37,8 +40,37 @@ public class BinaryExpression extends Expression{
     public void setSecondOperand(Expression secondOperand) {
         this.secondOperand = secondOperand;
     }
+    // folds the terms of a condition and the && and || between them into one expression, && binding tighter
+    public static Expression join(List<Expression> terms, List<BinaryOperator> operators){
+        Expression disjunction = null;
+        Expression conjunction = terms.getFirst();
+        for(int i = 0; i < operators.size(); i++){
+            Expression term = terms.get(i + 1);
+            if(operators.get(i) == BinaryOperator.AND)
+                conjunction = joined(conjunction, term, BinaryOperator.AND);
+            else{
+                disjunction = disjunction == null ? conjunction : joined(disjunction, conjunction, BinaryOperator.OR);
+                conjunction = term;
+            }
+        }
+        return disjunction == null ? conjunction : joined(disjunction, conjunction, BinaryOperator.OR);
+    }
+    // a condition is a list of expressions that all have to hold. Terms joined only by && stay apart, and a
+    // condition with || in it becomes a single expression
+    public static ArrayList<Expression> joinConditions(List<Expression> terms, List<BinaryOperator> operators){
+        if(!operators.contains(BinaryOperator.OR))
+            return new ArrayList<>(terms);
+        ArrayList<Expression> conditions = new ArrayList<>();
+        conditions.add(join(terms, operators));
+        return conditions;
+    }
+    private static Expression joined(Expression first, Expression second, BinaryOperator operator){
+        BinaryExpression joined = new BinaryExpression(first, second, operator);
+        joined.setLine(first.getLine());
+        return joined;
+    }
     @Override
     public String toString(){return "BinaryOperation:" + this.binaryOperator.name();}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
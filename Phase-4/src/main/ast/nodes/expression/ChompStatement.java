@@ -16,5 +16,5 @@ public class ChompStatement extends Expression{
     @Override
     public String toString(){return "ChompStatement";}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
@@ -1,14 +1,26 @@
 package main.ast.nodes.expression;
 
 import main.visitor.IVisitor;
+import main.visitor.codeGenerator.LocalCategory;
 
 public class Identifier extends Expression{
     private String name;
+    private int symbolId = -1;
+    private int slot = -1;
+    private LocalCategory category;
     public Identifier(String name){this.name = name;}
     public void setName(String name) {this.name = name;}
     public String getName(){return this.name;}
+    public int getSymbolId(){return this.symbolId;}
+    public void setSymbolId(int symbolId){this.symbolId = symbolId;}
+    public int getSlot(){return this.slot;}
+    public LocalCategory getCategory(){return this.category;}
+    public void bind(int slot, LocalCategory category){
+        this.slot = slot;
+        this.category = category;
+    }
     @Override
     public String toString(){return "Identifier:" + this.name;}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
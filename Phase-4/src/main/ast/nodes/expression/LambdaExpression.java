@@ -1,5 +1,6 @@
 package main.ast.nodes.expression;
 
+import main.ast.nodes.declaration.FunctionDeclaration;
 import main.ast.nodes.declaration.VarDeclaration;
 import main.ast.nodes.statement.Statement;
 import main.visitor.IVisitor;
@@ -9,6 +10,10 @@ import java.util.ArrayList;
 public class LambdaExpression extends Expression{
     ArrayList<VarDeclaration> declarationArgs = new ArrayList<>();
     ArrayList<Statement> body = new ArrayList<>();
+    // set by closure conversion: the function the lambda is compiled to, and the variables it copies from the
+    // enclosing function, which that function takes ahead of the lambda's own arguments
+    private FunctionDeclaration function;
+    private ArrayList<Identifier> captures = new ArrayList<>();
 //    ArrayList<Expression> args =  new ArrayList<>();
     public LambdaExpression(ArrayList<VarDeclaration> declarationArgs, ArrayList<Statement> body
                             ){
@@ -40,8 +45,24 @@ public class LambdaExpression extends Expression{
     public ArrayList<VarDeclaration> getDeclarationArgs() {
         return declarationArgs;
     }
+
+    public FunctionDeclaration getFunction() {
+        return function;
+    }
+
+    public void setFunction(FunctionDeclaration function) {
+        this.function = function;
+    }
+
+    public ArrayList<Identifier> getCaptures() {
+        return captures;
+    }
+
+    public void setCaptures(ArrayList<Identifier> captures) {
+        this.captures = captures;
+    }
     @Override
     public String toString(){return "LambdaExpression";}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
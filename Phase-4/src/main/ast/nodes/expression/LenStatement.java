@@ -10,5 +10,5 @@ public class LenStatement extends Expression{
     @Override
     public String toString(){return "LenStatement";}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
@@ -27,5 +27,5 @@ public class MatchPatternStatement extends Expression{
     @Override
     public String toString(){return "MatchPattern:"+patternId.getName();}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
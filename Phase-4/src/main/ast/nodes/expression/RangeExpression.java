@@ -30,5 +30,5 @@ public class RangeExpression extends Expression{
     @Override
     public String toString(){return "RangeExpression:"+rangeType;}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
@@ -29,5 +29,5 @@ public class UnaryExpression extends Expression{
     @Override
     public String toString(){return "UnaryExpression_" + unaryOperator.name();}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
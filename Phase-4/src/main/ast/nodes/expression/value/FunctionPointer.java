@@ -17,5 +17,5 @@ public class FunctionPointer extends Value{
     @Override
     public String toString(){return "FunctionPointer:" + this.id.getName();}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
@@ -19,5 +19,5 @@ public class ListValue extends Value{
     @Override
     public String toString(){return "ListValue";}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
@@ -17,5 +17,5 @@ public class IntValue extends Value {
     @Override
     public String toString(){return "IntValue:" + String.valueOf(this.intVal);}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
@@ -17,5 +17,5 @@ public class StringValue extends Value {
     @Override
     public String toString(){return "StringValue:"+this.str;}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
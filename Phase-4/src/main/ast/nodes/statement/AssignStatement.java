@@ -61,6 +61,6 @@ public class AssignStatement extends Statement{
     @Override
     public String toString(){return "AssignTo:"+ this.assignedId.toString();}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
 
@@ -17,5 +17,5 @@ public class ExpressionStatement extends Statement{
     @Override
     public String toString(){return "ExpressionStatement";}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
@@ -11,6 +11,10 @@ public class ForStatement extends Statement{
     private Identifier iteratorId;
     private RangeExpression rangeExpression;
     private ArrayList<Statement> loopBodyStmts;
+    private int indexSlot = -1;
+    private int limitSlot = -1;
+    private int listSlot = -1;
+    private ArrayList<Integer> elementSlots = new ArrayList<>();
 
     public ForStatement(Identifier identifierId, RangeExpression rangeExpression, ArrayList<Statement> loopBodyStmts){
         this.iteratorId = identifierId;
@@ -42,9 +46,35 @@ public class ForStatement extends Statement{
         this.rangeExpression = rangeExpression;
     }
 
+    public int getIndexSlot() {
+        return indexSlot;
+    }
+
+    public int getLimitSlot() {
+        return limitSlot;
+    }
+
+    public int getListSlot() {
+        return listSlot;
+    }
+
+    public ArrayList<Integer> getElementSlots() {
+        return elementSlots;
+    }
+
+    public void setElementSlots(ArrayList<Integer> elementSlots) {
+        this.elementSlots = elementSlots;
+    }
+
+    public void setTempSlots(int indexSlot, int limitSlot, int listSlot) {
+        this.indexSlot = indexSlot;
+        this.limitSlot = limitSlot;
+        this.listSlot = listSlot;
+    }
+
     @Override
     public String toString(){return "ForLoop:"+iteratorId.getName();}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 
 }
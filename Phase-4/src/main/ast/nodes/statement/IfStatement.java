@@ -20,5 +20,5 @@ public class IfStatement extends Statement{
     @Override
     public String toString(){return "IfStatement";}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
@@ -18,5 +18,5 @@ public class LoopDoStatement extends Statement{
     @Override
     public String toString(){return "LoopDoStatement";}
     @Override
-    public <T> T accept(IVisitor<T>visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
@@ -17,6 +17,6 @@ public class PushStatement extends Statement{
     @Override
     public String toString(){return "PushStatement";}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 
 }
@@ -11,5 +11,5 @@ public class PutStatement extends Statement{
     @Override
     public String toString(){return "PutStatement";}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
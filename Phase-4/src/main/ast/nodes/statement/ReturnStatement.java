@@ -16,5 +16,5 @@ public class ReturnStatement extends Statement{
     @Override
     public String toString(){return "ReturnStatement";}
     @Override
-    public <T> T accept(IVisitor<T> visitor){return visitor.visit(this);}
+    protected <T> T dispatch(IVisitor<T> visitor){return visitor.visit(this);}
 }
@@ -176,17 +176,36 @@ ifStatement returns[IfStatement ifRet]:
     )?
      END;
 
-condition returns [ArrayList<Expression> conditionRet]:
+condition returns [ArrayList<Expression> conditionRet, ArrayList<Expression> terms, ArrayList<BinaryOperator> operators]:
     {
-        $conditionRet = new ArrayList<Expression>();
+        $terms = new ArrayList<Expression>();
+        $operators = new ArrayList<BinaryOperator>();
+        BinaryOperator op = BinaryOperator.AND;
+        boolean grouped = false;
     }
     (LPAR e = expression
-     {$conditionRet.add($e.expRet);}
-     RPAR ((AND | OR) (LPAR)? c = condition
      {
-        $conditionRet.addAll($c.conditionRet);
+        if(!$terms.isEmpty())
+            $operators.add(BinaryOperator.AND);
+        $terms.add($e.expRet);
      }
-     (RPAR)?)*)*;
+     RPAR ((AND {op = BinaryOperator.AND;} | OR {op = BinaryOperator.OR;}) {grouped = false;}
+     (LPAR {grouped = true;})? c = condition
+     {
+        if(!$c.terms.isEmpty()){
+            $operators.add(op);
+            if(grouped)
+                $terms.add(BinaryExpression.join($c.terms, $c.operators));
+            else{
+                $terms.addAll($c.terms);
+                $operators.addAll($c.operators);
+            }
+        }
+     }
+     (RPAR)?)*)*
+    {
+        $conditionRet = BinaryExpression.joinConditions($terms, $operators);
+    };
 
 putsStatement returns [PutStatement putRet]:
     p = PUTS LPAR e = expression
@@ -0,0 +1,40 @@
+package main.incremental;
+
+import java.util.ArrayList;
+
+public class CacheEntry {
+    public static class Dependency {
+        private final String functionName;
+        private final ArrayList<String> argumentTypes;
+        private final String functionHash;
+        private final String returnType;
+
+        public Dependency(String functionName, ArrayList<String> argumentTypes, String functionHash, String returnType){
+            this.functionName = functionName;
+            this.argumentTypes = argumentTypes;
+            this.functionHash = functionHash;
+            this.returnType = returnType;
+        }
+        public String getFunctionName(){return functionName;}
+        public ArrayList<String> getArgumentTypes(){return argumentTypes;}
+        public String getFunctionHash(){return functionHash;}
+        public String getReturnType(){return returnType;}
+    }
+
+    private final String functionHash;
+    private final String returnType;
+    private final ArrayList<Dependency> dependencies;
+    private final ArrayList<String[]> body;
+
+    public CacheEntry(String functionHash, String returnType, ArrayList<Dependency> dependencies,
+                      ArrayList<String[]> body){
+        this.functionHash = functionHash;
+        this.returnType = returnType;
+        this.dependencies = dependencies;
+        this.body = body;
+    }
+    public String getFunctionHash(){return functionHash;}
+    public String getReturnType(){return returnType;}
+    public ArrayList<Dependency> getDependencies(){return dependencies;}
+    public ArrayList<String[]> getBody(){return body;}
+}
@@ -0,0 +1,121 @@
+package main.incremental;
+
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.type.Type;
+import main.visitor.type.Specialization;
+import main.visitor.type.TypeTable;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+public class IncrementalCache {
+    private static final int FORMAT_VERSION = 15;
+    private final File file;
+    // bodies are cached after inlining, so they are only valid for the budget they were inlined with
+    private final int inlineBudget;
+    private final HashMap<String, CacheEntry> entries = new HashMap<>();
+    private final IdentityHashMap<FunctionDeclaration, String> hashes = new IdentityHashMap<>();
+
+    public IncrementalCache(File file, int inlineBudget){
+        this.file = file;
+        this.inlineBudget = inlineBudget;
+        if(file.exists())
+            load();
+    }
+
+    public static File forSource(String sourceFile){
+        String name = new File(sourceFile).getAbsolutePath().replaceAll("[^A-Za-z0-9.]", "_");
+        return new File("./incrementalCache/" + name + ".cache");
+    }
+
+    public String hashOf(FunctionDeclaration functionDeclaration){
+        return hashes.computeIfAbsent(functionDeclaration, TreeHasher::hash);
+    }
+    public CacheEntry get(String methodName){
+        return entries.get(methodName);
+    }
+
+    private void load(){
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if(in.readInt() != FORMAT_VERSION || in.readInt() != inlineBudget)
+                return;
+            int entryCount = in.readInt();
+            for(int i = 0; i < entryCount; i++){
+                String methodName = in.readUTF();
+                String functionHash = in.readUTF();
+                String returnType = in.readUTF();
+                ArrayList<CacheEntry.Dependency> dependencies = new ArrayList<>();
+                int dependencyCount = in.readInt();
+                for(int j = 0; j < dependencyCount; j++){
+                    String functionName = in.readUTF();
+                    ArrayList<String> argumentTypes = new ArrayList<>();
+                    int argumentCount = in.readInt();
+                    for(int k = 0; k < argumentCount; k++)
+                        argumentTypes.add(in.readUTF());
+                    dependencies.add(new CacheEntry.Dependency(functionName, argumentTypes, in.readUTF(), in.readUTF()));
+                }
+                ArrayList<String[]> body = new ArrayList<>();
+                int instructionCount = in.readInt();
+                for(int j = 0; j < instructionCount; j++){
+                    if(in.readBoolean())
+                        body.add(new String[]{in.readUTF()});
+                    else
+                        body.add(new String[]{in.readUTF(), in.readBoolean() ? in.readUTF() : null});
+                }
+                entries.put(methodName, new CacheEntry(functionHash, returnType, dependencies, body));
+            }
+        } catch (IOException e){
+            entries.clear();
+        }
+    }
+
+    public void save(TypeTable types) throws IOException {
+        file.getParentFile().mkdirs();
+        ArrayList<Specialization> specializations = new ArrayList<>();
+        for(Specialization specialization : types.getSpecializations())
+            if(specialization.getBody() != null && !usesGeneratedMembers(specialization.getBody()))
+                specializations.add(specialization);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(inlineBudget);
+            out.writeInt(specializations.size());
+            for(Specialization specialization : specializations){
+                out.writeUTF(specialization.getMethodName());
+                out.writeUTF(hashOf(specialization.getFunctionDeclaration()));
+                out.writeUTF(Specialization.typeCode(specialization.getReturnType()));
+                out.writeInt(types.getDependencies(specialization.getKey()).size());
+                for(Specialization callee : types.getDependencies(specialization.getKey())){
+                    out.writeUTF(callee.getFunctionDeclaration().getFunctionName().getName());
+                    out.writeInt(callee.getArgumentTypes().size());
+                    for(Type argumentType : callee.getArgumentTypes())
+                        out.writeUTF(Specialization.typeCode(argumentType));
+                    out.writeUTF(hashOf(callee.getFunctionDeclaration()));
+                    out.writeUTF(Specialization.typeCode(callee.getReturnType()));
+                }
+                out.writeInt(specialization.getBody().size());
+                for(String[] instruction : specialization.getBody()){
+                    out.writeBoolean(instruction.length == 1);
+                    out.writeUTF(instruction[0]);
+                    if(instruction.length == 2){
+                        out.writeBoolean(instruction[1] != null);
+                        if(instruction[1] != null)
+                            out.writeUTF(instruction[1]);
+                    }
+                }
+            }
+        }
+    }
+    // a reused body is not checked again, so the pattern methods it calls would not be generated and the closures
+    // it creates would not be known
+    private static boolean usesGeneratedMembers(ArrayList<String[]> body){
+        for(String[] instruction : body)
+            if(instruction.length == 2 && instruction[1] != null &&
+                    ((instruction[0].equals("invokestatic") && instruction[1].startsWith("Main/pattern$")) ||
+                    (instruction[0].equals("getstatic") && instruction[1].startsWith("Main/lambda$")) ||
+                    (instruction[0].equals("ldc") && instruction[1].startsWith("\"lambda$"))))
+                return true;
+        return false;
+    }
+}
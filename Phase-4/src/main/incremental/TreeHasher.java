@@ -0,0 +1,266 @@
+package main.incremental;
+
+import main.ast.nodes.Node;
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.declaration.PatternDeclaration;
+import main.ast.nodes.declaration.VarDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.value.FunctionPointer;
+import main.ast.nodes.expression.value.ListValue;
+import main.ast.nodes.expression.value.primitive.BoolValue;
+import main.ast.nodes.expression.value.primitive.FloatValue;
+import main.ast.nodes.expression.value.primitive.IntValue;
+import main.ast.nodes.expression.value.primitive.StringValue;
+import main.ast.nodes.statement.*;
+import main.visitor.Visitor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+// hashes the shape and contents of a subtree, ignoring line numbers so that edits elsewhere in the file
+// do not invalidate it
+public class TreeHasher extends Visitor<Void> {
+    private final MessageDigest digest;
+
+    private TreeHasher(){
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e){
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String hash(Node node){
+        TreeHasher hasher = new TreeHasher();
+        node.accept(hasher);
+        return HexFormat.of().formatHex(hasher.digest.digest());
+    }
+
+    private void feed(Object value){
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+    private void child(Node node){
+        if(node == null)
+            feed("null");
+        else
+            node.accept(this);
+    }
+    private void children(List<? extends Node> nodes){
+        feed("[");
+        for(Node node : nodes)
+            child(node);
+        feed("]");
+    }
+
+    @Override
+    public Void visit(Program program){
+        feed(program);
+        children(program.getFunctionDeclarations());
+        children(program.getPatternDeclarations());
+        child(program.getMain());
+        return null;
+    }
+    @Override
+    public Void visit(Identifier identifier){
+        feed(identifier);
+        return null;
+    }
+    @Override
+    public Void visit(VarDeclaration varDeclaration){
+        feed(varDeclaration);
+        child(varDeclaration.getDefaultVal());
+        return null;
+    }
+    @Override
+    public Void visit(FunctionDeclaration functionDeclaration){
+        feed(functionDeclaration);
+        children(functionDeclaration.getArgs());
+        children(functionDeclaration.getBody());
+        return null;
+    }
+    @Override
+    public Void visit(PatternDeclaration patternDeclaration){
+        feed(patternDeclaration);
+        children(patternDeclaration.getConditions());
+        children(patternDeclaration.getReturnExp());
+        return null;
+    }
+    @Override
+    public Void visit(MainDeclaration mainDeclaration){
+        feed(mainDeclaration);
+        children(mainDeclaration.getBody());
+        return null;
+    }
+    @Override
+    public Void visit(ReturnStatement returnStatement){
+        feed(returnStatement);
+        child(returnStatement.hasRetExpression() ? returnStatement.getReturnExp() : null);
+        return null;
+    }
+    @Override
+    public Void visit(IfStatement ifStatement){
+        feed(ifStatement);
+        children(ifStatement.getConditions());
+        children(ifStatement.getThenBody());
+        children(ifStatement.getElseBody());
+        return null;
+    }
+    @Override
+    public Void visit(PutStatement putStatement){
+        feed(putStatement);
+        child(putStatement.getExpression());
+        return null;
+    }
+    @Override
+    public Void visit(LenStatement lenStatement){
+        feed(lenStatement);
+        child(lenStatement.getExpression());
+        return null;
+    }
+    @Override
+    public Void visit(PushStatement pushStatement){
+        feed(pushStatement);
+        child(pushStatement.getInitial());
+        child(pushStatement.getToBeAdded());
+        return null;
+    }
+    @Override
+    public Void visit(LoopDoStatement loopDoStatement){
+        feed(loopDoStatement);
+        children(loopDoStatement.getLoopBodyStmts());
+        return null;
+    }
+    @Override
+    public Void visit(ForStatement forStatement){
+        feed(forStatement);
+        child(forStatement.getRangeExpression());
+        children(forStatement.getLoopBodyStmts());
+        return null;
+    }
+    @Override
+    public Void visit(MatchPatternStatement matchPatternStatement){
+        feed(matchPatternStatement);
+        child(matchPatternStatement.getMatchArgument());
+        return null;
+    }
+    @Override
+    public Void visit(ChopStatement chopStatement){
+        feed(chopStatement);
+        child(chopStatement.getChopExpression());
+        return null;
+    }
+    @Override
+    public Void visit(ChompStatement chompStatement){
+        feed(chompStatement);
+        child(chompStatement.getChompExpression());
+        return null;
+    }
+    @Override
+    public Void visit(AssignStatement assignStatement){
+        feed(assignStatement);
+        feed(assignStatement.getAssignOperator());
+        child(assignStatement.isAccessList() ? assignStatement.getAccessListExpression() : null);
+        child(assignStatement.getAssignExpression());
+        return null;
+    }
+    @Override
+    public Void visit(ExpressionStatement expressionStatement){
+        feed(expressionStatement);
+        child(expressionStatement.getExpression());
+        return null;
+    }
+    @Override
+    public Void visit(AppendExpression appendExpression){
+        feed(appendExpression);
+        child(appendExpression.getAppendee());
+        children(appendExpression.getAppendeds());
+        return null;
+    }
+    @Override
+    public Void visit(BinaryExpression binaryExpression){
+        feed(binaryExpression);
+        child(binaryExpression.getFirstOperand());
+        child(binaryExpression.getSecondOperand());
+        return null;
+    }
+    @Override
+    public Void visit(UnaryExpression unaryExpression){
+        feed(unaryExpression);
+        child(unaryExpression.getExpression());
+        return null;
+    }
+    @Override
+    public Void visit(AccessExpression accessExpression){
+        feed(accessExpression);
+        feed(accessExpression.isFunctionCall());
+        child(accessExpression.getAccessedExpression());
+        children(accessExpression.getArguments());
+        children(accessExpression.getDimentionalAccess());
+        return null;
+    }
+    @Override
+    public Void visit(LambdaExpression lambdaExpression){
+        feed(lambdaExpression);
+        // the name of the function it was converted to is in the code that evaluates it
+        feed(lambdaExpression.getFunction() == null ? null : lambdaExpression.getFunction().getFunctionName());
+        children(lambdaExpression.getCaptures());
+        children(lambdaExpression.getDeclarationArgs());
+        children(lambdaExpression.getBody());
+        return null;
+    }
+    @Override
+    public Void visit(ListValue listValue){
+        feed(listValue);
+        children(listValue.getElements());
+        return null;
+    }
+    @Override
+    public Void visit(FunctionPointer functionPointer){
+        feed(functionPointer);
+        return null;
+    }
+    @Override
+    public Void visit(BoolValue boolValue){
+        feed(boolValue);
+        return null;
+    }
+    @Override
+    public Void visit(IntValue intValue){
+        feed(intValue);
+        return null;
+    }
+    @Override
+    public Void visit(StringValue stringValue){
+        feed(stringValue);
+        return null;
+    }
+    @Override
+    public Void visit(FloatValue floatValue){
+        feed(floatValue);
+        return null;
+    }
+    @Override
+    public Void visit(NextStatement nextStatement){
+        feed(nextStatement);
+        children(nextStatement.getConditions());
+        return null;
+    }
+    @Override
+    public Void visit(BreakStatement breakStatement){
+        feed(breakStatement);
+        children(breakStatement.getConditions());
+        return null;
+    }
+    @Override
+    public Void visit(RangeExpression rangeExpression){
+        feed(rangeExpression);
+        children(rangeExpression.getRangeExpressions());
+        return null;
+    }
+}
@@ -0,0 +1,134 @@
+package main.profiler;
+
+import main.ast.nodes.Node;
+import main.visitor.IVisitor;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class Profiler {
+    private static boolean enabled = false;
+    private static final ArrayList<PhaseRecord> phases = new ArrayList<>();
+    private static final Map<String, VisitRecord> visits = new LinkedHashMap<>();
+    // each frame holds {start time, time spent in nested visits}
+    private static final ArrayDeque<long[]> visitStack = new ArrayDeque<>();
+    private static PhaseRecord currentPhase;
+
+    private static class PhaseRecord {
+        private final String name;
+        private final long startTime;
+        private final long startAllocatedBytes;
+        private long wallTime;
+        private long allocatedBytes;
+        private long nodesCreated;
+        private long nodesVisited;
+        private PhaseRecord(String name){
+            this.name = name;
+            this.startTime = System.nanoTime();
+            this.startAllocatedBytes = allocatedBytes();
+        }
+    }
+    private static class VisitRecord {
+        private final String visitor;
+        private final String node;
+        private long calls;
+        private long totalTime;
+        private long selfTime;
+        private VisitRecord(String visitor, String node){
+            this.visitor = visitor;
+            this.node = node;
+        }
+    }
+
+    public static void enable(){enabled = true;}
+    public static boolean isEnabled(){return enabled;}
+
+    public static void startPhase(String name){
+        if(!enabled)
+            return;
+        endPhase();
+        currentPhase = new PhaseRecord(name);
+        phases.add(currentPhase);
+    }
+    public static void endPhase(){
+        if(!enabled || currentPhase == null)
+            return;
+        currentPhase.wallTime = System.nanoTime() - currentPhase.startTime;
+        long allocated = allocatedBytes();
+        currentPhase.allocatedBytes = (allocated < 0) ? -1 : allocated - currentPhase.startAllocatedBytes;
+        currentPhase = null;
+    }
+    public static void nodeCreated(){
+        if(currentPhase != null)
+            currentPhase.nodesCreated++;
+    }
+    public static void enterVisit(){
+        visitStack.push(new long[]{System.nanoTime(), 0});
+    }
+    public static void exitVisit(IVisitor<?> visitor, Node node){
+        long[] frame = visitStack.pop();
+        long elapsed = System.nanoTime() - frame[0];
+        if(!visitStack.isEmpty())
+            visitStack.peek()[1] += elapsed;
+        if(currentPhase != null)
+            currentPhase.nodesVisited++;
+        String visitorName = visitor.getClass().getSimpleName();
+        String nodeName = node.getClass().getSimpleName();
+        VisitRecord record = visits.computeIfAbsent(visitorName + "." + nodeName,
+                k -> new VisitRecord(visitorName, nodeName));
+        record.calls++;
+        record.totalTime += elapsed;
+        record.selfTime += elapsed - frame[1];
+    }
+    private static long allocatedBytes(){
+        if(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+                && threadMXBean.isThreadAllocatedMemorySupported())
+            return threadMXBean.getCurrentThreadAllocatedBytes();
+        return -1;
+    }
+
+    public static void writeReport(String sourceFile, String path){
+        if(!enabled)
+            return;
+        endPhase();
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"source\": \"").append(escape(sourceFile)).append("\",\n");
+        json.append("  \"phases\": [");
+        for(int i = 0; i < phases.size(); i++){
+            PhaseRecord phase = phases.get(i);
+            json.append(i == 0 ? "\n" : ",\n");
+            json.append("    {\"name\": \"").append(phase.name)
+                    .append("\", \"wallTimeNs\": ").append(phase.wallTime)
+                    .append(", \"allocatedBytes\": ").append(phase.allocatedBytes)
+                    .append(", \"nodesCreated\": ").append(phase.nodesCreated)
+                    .append(", \"nodesVisited\": ").append(phase.nodesVisited).append("}");
+        }
+        json.append("\n  ],\n");
+        json.append("  \"visitMethods\": [");
+        int i = 0;
+        for(VisitRecord record : visits.values()){
+            json.append(i++ == 0 ? "\n" : ",\n");
+            json.append("    {\"visitor\": \"").append(record.visitor)
+                    .append("\", \"node\": \"").append(record.node)
+                    .append("\", \"calls\": ").append(record.calls)
+                    .append(", \"totalTimeNs\": ").append(record.totalTime)
+                    .append(", \"selfTimeNs\": ").append(record.selfTime).append("}");
+        }
+        json.append("\n  ]\n}\n");
+        try(PrintWriter printWriter = new PrintWriter(new FileWriter(path))){
+            printWriter.print(json);
+        } catch (IOException e){
+            e.printStackTrace();
+        }
+    }
+    private static String escape(String value){
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,50 @@
+package main.runner;
+
+import java.io.*;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.util.Map;
+
+public class InProcessRunner {
+    private final File outputDir;
+    private final File jasminJar;
+
+    private static class ByteArrayClassLoader extends ClassLoader {
+        private final Map<String, byte[]> classes;
+        private ByteArrayClassLoader(Map<String, byte[]> classes){
+            super(ClassLoader.getSystemClassLoader());
+            this.classes = classes;
+        }
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = classes.get(name);
+            if(bytes == null)
+                throw new ClassNotFoundException(name);
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+
+    public InProcessRunner(File outputDir, File jasminJar){
+        this.outputDir = outputDir;
+        this.jasminJar = jasminJar;
+    }
+
+    public void run() throws Exception {
+        Map<String, byte[]> classes = new JasminAssembler(jasminJar)
+                .assemble(outputDir.listFiles((d, name) -> name.endsWith(".j")));
+        File[] classFiles = outputDir.listFiles((d, name) -> name.endsWith(".class"));
+        if(classFiles != null)
+            for(File classFile : classFiles)
+                classes.putIfAbsent(classFile.getName().replace(".class", ""), Files.readAllBytes(classFile.toPath()));
+        Class<?> mainClass = new ByteArrayClassLoader(classes).loadClass("Main");
+        Method mainMethod = mainClass.getMethod("main", String[].class);
+        try {
+            mainMethod.invoke(null, (Object) new String[0]);
+        } catch (InvocationTargetException e){
+            System.err.print("Exception in thread \"main\" ");
+            e.getCause().printStackTrace();
+        }
+        System.out.flush();
+    }
+}
@@ -0,0 +1,48 @@
+package main.runner;
+
+import java.io.*;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+public class JasminAssembler {
+    private final File jasminJar;
+
+    public JasminAssembler(File jasminJar){
+        this.jasminJar = jasminJar;
+    }
+
+    public Map<String, byte[]> assemble(File[] jasminFiles) throws Exception {
+        Map<String, byte[]> classes = new HashMap<>();
+        if(jasminFiles == null || jasminFiles.length == 0)
+            return classes;
+        try(URLClassLoader jasminLoader = new URLClassLoader(new URL[]{jasminJar.toURI().toURL()})){
+            Class<?> classFileClass = jasminLoader.loadClass("jasmin.ClassFile");
+            Method readJasmin = classFileClass.getMethod("readJasmin", Reader.class, String.class, boolean.class);
+            Method errorCount = classFileClass.getMethod("errorCount");
+            Method getClassName = classFileClass.getMethod("getClassName");
+            Method write = classFileClass.getMethod("write", OutputStream.class);
+            for(File jasminFile : jasminFiles){
+                Object classFile = classFileClass.getConstructor().newInstance();
+                try(Reader reader = new BufferedReader(new FileReader(jasminFile))){
+                    readJasmin.invoke(classFile, reader, jasminFile.getName(), true);
+                }
+                int errors = (int) errorCount.invoke(classFile);
+                if(errors > 0)
+                    throw new IOException(jasminFile.getName() + ": Found " + errors + " errors");
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                write.invoke(classFile, bytes);
+                classes.put(((String) getClassName.invoke(classFile)).replace('/', '.'), bytes.toByteArray());
+            }
+        }
+        return classes;
+    }
+
+    public void assembleInto(File[] jasminFiles, File outputDir) throws Exception {
+        for(Map.Entry<String, byte[]> entry : assemble(jasminFiles).entrySet())
+            Files.write(new File(outputDir, entry.getKey().replace('.', '/') + ".class").toPath(), entry.getValue());
+    }
+}
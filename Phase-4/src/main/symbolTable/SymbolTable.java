@@ -3,43 +3,58 @@ package main.symbolTable;
 import main.symbolTable.exceptions.ItemAlreadyExists;
 import main.symbolTable.exceptions.ItemNotFound;
 import main.symbolTable.item.SymbolTableItem;
-import main.symbolTable.utils.Stack;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 public class SymbolTable {
-    public static SymbolTable top;
-    public static SymbolTable root;
-    private static Stack<SymbolTable> stack = new Stack<>();
-    private Map<String, SymbolTableItem> items;
-    public static void push(SymbolTable symbolTable) {
-        if (top != null)
-            stack.push(top);
-        top = symbolTable;
+    private final SymbolTable parent;
+    // indexed by namespace, then by symbol id
+    private final SymbolTableItem[][] items = new SymbolTableItem[Symbols.NAMESPACES][];
+    public SymbolTable() {
+        this(null);
     }
-    public static void pop() {
-        top = stack.pop();
+    // a nested scope sees every item of its enclosing scopes without copying them
+    public SymbolTable(SymbolTable parent) {
+        this.parent = parent;
     }
-    public SymbolTable() {
-        this.items = new HashMap<>();
+    private SymbolTableItem find(int namespace, int symbolId) {
+        for (SymbolTable scope = this; scope != null; scope = scope.parent) {
+            SymbolTableItem[] namespaceItems = scope.items[namespace];
+            if (namespaceItems != null && symbolId < namespaceItems.length && namespaceItems[symbolId] != null)
+                return namespaceItems[symbolId];
+        }
+        return null;
+    }
+    // returns null on a miss instead of throwing
+    public SymbolTableItem lookup(int namespace, int symbolId) {
+        return find(namespace, symbolId);
+    }
+    // returns the visible item with the same key, or null if the item was added
+    public SymbolTableItem putIfAbsent(SymbolTableItem item) {
+        int namespace = item.getNamespace();
+        int symbolId = item.getSymbolId();
+        SymbolTableItem existing = find(namespace, symbolId);
+        if (existing == null) {
+            SymbolTableItem[] namespaceItems = items[namespace];
+            if (namespaceItems == null)
+                namespaceItems = items[namespace] = new SymbolTableItem[Math.max(symbolId + 1, 8)];
+            else if (symbolId >= namespaceItems.length)
+                namespaceItems = items[namespace] = Arrays.copyOf(namespaceItems,
+                        Math.max(symbolId + 1, namespaceItems.length * 2));
+            namespaceItems[symbolId] = item;
+        }
+        return existing;
     }
     public void put(SymbolTableItem item) throws ItemAlreadyExists {
-        if (items.containsKey(item.getKey()))
+        if (putIfAbsent(item) != null)
             throw new ItemAlreadyExists();
-        items.put(item.getKey(), item);
     }
-    public SymbolTableItem getItem(String key) throws ItemNotFound {
-        SymbolTableItem symbolTableItem = this.items.get(key);
+    public SymbolTableItem getItem(int namespace, int symbolId) throws ItemNotFound {
+        SymbolTableItem symbolTableItem = find(namespace, symbolId);
         if( symbolTableItem != null ){
             return symbolTableItem;
         }
         throw new ItemNotFound();
     }
-    public SymbolTable copy() {
-        SymbolTable newSymbolTable = new SymbolTable();
-        newSymbolTable.items.putAll(this.items);
-        return newSymbolTable;
-    }
 
 }
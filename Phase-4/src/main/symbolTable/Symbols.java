@@ -0,0 +1,37 @@
+package main.symbolTable;
+
+import main.ast.nodes.expression.Identifier;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+// interns every name of a compilation to a dense int id; the id is shared by all namespaces, so a function
+// and a variable with the same name get the same id but never collide in a SymbolTable
+public class Symbols {
+    public static final int FUNCTION = 0;
+    public static final int PATTERN = 1;
+    public static final int VARIABLE = 2;
+    public static final int NAMESPACES = 3;
+
+    private final HashMap<String, Integer> ids = new HashMap<>();
+    private final ArrayList<String> names = new ArrayList<>();
+
+    public int intern(String name) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = names.size();
+            ids.put(name, id);
+            names.add(name);
+        }
+        return id;
+    }
+    // the id is cached on the node, so each identifier is hashed at most once
+    public int resolve(Identifier identifier) {
+        if (identifier.getSymbolId() < 0)
+            identifier.setSymbolId(intern(identifier.getName()));
+        return identifier.getSymbolId();
+    }
+    public String nameOf(int id) {
+        return names.get(id);
+    }
+}
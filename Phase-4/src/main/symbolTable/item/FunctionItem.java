@@ -3,6 +3,7 @@ package main.symbolTable.item;
 import main.ast.nodes.declaration.FunctionDeclaration;
 import main.ast.type.Type;
 import main.symbolTable.SymbolTable;
+import main.symbolTable.Symbols;
 
 import java.util.ArrayList;
 
@@ -27,9 +28,10 @@ public class FunctionItem extends SymbolTableItem{
     public void setReturnType(Type returnType) {
         this.returnType = returnType;
     }
-    public FunctionItem(FunctionDeclaration functionDeclaration){
+    public FunctionItem(FunctionDeclaration functionDeclaration, int symbolId){
         this.functionDeclaration = functionDeclaration;
         this.name = this.functionDeclaration.getFunctionName().getName();
+        this.symbolId = symbolId;
     }
 
     public SymbolTable getFunctionSymbolTable() {
@@ -49,5 +51,7 @@ public class FunctionItem extends SymbolTableItem{
     }
     @Override
     public String getKey() {return START_KEY + this.name;}
+    @Override
+    public int getNamespace() {return Symbols.FUNCTION;}
 
 }
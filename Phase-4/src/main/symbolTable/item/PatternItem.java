@@ -3,6 +3,7 @@ package main.symbolTable.item;
 import main.ast.nodes.declaration.PatternDeclaration;
 import main.ast.type.Type;
 import main.symbolTable.SymbolTable;
+import main.symbolTable.Symbols;
 
 public class PatternItem extends SymbolTableItem{
     public static final String START_KEY = "Pattern:";
@@ -18,9 +19,10 @@ public class PatternItem extends SymbolTableItem{
         this.targetVarType = targetVarType;
     }
 
-    public PatternItem(PatternDeclaration patternDeclaration){
+    public PatternItem(PatternDeclaration patternDeclaration, int symbolId){
         this.patternDeclaration = patternDeclaration;
         this.name = this.patternDeclaration.getPatternName().getName();
+        this.symbolId = symbolId;
     }
 
     public SymbolTable getPatternSymbolTable() {
@@ -40,4 +42,6 @@ public class PatternItem extends SymbolTableItem{
     }
     @Override
     public String getKey(){return START_KEY + this.name;}
+    @Override
+    public int getNamespace(){return Symbols.PATTERN;}
 }
@@ -2,7 +2,13 @@ package main.symbolTable.item;
 
 public abstract class SymbolTableItem {
     protected String name;
+    protected int symbolId;
     public abstract String getKey();
+    public abstract int getNamespace();
+
+    public int getSymbolId() {
+        return symbolId;
+    }
 
     public String getName() {
         return name;
@@ -2,6 +2,7 @@ package main.symbolTable.item;
 
 import main.ast.nodes.expression.Identifier;
 import main.ast.type.Type;
+import main.symbolTable.Symbols;
 
 public class VarItem extends SymbolTableItem{
     public static String START_KEY = "VAR:";
@@ -15,11 +16,14 @@ public class VarItem extends SymbolTableItem{
         this.type = type;
     }
 
-    public VarItem(Identifier identifier){
+    public VarItem(Identifier identifier, int symbolId){
         this.name = identifier.getName();
+        this.symbolId = symbolId;
     }
 
 
     @Override
     public String getKey(){return START_KEY + this.name;}
+    @Override
+    public int getNamespace(){return Symbols.VARIABLE;}
 }
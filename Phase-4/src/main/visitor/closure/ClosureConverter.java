@@ -0,0 +1,101 @@
+package main.visitor.closure;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.declaration.PatternDeclaration;
+import main.ast.nodes.declaration.VarDeclaration;
+import main.ast.nodes.expression.Identifier;
+import main.ast.nodes.expression.LambdaExpression;
+import main.ast.nodes.statement.AssignStatement;
+import main.ast.nodes.statement.ForStatement;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+// runs before type checking and turns every lambda into a function of the program named lambda$<n>, which no
+// declared function can be named. The variables of the enclosing body that the lambda reads and that are
+// assigned before it become the new function's first parameters; the lambda keeps them as captures, and their
+// values are copied into the closure when the lambda is evaluated.
+public class ClosureConverter extends TreeWalker {
+    private final ArrayList<FunctionDeclaration> lambdaFunctions = new ArrayList<>();
+    // the variables of the body being walked that are assigned before the current point
+    private HashSet<String> defined = new HashSet<>();
+
+    @Override
+    public Void visit(Program program){
+        for (FunctionDeclaration functionDeclaration : program.getFunctionDeclarations())
+            functionDeclaration.accept(this);
+        for (PatternDeclaration patternDeclaration : program.getPatternDeclarations())
+            patternDeclaration.accept(this);
+        program.getMain().accept(this);
+        for (FunctionDeclaration lambdaFunction : lambdaFunctions)
+            program.addFunctionDeclaration(lambdaFunction);
+        return null;
+    }
+    @Override
+    public Void visit(FunctionDeclaration functionDeclaration){
+        defined = new HashSet<>();
+        for (VarDeclaration arg : functionDeclaration.getArgs())
+            defined.add(arg.getName().getName());
+        return super.visit(functionDeclaration);
+    }
+    @Override
+    public Void visit(PatternDeclaration patternDeclaration){
+        defined = new HashSet<>();
+        defined.add(patternDeclaration.getTargetVariable().getName());
+        return super.visit(patternDeclaration);
+    }
+    @Override
+    public Void visit(MainDeclaration mainDeclaration){
+        defined = new HashSet<>();
+        return super.visit(mainDeclaration);
+    }
+    @Override
+    public Void visit(AssignStatement assignStatement){
+        super.visit(assignStatement);
+        if (!assignStatement.isAccessList())
+            defined.add(assignStatement.getAssignedId().getName());
+        return null;
+    }
+    @Override
+    public Void visit(ForStatement forStatement){
+        visitAll(forStatement.getRangeExpression().getRangeExpressions());
+        defined.add(forStatement.getIteratorId().getName());
+        visitAll(forStatement.getLoopBodyStmts());
+        return null;
+    }
+    @Override
+    public Void visit(LambdaExpression lambdaExpression){
+        ArrayList<Identifier> captures = new ArrayList<>();
+        ArrayList<VarDeclaration> args = new ArrayList<>();
+        for (String name : UsedNames.of(lambdaExpression)) {
+            if (!defined.contains(name))
+                continue;
+            captures.add(identifier(name, lambdaExpression.getLine()));
+            VarDeclaration arg = new VarDeclaration(identifier(name, lambdaExpression.getLine()));
+            arg.setLine(lambdaExpression.getLine());
+            args.add(arg);
+        }
+        args.addAll(lambdaExpression.getDeclarationArgs());
+
+        FunctionDeclaration function = new FunctionDeclaration();
+        function.setFunctionName(identifier("lambda$" + lambdaFunctions.size(), lambdaExpression.getLine()));
+        function.setLine(lambdaExpression.getLine());
+        function.setArgs(args);
+        function.setBody(lambdaExpression.getBody());
+        lambdaExpression.setFunction(function);
+        lambdaExpression.setCaptures(captures);
+        lambdaFunctions.add(function);
+        // lambdas nested in this one capture from its function
+        HashSet<String> enclosing = defined;
+        function.accept(this);
+        defined = enclosing;
+        return null;
+    }
+    private static Identifier identifier(String name, int line){
+        Identifier identifier = new Identifier(name);
+        identifier.setLine(line);
+        return identifier;
+    }
+}
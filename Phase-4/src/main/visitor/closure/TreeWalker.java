@@ -0,0 +1,138 @@
+package main.visitor.closure;
+
+import main.ast.nodes.Node;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.declaration.PatternDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.value.ListValue;
+import main.ast.nodes.statement.*;
+import main.visitor.Visitor;
+
+import java.util.ArrayList;
+
+// visits every statement and expression of a body in the order they run, so a pass only overrides the nodes it
+// looks at
+abstract class TreeWalker extends Visitor<Void> {
+    protected void visitAll(ArrayList<? extends Node> nodes){
+        for (Node node : nodes)
+            node.accept(this);
+    }
+
+    @Override
+    public Void visit(FunctionDeclaration functionDeclaration){
+        visitAll(functionDeclaration.getBody());
+        return null;
+    }
+    @Override
+    public Void visit(PatternDeclaration patternDeclaration){
+        visitAll(patternDeclaration.getConditions());
+        visitAll(patternDeclaration.getReturnExp());
+        return null;
+    }
+    @Override
+    public Void visit(MainDeclaration mainDeclaration){
+        visitAll(mainDeclaration.getBody());
+        return null;
+    }
+    @Override
+    public Void visit(AssignStatement assignStatement){
+        if (assignStatement.isAccessList()) {
+            assignStatement.getAssignedId().accept(this);
+            assignStatement.getAccessListExpression().accept(this);
+        }
+        else if (assignStatement.getAssignOperator() != AssignOperator.ASSIGN)
+            assignStatement.getAssignedId().accept(this);
+        return assignStatement.getAssignExpression().accept(this);
+    }
+    @Override
+    public Void visit(IfStatement ifStatement){
+        visitAll(ifStatement.getConditions());
+        visitAll(ifStatement.getThenBody());
+        visitAll(ifStatement.getElseBody());
+        return null;
+    }
+    @Override
+    public Void visit(LoopDoStatement loopDoStatement){
+        visitAll(loopDoStatement.getLoopBodyStmts());
+        return null;
+    }
+    @Override
+    public Void visit(ForStatement forStatement){
+        visitAll(forStatement.getRangeExpression().getRangeExpressions());
+        visitAll(forStatement.getLoopBodyStmts());
+        return null;
+    }
+    @Override
+    public Void visit(BreakStatement breakStatement){
+        visitAll(breakStatement.getConditions());
+        return null;
+    }
+    @Override
+    public Void visit(NextStatement nextStatement){
+        visitAll(nextStatement.getConditions());
+        return null;
+    }
+    @Override
+    public Void visit(PutStatement putStatement){
+        return putStatement.getExpression().accept(this);
+    }
+    @Override
+    public Void visit(ReturnStatement returnStatement){
+        if (returnStatement.hasRetExpression())
+            returnStatement.getReturnExp().accept(this);
+        return null;
+    }
+    @Override
+    public Void visit(ExpressionStatement expressionStatement){
+        return expressionStatement.getExpression().accept(this);
+    }
+    @Override
+    public Void visit(PushStatement pushStatement){
+        pushStatement.getInitial().accept(this);
+        return pushStatement.getToBeAdded().accept(this);
+    }
+    @Override
+    public Void visit(UnaryExpression unaryExpression){
+        return unaryExpression.getExpression().accept(this);
+    }
+    @Override
+    public Void visit(BinaryExpression binaryExpression){
+        binaryExpression.getFirstOperand().accept(this);
+        return binaryExpression.getSecondOperand().accept(this);
+    }
+    @Override
+    public Void visit(AccessExpression accessExpression){
+        accessExpression.getAccessedExpression().accept(this);
+        visitAll(accessExpression.getArguments());
+        visitAll(accessExpression.getDimentionalAccess());
+        return null;
+    }
+    @Override
+    public Void visit(AppendExpression appendExpression){
+        appendExpression.getAppendee().accept(this);
+        visitAll(appendExpression.getAppendeds());
+        return null;
+    }
+    @Override
+    public Void visit(LenStatement lenStatement){
+        return lenStatement.getExpression().accept(this);
+    }
+    @Override
+    public Void visit(ChopStatement chopStatement){
+        return chopStatement.getChopExpression().accept(this);
+    }
+    @Override
+    public Void visit(ChompStatement chompStatement){
+        return chompStatement.getChompExpression().accept(this);
+    }
+    @Override
+    public Void visit(MatchPatternStatement matchPatternStatement){
+        return matchPatternStatement.getMatchArgument().accept(this);
+    }
+    @Override
+    public Void visit(ListValue listValue){
+        visitAll(listValue.getElements());
+        return null;
+    }
+}
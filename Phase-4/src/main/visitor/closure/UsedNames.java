@@ -0,0 +1,34 @@
+package main.visitor.closure;
+
+import main.ast.nodes.declaration.VarDeclaration;
+import main.ast.nodes.expression.Identifier;
+import main.ast.nodes.expression.LambdaExpression;
+
+import java.util.LinkedHashSet;
+
+// collects, in order of first use, the names a lambda body reads that are not its own parameters, including
+// the ones lambdas nested in it read
+class UsedNames extends TreeWalker {
+    private final LinkedHashSet<String> names = new LinkedHashSet<>();
+
+    static LinkedHashSet<String> of(LambdaExpression lambdaExpression){
+        UsedNames usedNames = new UsedNames();
+        lambdaExpression.accept(usedNames);
+        return usedNames.names;
+    }
+
+    @Override
+    public Void visit(Identifier identifier){
+        names.add(identifier.getName());
+        return null;
+    }
+    @Override
+    public Void visit(LambdaExpression lambdaExpression){
+        UsedNames body = new UsedNames();
+        body.visitAll(lambdaExpression.getBody());
+        for (VarDeclaration arg : lambdaExpression.getDeclarationArgs())
+            body.names.remove(arg.getName().getName());
+        names.addAll(body.names);
+        return null;
+    }
+}
@@ -0,0 +1,210 @@
+package main.visitor.codeGenerator;
+
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.declaration.PatternDeclaration;
+import main.ast.nodes.declaration.VarDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.value.ListValue;
+import main.ast.nodes.statement.*;
+import main.ast.type.Type;
+import main.ast.type.primitiveType.BoolType;
+import main.ast.type.primitiveType.IntType;
+import main.symbolTable.item.PatternItem;
+import main.visitor.Visitor;
+import main.visitor.type.Closure;
+import main.visitor.type.Specialization;
+import main.visitor.type.TypeTable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+// annotates every identifier of one method body with its local slot and category, walking the tree in the
+// same order as CodeGenerator so slots are numbered by first use. A function body is shared by all of its
+// specializations, so a method is bound right before it is generated rather than once for the whole program.
+public class Binder extends Visitor<Void> {
+    private final TypeTable types;
+    private String context;
+    private final HashMap<String, Integer> slots = new HashMap<>();
+
+    public Binder(TypeTable types){
+        this.types = types;
+    }
+
+    public void bind(Specialization specialization){
+        FunctionDeclaration functionDeclaration = specialization.getFunctionDeclaration();
+        context = specialization.getKey();
+        slots.clear();
+        ArrayList<VarDeclaration> args = functionDeclaration.getArgs();
+        for (int i = 0; i < args.size(); i++)
+            args.get(i).getName().bind(slotOf(args.get(i).getName().getName()),
+                    categoryOf(specialization.getArgumentTypes().get(i)));
+        for (Statement statement : functionDeclaration.getBody())
+            statement.accept(this);
+    }
+    public void bind(PatternDeclaration patternDeclaration, String methodName){
+        context = PatternItem.START_KEY + methodName;
+        slots.clear();
+        Identifier targetVariable = patternDeclaration.getTargetVariable();
+        bindIdentifier(targetVariable, categoryOf(types.get(context, targetVariable)));
+        for (Expression condition : patternDeclaration.getConditions())
+            condition.accept(this);
+        for (Expression returned : patternDeclaration.getReturnExp())
+            returned.accept(this);
+    }
+    public void bind(MainDeclaration mainDeclaration){
+        context = TypeTable.MAIN_CONTEXT;
+        slots.clear();
+        for (Statement statement : mainDeclaration.getBody())
+            statement.accept(this);
+    }
+    public int getLocalCount(){
+        return slots.size();
+    }
+
+    private int slotOf(String var){
+        Integer slot = slots.get(var);
+        if (slot == null) {
+            slot = slots.size();
+            slots.put(var, slot);
+        }
+        return slot;
+    }
+    // a slot no identifier can name, for values the generated code keeps on the side
+    private int tempSlot(){
+        return slotOf("$temp" + slots.size());
+    }
+    private static LocalCategory categoryOf(Type type){
+        return type instanceof IntType || type instanceof BoolType ? LocalCategory.INT : LocalCategory.REFERENCE;
+    }
+    private void bindIdentifier(Identifier identifier, LocalCategory category){
+        identifier.bind(slotOf(identifier.getName()), category);
+    }
+
+    @Override
+    public Void visit(AccessExpression accessExpression){
+        if (accessExpression.isFunctionCall()) {
+            Closure closure = types.getCalledClosure(context, accessExpression);
+            if (closure != null && closure.isCapturing())
+                accessExpression.getAccessedExpression().accept(this);
+            for (Expression arg : accessExpression.getArguments())
+                arg.accept(this);
+            ArrayList<VarDeclaration> args = types.getCallTarget(context, accessExpression)
+                    .getFunctionDeclaration().getArgs();
+            int passed = accessExpression.getArguments().size() +
+                    (closure == null ? 0 : closure.getCaptureTypes().size());
+            for (int i = passed; i < args.size(); i++)
+                args.get(i).getDefaultVal().accept(this);
+        }
+        else {
+            accessExpression.getAccessedExpression().accept(this);
+            for (Expression expression : accessExpression.getDimentionalAccess())
+                expression.accept(this);
+        }
+        return null;
+    }
+    @Override
+    public Void visit(AssignStatement assignStatement){
+        Identifier assignedId = assignStatement.getAssignedId();
+        if (assignStatement.isAccessList()) {
+            assignedId.accept(this);
+            assignStatement.getAccessListExpression().accept(this);
+            assignStatement.getAssignExpression().accept(this);
+        }
+        else if (assignStatement.getAssignOperator() == AssignOperator.ASSIGN) {
+            assignStatement.getAssignExpression().accept(this);
+            bindIdentifier(assignedId, categoryOf(types.get(context, assignStatement.getAssignExpression())));
+        }
+        else {
+            bindIdentifier(assignedId, LocalCategory.INT);
+            assignStatement.getAssignExpression().accept(this);
+        }
+        return null;
+    }
+    @Override
+    public Void visit(IfStatement ifStatement){
+        for (Expression condition : ifStatement.getConditions())
+            condition.accept(this);
+        for (Statement statement : ifStatement.getThenBody())
+            statement.accept(this);
+        for (Statement statement : ifStatement.getElseBody())
+            statement.accept(this);
+        return null;
+    }
+    @Override
+    public Void visit(PutStatement putStatement){
+        return putStatement.getExpression().accept(this);
+    }
+    @Override
+    public Void visit(ReturnStatement returnStatement){
+        if (returnStatement.hasRetExpression())
+            returnStatement.getReturnExp().accept(this);
+        return null;
+    }
+    @Override
+    public Void visit(ExpressionStatement expressionStatement){
+        return expressionStatement.getExpression().accept(this);
+    }
+    @Override
+    public Void visit(BinaryExpression binaryExpression){
+        binaryExpression.getFirstOperand().accept(this);
+        binaryExpression.getSecondOperand().accept(this);
+        return null;
+    }
+    @Override
+    public Void visit(UnaryExpression unaryExpression){
+        return unaryExpression.getExpression().accept(this);
+    }
+    @Override
+    public Void visit(Identifier identifier){
+        bindIdentifier(identifier, categoryOf(types.get(context, identifier)));
+        return null;
+    }
+    @Override
+    public Void visit(ForStatement forStatement){
+        RangeExpression rangeExpression = forStatement.getRangeExpression();
+        for (Expression expression : rangeExpression.getRangeExpressions())
+            expression.accept(this);
+        forStatement.setTempSlots(tempSlot(), tempSlot(), tempSlot());
+        ArrayList<Integer> elementSlots = new ArrayList<>();
+        if (rangeExpression.getRangeType() == RangeType.LIST &&
+                rangeExpression.getRangeExpressions().size() <= CodeGenerator.UNROLL_LIMIT)
+            for (int i = 0; i < rangeExpression.getRangeExpressions().size(); i++)
+                elementSlots.add(tempSlot());
+        forStatement.setElementSlots(elementSlots);
+        bindIdentifier(forStatement.getIteratorId(), categoryOf(types.get(context, rangeExpression)));
+        for (Statement statement : forStatement.getLoopBodyStmts())
+            statement.accept(this);
+        return null;
+    }
+    @Override
+    public Void visit(LoopDoStatement loopDoStatement){
+        for (Statement statement : loopDoStatement.getLoopBodyStmts())
+            statement.accept(this);
+        return null;
+    }
+    @Override
+    public Void visit(LenStatement lenStatement){
+        return lenStatement.getExpression().accept(this);
+    }
+    @Override
+    public Void visit(ChopStatement chopStatement){
+        return chopStatement.getChopExpression().accept(this);
+    }
+    @Override
+    public Void visit(MatchPatternStatement matchPatternStatement){
+        return matchPatternStatement.getMatchArgument().accept(this);
+    }
+    @Override
+    public Void visit(LambdaExpression lambdaExpression){
+        for (Identifier capture : lambdaExpression.getCaptures())
+            capture.accept(this);
+        return null;
+    }
+    @Override
+    public Void visit(ListValue listValue){
+        for (Expression element : listValue.getElements())
+            element.accept(this);
+        return null;
+    }
+}
@@ -0,0 +1,10 @@
+package main.visitor.codeGenerator;
+
+import java.io.IOException;
+
+public interface ClassEmitter {
+    void addField(String access, String name, String descriptor);
+    InstructionSink beginMethod(String access, String name, String descriptor);
+    void endMethod();
+    void writeTo(String outputPath) throws IOException;
+}
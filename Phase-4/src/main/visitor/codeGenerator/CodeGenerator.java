@@ -3,6 +3,7 @@ package main.visitor.codeGenerator;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.FunctionDeclaration;
 import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.declaration.PatternDeclaration;
 import main.ast.nodes.declaration.VarDeclaration;
 import main.ast.nodes.expression.*;
 import main.ast.nodes.expression.operators.BinaryOperator;
@@ -20,47 +21,59 @@ import main.ast.type.Type;
 import main.ast.type.primitiveType.BoolType;
 import main.ast.type.primitiveType.IntType;
 import main.ast.type.primitiveType.StringType;
-import main.symbolTable.SymbolTable;
-import main.symbolTable.exceptions.ItemAlreadyExists;
-import main.symbolTable.exceptions.ItemNotFound;
-import main.symbolTable.item.FunctionItem;
-import main.symbolTable.item.VarItem;
+import main.incremental.TreeHasher;
+import main.symbolTable.item.PatternItem;
 import main.visitor.Visitor;
+import main.visitor.codeGenerator.bytecode.ClassWriter;
+import main.visitor.type.Closure;
+import main.visitor.type.Specialization;
 import main.visitor.type.TypeChecker;
+import main.visitor.type.TypeTable;
 
 import java.io.*;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Set;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Stack;
+import java.util.TreeMap;
 
-public class CodeGenerator extends Visitor<String> {
+public class CodeGenerator extends Visitor<Void> {
     private final String outputPath;
-    private FileWriter mainFile;
-    private final TypeChecker typeChecker;
-    private final Set<String> visited;
-    private FunctionItem curFunction;
-    private final HashMap<String, Integer> slots = new HashMap<>();
+    private final ClassEmitter mainClass;
+    private InstructionSink code;
+    private final TypeTable types;
+    private Specialization curSpecialization;
+    private String context;
+    private final Binder binder;
     private int curLabel = 0;
+    static final int UNROLL_LIMIT = 8;
+    // the calls of the current function to itself that end it, and the label they jump back to
+    private HashSet<AccessExpression> selfTailCalls = new HashSet<>();
+    private String functionStartLabel;
+    // lambdas that capture nothing evaluate to one Fptr each, kept in a static field of Main named after them
+    private final LinkedHashSet<String> lambdaSingletons = new LinkedHashSet<>();
 
     private Stack<String> startLoopLabels;
     private Stack<String> endLoopLabels;
 
     public CodeGenerator(TypeChecker typeChecker){
-        this.typeChecker = typeChecker;
-        this.visited = typeChecker.visited;
-        outputPath = "./codeGenOutput/";
+        this(typeChecker, false);
+    }
+    public CodeGenerator(TypeChecker typeChecker, boolean emitBytecode){
+        this(typeChecker, "./codeGenOutput/", emitBytecode);
+    }
+    public CodeGenerator(TypeChecker typeChecker, String outputPath, boolean emitBytecode){
+        this.types = typeChecker.types;
+        this.binder = new Binder(types);
+        this.outputPath = outputPath;
         prepareOutputFolder();
+        mainClass = emitBytecode ? new ClassWriter("Main", "java/lang/Object") :
+                new JasminWriter("Main", "java/lang/Object");
         startLoopLabels = new Stack<>();
         endLoopLabels = new Stack<>();
     }
-    private int slotOf(String var) {
-        if (!slots.containsKey(var)) {
-            slots.put(var, slots.size());
-            return slots.size() - 1;
-        }
-        return slots.get(var);
-    }
     public String getFreshLabel(){
         String fresh = "Label_" + curLabel;
         curLabel++;
@@ -78,7 +91,7 @@ public class CodeGenerator extends Visitor<String> {
                 }
             }
             case FptrType fptrType -> type += "LFptr;";
-            case ListType listType -> type += "Ljava/util/ArrayList;";
+            case ListType listType -> type += "L" + listClass(listType) + ";";
             case BoolType boolType -> {
                 if (wantSignature) {
                     type += "Z";
@@ -92,20 +105,41 @@ public class CodeGenerator extends Visitor<String> {
         }
         return type;
     }
+    public String getDescriptor(Specialization specialization){
+        StringBuilder descriptor = new StringBuilder("(");
+        for (Type argType : specialization.getArgumentTypes())
+            descriptor.append(getType(argType, true));
+        return descriptor.append(")").append(getType(specialization.getReturnType(), true)).toString();
+    }
     public String getClass(Type element){
         String className = "";
         switch (element){
             case StringType stringType -> className += "java/lang/String";
             case IntType intType -> className += "java/lang/Integer";
             case BoolType boolType -> className += "java/lang/Boolean";
+            case ListType listType -> className += listClass(listType);
+            case FptrType fptrType -> className += "Fptr";
             case null -> className += "java/lang/Object";
             default -> {}
         }
         return className;
     }
+    // lists of ints and bools are kept unboxed in IntList and BoolList, every other list is a List of objects
+    public String listClass(ListType listType){
+        return switch (listType.getType()) {
+            case IntType intType -> "IntList";
+            case BoolType boolType -> "BoolList";
+            case null, default -> "List";
+        };
+    }
+    private String elementDescriptor(ListType listType){
+        return listClass(listType).equals("List") ? "Ljava/lang/Object;" : getType(listType.getType(), true);
+    }
     private void prepareOutputFolder(){
         String jasminPath = "utilities/jarFiles/jasmin.jar";
         String listClassPath = "utilities/codeGenerationUtilityClasses/List.j";
+        String intListClassPath = "utilities/codeGenerationUtilityClasses/IntList.j";
+        String boolListClassPath = "utilities/codeGenerationUtilityClasses/BoolList.j";
         String fptrClassPath = "utilities/codeGenerationUtilityClasses/Fptr.j";
         try{
             File directory = new File(this.outputPath);
@@ -113,23 +147,16 @@ public class CodeGenerator extends Visitor<String> {
             if(files != null)
                 for (File file : files)
                     file.delete();
-            directory.mkdir();
+            directory.mkdirs();
         }
         catch(SecurityException e){
             // ignore
         }
         copyFile(jasminPath, this.outputPath + "jasmin.jar");
         copyFile(listClassPath, this.outputPath + "List.j");
+        copyFile(intListClassPath, this.outputPath + "IntList.j");
+        copyFile(boolListClassPath, this.outputPath + "BoolList.j");
         copyFile(fptrClassPath, this.outputPath + "Fptr.j");
-
-        try {
-            String path = outputPath + "Main.j";
-            File file = new File(path);
-            file.createNewFile();
-            mainFile = new FileWriter(path);
-        } catch (IOException e){
-            // ignore
-        }
     }
     private void copyFile(String toBeCopied, String toBePasted){
         try {
@@ -147,457 +174,757 @@ public class CodeGenerator extends Visitor<String> {
             // ignore
         }
     }
-    private void addCommand(String command){
-        try {
-            command = String.join("\n\t\t", command.split("\n"));
-            if(command.startsWith("Label_"))
-                mainFile.write("\t" + command + "\n");
-            else if(command.startsWith("."))
-                mainFile.write(command + "\n");
-            else
-                mainFile.write("\t\t" + command + "\n");
-            mainFile.flush();
-        } catch (IOException e){
-            // ignore
-        }
+    private Type typeOf(Expression expression){
+        return types.get(context, expression);
+    }
+    private void emit(String opcode){
+        code.instruction(opcode, null);
+    }
+    private void emit(String opcode, Object operand){
+        code.instruction(opcode, String.valueOf(operand));
+    }
+    private void emitLabel(String label){
+        code.label(label);
     }
     private void handleMainClass(){
-        String commands = """
-                .method public static main([Ljava/lang/String;)V
-                .limit stack 128
-                .limit locals 128
-                new Main
-                invokespecial Main/<init>()V
-                return
-                .end method
-                """;
-        addCommand(commands);
+        code = mainClass.beginMethod("public static", "main", "([Ljava/lang/String;)V");
+        emit("new", "Main");
+        emit("invokespecial", "Main/<init>()V");
+        emit("return");
+        mainClass.endMethod();
     }
 
     @Override
-    public String visit(Program program){
-        String commands = """
-                .class public Main
-                .super java/lang/Object
-                """;
-        addCommand(commands);
+    public Void visit(Program program){
         handleMainClass();
 
-        for(String funcName : this.visited) {
-            try {
-                this.curFunction = (FunctionItem) SymbolTable.root.getItem(FunctionItem.START_KEY +
-                        funcName);
-                this.curFunction.getFunctionDeclaration().accept(this);
-            } catch(ItemNotFound ignored) {}
+        for(Specialization specialization : types.getSpecializations()) {
+            this.curSpecialization = specialization;
+            this.context = specialization.getKey();
+            if(specialization.getBody() != null) {
+                InstructionRecorder.replay(specialization.getBody(), mainClass.beginMethod("public static",
+                        specialization.getMethodName(), getDescriptor(specialization)));
+                mainClass.endMethod();
+            }
+            else
+                specialization.getFunctionDeclaration().accept(this);
+        }
+        for(Map.Entry<String, PatternDeclaration> pattern : types.getPatterns().entrySet()) {
+            this.context = PatternItem.START_KEY + pattern.getKey();
+            emitPattern(pattern.getValue(), pattern.getKey());
         }
 
+        this.context = TypeTable.MAIN_CONTEXT;
         program.getMain().accept(this);
+        emitLambdaSingletons();
+        try {
+            mainClass.writeTo(outputPath);
+        } catch (IOException e){
+            e.printStackTrace();
+        }
         return null;
     }
     @Override
-    public String visit(FunctionDeclaration functionDeclaration){
-        slots.clear();
-        SymbolTable.push(new SymbolTable());
-        String commands = "";
-        String argsSignature = "("; // TODO and add to the slots
-        for (int i=0; i<this.curFunction.getArgumentTypes().size(); i++) {
-            Type argType = this.curFunction.getArgumentTypes().get(i);
-            argsSignature += getType(argType, true);
-            slotOf(functionDeclaration.getArgs().get(i).getName().getName());
-            VarItem newVarItem = new VarItem(functionDeclaration.getArgs().get(i).getName());
-            newVarItem.setType(argType);
-            try {
-                SymbolTable.top.put(newVarItem);
-            }catch (ItemAlreadyExists ignored){
-                try {
-                    newVarItem = (VarItem) SymbolTable.top.getItem(VarItem.START_KEY + newVarItem.getName());
-                    newVarItem.setType(argType);
-                } catch (ItemNotFound ignored1) {}
-            }
+    public Void visit(FunctionDeclaration functionDeclaration){
+        binder.bind(curSpecialization);
+        InstructionRecorder recorder = new InstructionRecorder();
+        code = recorder;
+        selfTailCalls = new HashSet<>();
+        for (AccessExpression call : TailCalls.of(functionDeclaration.getBody()))
+            if (types.getCallTarget(context, call) == curSpecialization && !isCapturingCall(call))
+                selfTailCalls.add(call);
+        if (!selfTailCalls.isEmpty()) {
+            functionStartLabel = getFreshLabel();
+            emitLabel(functionStartLabel);
         }
-        argsSignature += ")";
-        String returnType = getType(this.curFunction.getReturnType(),true); // TODO
-
-        commands += ".method public static " + functionDeclaration.getFunctionName().getName();
-        commands += argsSignature + returnType + "\n";
-        // TODO headers, body and return with corresponding type
-        commands += ".limit stack 128\n";
-        commands += ".limit locals 128\n";
         for (Statement statement : functionDeclaration.getBody()) {
-            commands += statement.accept(this);
+            statement.accept(this);
         }
-        commands += "return\n";
-        commands += ".end method\n";
-        addCommand(commands);
-        SymbolTable.pop();
+        emit("return");
+        ArrayList<String[]> body = MethodAnalysis.allocateLocals(recorder.getInstructions(),
+                functionDeclaration.getArgs().size(), false);
+        InstructionRecorder.replay(body, mainClass.beginMethod("public static",
+                curSpecialization.getMethodName(), getDescriptor(curSpecialization)));
+        mainClass.endMethod();
+        curSpecialization.setBody(body);
         return null;
     }
     @Override
-    public String visit(MainDeclaration mainDeclaration){
-        slots.clear();
+    public Void visit(MainDeclaration mainDeclaration){
+        binder.bind(mainDeclaration);
+        selfTailCalls = new HashSet<>();
 
-        String commands = "";
-        commands += ".method public <init>()V\n";
-        commands += ".limit stack 128\n";
-        commands += ".limit locals 128\n";
-        commands += "aload_0\n";
-        commands += "invokespecial java/lang/Object/<init>()V\n";
+        InstructionRecorder recorder = new InstructionRecorder();
+        code = recorder;
+        emit("aload_0");
+        emit("invokespecial", "java/lang/Object/<init>()V");
         for (var statement : mainDeclaration.getBody())
-            commands += statement.accept(this);
-        commands += "return\n";
-        commands += ".end method\n";
-
-        addCommand(commands);
+            statement.accept(this);
+        emit("return");
+        InstructionRecorder.replay(MethodAnalysis.allocateLocals(recorder.getInstructions(), 0, true),
+                mainClass.beginMethod("public", "<init>", "()V"));
+        mainClass.endMethod();
         return null;
     }
-    public String visit(AccessExpression accessExpression){
-        String commands= "";
-        if (accessExpression.isFunctionCall()) {
-            Identifier funcId = (Identifier)accessExpression.getAccessedExpression();
-            Type idType = funcId.accept(typeChecker);
-            String functionName = (idType instanceof FptrType fptrType) ? fptrType.getFunctionName() :
-                    funcId.getName();
-            String argsSignature = "("; // TODO
-            for (Expression arg : accessExpression.getArguments()) {
-                argsSignature += getType(arg.accept(typeChecker), true);
-                commands += arg.accept(this);
+    // a pattern becomes one method per type it is matched against, taking the target and returning the value of
+    // the first case whose conditions hold
+    private void emitPattern(PatternDeclaration patternDeclaration, String methodName){
+        binder.bind(patternDeclaration, methodName);
+        InstructionRecorder recorder = new InstructionRecorder();
+        code = recorder;
+        selfTailCalls = new HashSet<>();
+        ArrayList<PatternCase> cases = new ArrayList<>();
+        for (int i = 0; i < patternDeclaration.getReturnExp().size(); i++)
+            cases.add(new PatternCase(patternDeclaration.getCaseConditions(i), patternDeclaration.getReturnExp().get(i)));
+        if (!emitCases(patternDeclaration.getTargetVariable(), cases)) {
+            emit("new", "java/lang/RuntimeException");
+            emit("dup");
+            emit("ldc", "\"no case of pattern " + patternDeclaration.getPatternName().getName() + " matches\"");
+            emit("invokespecial", "java/lang/RuntimeException/<init>(Ljava/lang/String;)V");
+            emit("athrow");
+        }
+        String descriptor = "(" + getType(typeOf(patternDeclaration.getTargetVariable()), true) + ")" +
+                getType(typeOf(patternDeclaration.getReturnExp().getFirst()), true);
+        InstructionRecorder.replay(MethodAnalysis.allocateLocals(recorder.getInstructions(), 1, false),
+                mainClass.beginMethod("public static", methodName, descriptor));
+        mainClass.endMethod();
+    }
+    // the cases are tried in order as a decision tree: a run of cases that each compare an int target with a
+    // different literal is one switch, and consecutive cases that start with the same condition evaluate it once.
+    // Returns whether a case without conditions always matches at the end.
+    private boolean emitCases(Identifier target, List<PatternCase> cases){
+        int i = 0;
+        while (i < cases.size()) {
+            PatternCase first = cases.get(i);
+            if (first.conditions.isEmpty()) {
+                emitCaseResult(first.result);
+                return true;
             }
-            FunctionItem functionItem = null;
-            try {
-                functionItem = (FunctionItem) SymbolTable.root.getItem(FunctionItem.START_KEY +
-                        functionName);
-            } catch(ItemNotFound ignored) {}
-            for (int i= accessExpression.getArguments().size();i<functionItem.getArgumentTypes().size();i++) {
-                argsSignature += getType(functionItem.getArgumentTypes().get(i), true);
-                commands += functionItem.getFunctionDeclaration().getArgs().get(i).getDefaultVal().accept(this);
+            int end = i;
+            while (end < cases.size() && switchKey(target, cases.get(end)) != null)
+                end++;
+            if (end - i >= 2) {
+                emitSwitch(target, cases.subList(i, end));
+                i = end;
+                continue;
+            }
+            Expression guard = first.conditions.getFirst();
+            ArrayList<PatternCase> guarded = new ArrayList<>();
+            guarded.add(first.withoutFirstCondition());
+            end = i + 1;
+            if (isRepeatable(guard)) {
+                String hash = TreeHasher.hash(guard);
+                while (end < cases.size() && !cases.get(end).conditions.isEmpty() &&
+                        TreeHasher.hash(cases.get(end).conditions.getFirst()).equals(hash))
+                    guarded.add(cases.get(end++).withoutFirstCondition());
+            }
+            String nextLabel = getFreshLabel();
+            guard.accept(this);
+            emit("ifeq", nextLabel);
+            emitCases(target, guarded);
+            emitLabel(nextLabel);
+            i = end;
+        }
+        return false;
+    }
+    private void emitCaseResult(Expression result){
+        Type type = typeOf(result);
+        emitValue(result);
+        emit(type instanceof IntType || type instanceof BoolType ? "ireturn" : "areturn");
+    }
+    // the literal a case that only compares an int target with one is keyed on
+    private Integer switchKey(Identifier target, PatternCase patternCase){
+        if (!(typeOf(target) instanceof IntType) || patternCase.conditions.size() != 1 ||
+                !(patternCase.conditions.getFirst() instanceof BinaryExpression condition) ||
+                condition.getOperator() != BinaryOperator.EQUAL)
+            return null;
+        if (isTarget(target, condition.getFirstOperand()))
+            return intLiteral(condition.getSecondOperand());
+        if (isTarget(target, condition.getSecondOperand()))
+            return intLiteral(condition.getFirstOperand());
+        return null;
+    }
+    private static boolean isTarget(Identifier target, Expression expression){
+        return expression instanceof Identifier identifier && identifier.getName().equals(target.getName());
+    }
+    private static Integer intLiteral(Expression expression){
+        if (expression instanceof IntValue intValue)
+            return intValue.getIntVal();
+        if (expression instanceof UnaryExpression unary && unary.getOperator() == UnaryOperator.MINUS &&
+                unary.getExpression() instanceof IntValue intValue)
+            return -intValue.getIntVal();
+        return null;
+    }
+    // picks a tableswitch or a lookupswitch the way javac does, weighing code size against three times the time
+    private void emitSwitch(Identifier target, List<PatternCase> cases){
+        TreeMap<Integer, String> keyLabels = new TreeMap<>();
+        ArrayList<PatternCase> keyed = new ArrayList<>();
+        for (PatternCase patternCase : cases) {
+            // a later case with the same literal can never be reached
+            Integer key = switchKey(target, patternCase);
+            if (!keyLabels.containsKey(key)) {
+                keyLabels.put(key, getFreshLabel());
+                keyed.add(patternCase);
             }
-            argsSignature += ")";
-            String returnType = getType(accessExpression.accept(typeChecker),true); // TODO
-            commands += "invokestatic Main/" + functionName + argsSignature + returnType + "\n";
+        }
+        String defaultLabel = getFreshLabel();
+        long low = keyLabels.firstKey(), high = keyLabels.lastKey(), count = keyLabels.size();
+        StringBuilder operand = new StringBuilder();
+        if (4 + (high - low + 1) + 3 * 3 <= 3 + 2 * count + 3 * count) {
+            operand.append(low).append(" ").append(high);
+            for (long key = low; key <= high; key++)
+                operand.append("\n\t\t\t").append(keyLabels.getOrDefault((int) key, defaultLabel));
+            target.accept(this);
+            emit("tableswitch", operand.append("\n\t\t\tdefault : ").append(defaultLabel));
         }
         else {
-            // TODO
-            commands += (accessExpression.getAccessedExpression().accept(this));
-            for (Expression expression : accessExpression.getDimentionalAccess()){
-                commands += (expression.accept(this));
+            for (Map.Entry<Integer, String> keyLabel : keyLabels.entrySet())
+                operand.append("\n\t\t\t").append(keyLabel.getKey()).append(" : ").append(keyLabel.getValue());
+            target.accept(this);
+            emit("lookupswitch", operand.append("\n\t\t\tdefault : ").append(defaultLabel));
+        }
+        for (PatternCase patternCase : keyed) {
+            emitLabel(keyLabels.get(switchKey(target, patternCase)));
+            emitCaseResult(patternCase.result);
+        }
+        emitLabel(defaultLabel);
+    }
+    // whether evaluating a condition again gives the same result without doing anything else
+    private static boolean isRepeatable(Expression expression){
+        return switch (expression) {
+            case Identifier identifier -> true;
+            case IntValue intValue -> true;
+            case BoolValue boolValue -> true;
+            case StringValue stringValue -> true;
+            case BinaryExpression binary -> isRepeatable(binary.getFirstOperand()) &&
+                    isRepeatable(binary.getSecondOperand());
+            case UnaryExpression unary -> unary.getOperator() != UnaryOperator.INC &&
+                    unary.getOperator() != UnaryOperator.DEC && isRepeatable(unary.getExpression());
+            case LenStatement lenStatement -> isRepeatable(lenStatement.getExpression());
+            default -> false;
+        };
+    }
+    public Void visit(AccessExpression accessExpression){
+        if (accessExpression.isFunctionCall()) {
+            Specialization target = types.getCallTarget(context, accessExpression);
+            int passed = accessExpression.getArguments().size();
+            if (isCapturingCall(accessExpression)) {
+                Closure closure = types.getCalledClosure(context, accessExpression);
+                accessExpression.getAccessedExpression().accept(this);
+                emitCaptures(closure);
+                passed += closure.getCaptureTypes().size();
             }
-            ListType type = (ListType)accessExpression.getAccessedExpression().accept(typeChecker);
-            commands += ("invokevirtual java/util/ArrayList/get(I)Ljava/lang/Object;\n");
-            commands += ("checkcast " + getClass(type.getType()) + "\n");
-            if (type.getType() instanceof IntType)
-                commands += "invokevirtual java/lang/Integer/intValue()I\n";
-            else if (type.getType() instanceof BoolType){
-                commands += "invokevirtual java/lang/Boolean/booleanValue()Z\n";
+            for (Expression arg : accessExpression.getArguments())
+                emitValue(arg);
+            ArrayList<VarDeclaration> args = target.getFunctionDeclaration().getArgs();
+            for (int i = passed; i < args.size(); i++)
+                args.get(i).getDefaultVal().accept(this);
+            emit("invokestatic", "Main/" + target.getMethodName() + getDescriptor(target));
+        }
+        else {
+            accessExpression.getAccessedExpression().accept(this);
+            Type type = typeOf(accessExpression.getAccessedExpression());
+            for (Expression expression : accessExpression.getDimentionalAccess()){
+                ListType listType = (ListType)type;
+                expression.accept(this);
+                emitGetElement(listType);
+                type = listType.getType();
             }
         }
         //TODO
-        return commands;
+        return null;
+    }
+    private boolean isCapturingCall(AccessExpression call){
+        Closure closure = types.getCalledClosure(context, call);
+        return closure != null && closure.isCapturing();
+    }
+    // a closure keeps the values it captured boxed in an array; they are unpacked onto the stack in order, ahead of
+    // the arguments, since its function takes them first
+    private void emitCaptures(Closure closure){
+        emit("getfield", "Fptr/environment [Ljava/lang/Object;");
+        for (int i = 0; i < closure.getCaptureTypes().size(); i++) {
+            emit("dup");
+            emit("ldc", i);
+            emit("aaload");
+            emitUnbox(closure.getCaptureTypes().get(i));
+            emit("swap");
+        }
+        emit("pop");
+    }
+    private void emitBox(Type type){
+        if (type instanceof IntType)
+            emit("invokestatic", "java/lang/Integer/valueOf(I)Ljava/lang/Integer;");
+        else if (type instanceof BoolType)
+            emit("invokestatic", "java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;");
+    }
+    private void emitUnbox(Type type){
+        emit("checkcast", getClass(type));
+        if (type instanceof IntType)
+            emit("invokevirtual", "java/lang/Integer/intValue()I");
+        else if (type instanceof BoolType)
+            emit("invokevirtual", "java/lang/Boolean/booleanValue()Z");
+    }
+    private void emitLambdaSingletons(){
+        if (lambdaSingletons.isEmpty())
+            return;
+        code = mainClass.beginMethod("static", "<clinit>", "()V");
+        for (String name : lambdaSingletons) {
+            mainClass.addField("public static", name, "LFptr;");
+            emit("new", "Fptr");
+            emit("dup");
+            emit("ldc", "\"Main\"");
+            emit("ldc", "\"" + name + "\"");
+            emit("invokespecial", "Fptr/<init>(Ljava/lang/String;Ljava/lang/String;)V");
+            emit("putstatic", "Main/" + name + " LFptr;");
+        }
+        emit("return");
+        mainClass.endMethod();
+    }
+    // a function that calls itself as its last action reuses its frame instead: the arguments are evaluated as
+    // for a call, stored over the parameters, and the body starts over
+    private void emitSelfTailCall(AccessExpression call){
+        ArrayList<VarDeclaration> args = curSpecialization.getFunctionDeclaration().getArgs();
+        for (Expression arg : call.getArguments())
+            emitValue(arg);
+        for (int i = call.getArguments().size(); i < args.size(); i++)
+            args.get(i).getDefaultVal().accept(this);
+        for (int i = args.size() - 1; i >= 0; i--) {
+            Identifier parameter = args.get(i).getName();
+            emit(parameter.getCategory().getStoreOpcode(), parameter.getSlot());
+        }
+        emit("goto", functionStartLabel);
+    }
+    // lists are values: one that is read out of a variable or another list is copied before it is stored or
+    // passed on, which is cheap because the copy shares its structure until either side is written
+    private void emitValue(Expression expression){
+        expression.accept(this);
+        boolean named = expression instanceof Identifier ||
+                (expression instanceof AccessExpression access && !access.isFunctionCall());
+        if (named && typeOf(expression) instanceof ListType listType)
+            emitCopy(listType);
+    }
+    private void emitCopy(ListType listType){
+        String listClass = listClass(listType);
+        emit("invokestatic", listClass + "/copy(L" + listClass + ";)L" + listClass + ";");
+    }
+    private void emitGetElement(ListType listType){
+        String listClass = listClass(listType);
+        emit("invokevirtual", listClass + "/getElement(I)" + elementDescriptor(listType));
+        if (listClass.equals("List"))
+            emit("checkcast", getClass(listType.getType()));
+    }
+    private void emitSetElement(ListType listType){
+        emit("invokevirtual", listClass(listType) + "/setElement(I" + elementDescriptor(listType) + ")V");
+    }
+    private void emitAssignOperator(AssignOperator assignOperator){
+        if(assignOperator == AssignOperator.PLUS_ASSIGN)
+            emit("iadd");
+        else if(assignOperator == AssignOperator.MINUS_ASSIGN)
+            emit("isub");
+        else if(assignOperator == AssignOperator.MULT_ASSIGN)
+            emit("imul");
+        else if(assignOperator == AssignOperator.DIVIDE_ASSIGN)
+            emit("idiv");
+        else if(assignOperator == AssignOperator.MOD_ASSIGN)
+            emit("irem");
     }
     @Override
-    public String visit(AssignStatement assignStatement){
+    public Void visit(AssignStatement assignStatement){
         //TODO
-        Type assignExpresionType = assignStatement.getAssignExpression().accept(typeChecker);
-        String commands="";
         AssignOperator assignOperator = assignStatement.getAssignOperator();
 
         if(assignStatement.isAccessList()){
-            commands += assignStatement.getAssignedId().accept(this);
-            commands += assignStatement.getAccessListExpression().accept(this);
+            ListType listType = (ListType)typeOf(assignStatement.getAssignedId());
+            assignStatement.getAssignedId().accept(this);
+            assignStatement.getAccessListExpression().accept(this);
             if(assignOperator == AssignOperator.ASSIGN){
-                commands += assignStatement.getAssignExpression().accept(this);
-                if(assignExpresionType instanceof IntType)
-                    commands += "invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;\n";
-                else if(assignExpresionType instanceof BoolType)
-                    commands += "invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;\n";
-                commands += "checkcast " + getClass(null) + "\n";
-                commands += "invokevirtual java/util/ArrayList/set(ILjava/lang/Object;)Ljava/lang/Object;\n";
+                assignStatement.getAssignExpression().accept(this);
+                emitSetElement(listType);
             }
             else{
-                commands += assignStatement.getAssignedId().accept(this);
-                commands += assignStatement.getAccessListExpression().accept(this);
-                commands += "invokevirtual java/util/ArrayList/get(I)Ljava/lang/Object;\n";
-                commands += "checkcast " + getClass(new IntType()) + "\n";
-                commands += "invokevirtual java/lang/Integer/intValue()I\n";
-                commands += assignStatement.getAssignExpression().accept(this);
-                if(assignOperator == AssignOperator.PLUS_ASSIGN)
-                    commands += "iadd\n";
-                else if(assignOperator == AssignOperator.MINUS_ASSIGN)
-                    commands += "isub\n";
-                else if(assignOperator == AssignOperator.MULT_ASSIGN)
-                    commands += "imul\n";
-                else if(assignOperator == AssignOperator.DIVIDE_ASSIGN)
-                    commands += "idiv\n";
-                else if(assignOperator == AssignOperator.MOD_ASSIGN)
-                    commands += "irem\n";
-                commands += "invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;\n";
-                commands += "checkcast " + getClass(null) + "\n";
-                commands += "invokevirtual java/util/ArrayList/set(ILjava/lang/Object;)Ljava/lang/Object;\n";
+                emit("dup2");
+                emitGetElement(listType);
+                assignStatement.getAssignExpression().accept(this);
+                emitAssignOperator(assignOperator);
+                emitSetElement(listType);
             }
         }
         else{
             if(assignOperator == AssignOperator.ASSIGN){
-                commands += assignStatement.getAssignExpression().accept(this);
-                VarItem varItem = new VarItem(assignStatement.getAssignedId());
-                varItem.setType(assignExpresionType);
-                try {
-                    SymbolTable.top.put(varItem);
-                } catch(ItemAlreadyExists ignored) {
-                    try {
-                        varItem = (VarItem) SymbolTable.top.getItem(VarItem.START_KEY + varItem.getName());
-                        varItem.setType(assignExpresionType);
-                    }
-                    catch (ItemNotFound ignored_) {}
-                }
-                if(assignExpresionType instanceof IntType || assignExpresionType instanceof BoolType)
-                    commands += "istore " + slotOf(assignStatement.getAssignedId().getName()) + "\n";
-                else
-                    commands += "astore " + slotOf(assignStatement.getAssignedId().getName()) + "\n";
+                Identifier assignedId = assignStatement.getAssignedId();
+                emitValue(assignStatement.getAssignExpression());
+                emit(assignedId.getCategory().getStoreOpcode(), assignedId.getSlot());
             }
             else {
-                commands += "iload " + slotOf(assignStatement.getAssignedId().getName()) + "\n";
-                commands += assignStatement.getAssignExpression().accept(this);
-                if(assignOperator == AssignOperator.PLUS_ASSIGN)
-                    commands += "iadd\n";
-                else if(assignOperator == AssignOperator.MINUS_ASSIGN)
-                    commands += "isub\n";
-                else if(assignOperator == AssignOperator.MULT_ASSIGN)
-                    commands += "imul\n";
-                else if(assignOperator == AssignOperator.DIVIDE_ASSIGN)
-                    commands += "idiv\n";
-                else if(assignOperator == AssignOperator.MOD_ASSIGN)
-                    commands += "irem\n";
-                commands += "istore " + slotOf(assignStatement.getAssignedId().getName()) + "\n";
+                emit("iload", assignStatement.getAssignedId().getSlot());
+                assignStatement.getAssignExpression().accept(this);
+                emitAssignOperator(assignOperator);
+                emit("istore", assignStatement.getAssignedId().getSlot());
             }
         }
 
-        return commands;
+        return null;
     }
     @Override
-    public String visit(IfStatement ifStatement){
+    public Void visit(IfStatement ifStatement){
         //TODO
-        String commands = "";
-        for(Expression condition : ifStatement.getConditions())
-            commands += condition.accept(this);
-
         String elseLabel = getFreshLabel();
         String endLabel = getFreshLabel();
-        commands += "ifeq " + elseLabel + "\n";
+        for(Expression condition : ifStatement.getConditions()) {
+            condition.accept(this);
+            emit("ifeq", elseLabel);
+        }
 
-        SymbolTable.push(SymbolTable.top.copy());
         for(Statement statement : ifStatement.getThenBody())
-            commands += statement.accept(this);
-        SymbolTable.pop();
-        commands += "goto " + endLabel + "\n";
+            statement.accept(this);
+        emit("goto", endLabel);
 
-        commands += elseLabel + ":\n";
-        SymbolTable.push(SymbolTable.top.copy());
+        emitLabel(elseLabel);
         for(Statement statement : ifStatement.getElseBody())
-            commands += statement.accept(this);
-        SymbolTable.pop();
-        commands += endLabel + ":\n";
-        return commands;
+            statement.accept(this);
+        emitLabel(endLabel);
+        return null;
     }
     @Override
-    public String visit(PutStatement putStatement){
+    public Void visit(PutStatement putStatement){
         //TODO
-        String commands = "";
-        commands += "getstatic java/lang/System/out Ljava/io/PrintStream;\n";
-        commands += putStatement.getExpression().accept(this);
-        Type expressionType = putStatement.getExpression().accept(typeChecker);
+        emit("getstatic", "java/lang/System/out Ljava/io/PrintStream;");
+        putStatement.getExpression().accept(this);
+        Type expressionType = typeOf(putStatement.getExpression());
         if(expressionType instanceof IntType)
-            commands += "invokevirtual java/io/PrintStream/println(I)V\n";
+            emit("invokevirtual", "java/io/PrintStream/println(I)V");
         else if(expressionType instanceof BoolType)
-            commands += "invokevirtual java/io/PrintStream/println(Z)V\n";
+            emit("invokevirtual", "java/io/PrintStream/println(Z)V");
         else if(expressionType instanceof StringType)
-            commands += "invokevirtual java/io/PrintStream/println(Ljava/lang/String;)V\n";
-        return commands;
+            emit("invokevirtual", "java/io/PrintStream/println(Ljava/lang/String;)V");
+        return null;
     }
     @Override
-    public String visit(ReturnStatement returnStatement){
+    public Void visit(ReturnStatement returnStatement){
         //TODO
         Expression returnExpression = returnStatement.getReturnExp();
-        if(!returnStatement.hasRetExpression())
-            return "return\n";
-        Type returnType = returnExpression.accept(typeChecker);
-        String commands = returnExpression.accept(this);
+        if(!returnStatement.hasRetExpression()){
+            emit("return");
+            return null;
+        }
+        if(selfTailCalls.contains(returnExpression)){
+            emitSelfTailCall((AccessExpression)returnExpression);
+            return null;
+        }
+        Type returnType = typeOf(returnExpression);
+        returnExpression.accept(this);
         if(returnType instanceof IntType || returnType instanceof BoolType)
-            commands += "ireturn\n";
+            emit("ireturn");
         else if(returnType instanceof NoType)
-            commands += "return\n";
+            emit("return");
         else
-            commands += "areturn\n";
-        return commands;
+            emit("areturn");
+        return null;
     }
     @Override
-    public String visit(ExpressionStatement expressionStatement){
+    public Void visit(ExpressionStatement expressionStatement){
+        if(selfTailCalls.contains(expressionStatement.getExpression())){
+            emitSelfTailCall((AccessExpression)expressionStatement.getExpression());
+            return null;
+        }
         return expressionStatement.getExpression().accept(this);
     }
     @Override
-    public String visit(BinaryExpression binaryExpression){
+    public Void visit(BinaryExpression binaryExpression){
         //TODO
-        String commands = "";
-        commands += binaryExpression.getFirstOperand().accept(this);
-        commands += binaryExpression.getSecondOperand().accept(this);
+        if(binaryExpression.getOperator() == BinaryOperator.AND || binaryExpression.getOperator() == BinaryOperator.OR){
+            // the second operand is only evaluated when the first does not decide the result
+            String endLabel = getFreshLabel();
+            binaryExpression.getFirstOperand().accept(this);
+            emit("dup");
+            emit(binaryExpression.getOperator() == BinaryOperator.AND ? "ifeq" : "ifne", endLabel);
+            emit("pop");
+            binaryExpression.getSecondOperand().accept(this);
+            emitLabel(endLabel);
+            return null;
+        }
+        binaryExpression.getFirstOperand().accept(this);
+        binaryExpression.getSecondOperand().accept(this);
         if(binaryExpression.getOperator() == BinaryOperator.PLUS)
-            commands += "iadd\n";
+            emit("iadd");
         else if(binaryExpression.getOperator() == BinaryOperator.MINUS)
-            commands += "isub\n";
+            emit("isub");
         else if(binaryExpression.getOperator() == BinaryOperator.MULT)
-            commands += "imul\n";
+            emit("imul");
         else if(binaryExpression.getOperator() == BinaryOperator.DIVIDE)
-            commands += "idiv\n";
+            emit("idiv");
         else{
             String jumpToTrueLabel = getFreshLabel();
             String jumpToEndLabel = getFreshLabel();
             if(binaryExpression.getOperator() == BinaryOperator.EQUAL)
-                commands += "if_icmpeq " + jumpToTrueLabel + "\n";
+                emit("if_icmpeq", jumpToTrueLabel);
             else if(binaryExpression.getOperator() == BinaryOperator.NOT_EQUAL)
-                commands += "if_icmpne " + jumpToTrueLabel + "\n";
+                emit("if_icmpne", jumpToTrueLabel);
             else if(binaryExpression.getOperator() == BinaryOperator.GREATER_THAN)
-                commands += "if_icmpgt " + jumpToTrueLabel + "\n";
+                emit("if_icmpgt", jumpToTrueLabel);
             else if(binaryExpression.getOperator() == BinaryOperator.LESS_THAN)
-                commands += "if_icmplt " + jumpToTrueLabel + "\n";
+                emit("if_icmplt", jumpToTrueLabel);
             else if(binaryExpression.getOperator() == BinaryOperator.LESS_EQUAL_THAN)
-                commands += "if_icmple " + jumpToTrueLabel + "\n";
+                emit("if_icmple", jumpToTrueLabel);
             else if(binaryExpression.getOperator() == BinaryOperator.GREATER_EQUAL_THAN)
-                commands += "if_icmpge " + jumpToTrueLabel + "\n";
-            else
-                commands += "WTF\n";
+                emit("if_icmpge", jumpToTrueLabel);
 
-            commands += "ldc 0\n";
-            commands += "goto " + jumpToEndLabel + "\n";
-            commands += jumpToTrueLabel + ":\n";
-            commands += "ldc 1\n";
-            commands += jumpToEndLabel + ":\n";
+            emit("ldc", 0);
+            emit("goto", jumpToEndLabel);
+            emitLabel(jumpToTrueLabel);
+            emit("ldc", 1);
+            emitLabel(jumpToEndLabel);
         }
-        return commands;
+        return null;
     }
     @Override
-    public String visit(UnaryExpression unaryExpression){
+    public Void visit(UnaryExpression unaryExpression){
         //TODO
-        String commands = "";
-        commands += unaryExpression.getExpression().accept(this);
+        unaryExpression.getExpression().accept(this);
         UnaryOperator operator = unaryExpression.getOperator();
         if(operator == UnaryOperator.MINUS)
-            commands += "ineg\n";
-        else if(operator == UnaryOperator.NOT)
-            commands += "ldc 1\nixor\n";
+            emit("ineg");
+        else if(operator == UnaryOperator.NOT){
+            emit("ldc", 1);
+            emit("ixor");
+        }
         else{
-            commands+= (operator==UnaryOperator.INC) ? "ldc 1\niadd\n" : "ldc 1\nisub\n";
+            emit("ldc", 1);
+            emit((operator==UnaryOperator.INC) ? "iadd" : "isub");
             if(unaryExpression.getExpression() instanceof Identifier identifier)
-                commands += "istore " + slotOf(identifier.getName()) + "\n";
+                emit("istore", identifier.getSlot());
         }
-        return commands;
+        return null;
     }
     @Override
-    public String visit(Identifier identifier){
+    public Void visit(Identifier identifier){
         //TODO
-        Type identifierType = identifier.accept(typeChecker);
-        if(identifierType instanceof IntType || identifierType instanceof BoolType)
-            return "iload " + slotOf(identifier.getName()) + "\n";
-        else
-            return "aload " + slotOf(identifier.getName()) + "\n";
+        emit(identifier.getCategory().getLoadOpcode(), identifier.getSlot());
+        return null;
+    }
+    @Override
+    public Void visit(ForStatement forStatement){
+        RangeExpression rangeExpression = forStatement.getRangeExpression();
+        ArrayList<Expression> rangeExpressions = rangeExpression.getRangeExpressions();
+        Identifier iteratorId = forStatement.getIteratorId();
+        String endLabel = getFreshLabel();
+        endLoopLabels.push(endLabel);
+        if (rangeExpression.getRangeType() == RangeType.LIST && rangeExpressions.size() <= UNROLL_LIMIT) {
+            // a short literal list is unrolled: the body is emitted once per element, and next skips to the
+            // following copy. All elements are evaluated before the first copy, as they would be for a built list
+            ArrayList<Integer> elementSlots = forStatement.getElementSlots();
+            for (int i = 0; i < rangeExpressions.size(); i++) {
+                emitValue(rangeExpressions.get(i));
+                emit(iteratorId.getCategory().getStoreOpcode(), elementSlots.get(i));
+            }
+            for (int elementSlot : elementSlots) {
+                String nextLabel = getFreshLabel();
+                startLoopLabels.push(nextLabel);
+                emit(iteratorId.getCategory().getLoadOpcode(), elementSlot);
+                emit(iteratorId.getCategory().getStoreOpcode(), iteratorId.getSlot());
+                for (Statement statement : forStatement.getLoopBodyStmts())
+                    statement.accept(this);
+                emitLabel(nextLabel);
+                startLoopLabels.pop();
+            }
+        }
+        else {
+            // (a..b) counts from a to b inclusive; a list is walked by index over its backing storage
+            int indexSlot = forStatement.getIndexSlot();
+            int limitSlot = forStatement.getLimitSlot();
+            ListType listType = null;
+            if (rangeExpression.getRangeType() == RangeType.DOUBLE_DOT) {
+                rangeExpressions.getFirst().accept(this);
+                emit("istore", indexSlot);
+                rangeExpressions.getLast().accept(this);
+                emit("istore", limitSlot);
+            }
+            else {
+                if (rangeExpression.getRangeType() == RangeType.LIST) {
+                    listType = new ListType(typeOf(rangeExpression));
+                    emitNewList(listType, rangeExpressions);
+                }
+                else {
+                    listType = (ListType)typeOf(rangeExpressions.getFirst());
+                    rangeExpressions.getFirst().accept(this);
+                }
+                emit("dup");
+                emit("astore", forStatement.getListSlot());
+                emit("invokevirtual", listClass(listType) + "/size()I");
+                emit("istore", limitSlot);
+                emit("ldc", 0);
+                emit("istore", indexSlot);
+            }
+            String testLabel = getFreshLabel();
+            String bodyLabel = getFreshLabel();
+            String nextLabel = getFreshLabel();
+            startLoopLabels.push(nextLabel);
+            emitLabel(testLabel);
+            emit("iload", indexSlot);
+            emit("iload", limitSlot);
+            emit(listType == null ? "if_icmpgt" : "if_icmpge", endLabel);
+            emitLabel(bodyLabel);
+            if (listType == null)
+                emit("iload", indexSlot);
+            else {
+                emit("aload", forStatement.getListSlot());
+                emit("iload", indexSlot);
+                emitGetElement(listType);
+                if (listType.getType() instanceof ListType elementType)
+                    emitCopy(elementType);
+            }
+            emit(iteratorId.getCategory().getStoreOpcode(), iteratorId.getSlot());
+            for (Statement statement : forStatement.getLoopBodyStmts())
+                statement.accept(this);
+            emitLabel(nextLabel);
+            if (listType == null) {
+                // the last value is checked before counting past it, so a range ending at the largest int stops
+                emit("iload", indexSlot);
+                emit("iload", limitSlot);
+                emit("if_icmpeq", endLabel);
+                emit("iinc", indexSlot + " 1");
+                emit("goto", bodyLabel);
+            }
+            else {
+                emit("iinc", indexSlot + " 1");
+                emit("goto", testLabel);
+            }
+            startLoopLabels.pop();
+        }
+        emitLabel(endLabel);
+        endLoopLabels.pop();
+        return null;
     }
     @Override
-    public String visit(LoopDoStatement loopDoStatement){
+    public Void visit(LoopDoStatement loopDoStatement){
         //TODO
-        String commands = "";
         String startLabel = getFreshLabel();
         String endLabel = getFreshLabel();
         startLoopLabels.push(startLabel);
         endLoopLabels.push(endLabel);
-        commands += startLabel + ":\n";
-        SymbolTable.push(SymbolTable.top.copy());
+        emitLabel(startLabel);
         for(Statement statement : loopDoStatement.getLoopBodyStmts())
-            commands += statement.accept(this);
-        SymbolTable.pop();
-        commands += "goto " + startLabel + "\n";
-        commands += endLabel + ":\n";
+            statement.accept(this);
+        emit("goto", startLabel);
+        emitLabel(endLabel);
         startLoopLabels.pop();
         endLoopLabels.pop();
-        return commands;
+        return null;
     }
     @Override
-    public String visit(BreakStatement breakStatement){
+    public Void visit(BreakStatement breakStatement){
         //TODO
-        return "goto " + endLoopLabels.lastElement() + "\n";
+        emit("goto", endLoopLabels.lastElement());
+        return null;
     }
     @Override
-    public String visit(NextStatement nextStatement){
+    public Void visit(NextStatement nextStatement){
         //TODO
-        return "goto " + startLoopLabels.lastElement() + "\n";
+        emit("goto", startLoopLabels.lastElement());
+        return null;
     }
     @Override
-    public String visit(LenStatement lenStatement){
+    public Void visit(MatchPatternStatement matchPatternStatement){
+        Expression matchArgument = matchPatternStatement.getMatchArgument();
+        Type argumentType = typeOf(matchArgument);
+        emitValue(matchArgument);
+        emit("invokestatic", "Main/" + TypeTable.patternMethodName(matchPatternStatement.getPatternId().getName(),
+                argumentType) + "(" + getType(argumentType, true) + ")" +
+                getType(typeOf(matchPatternStatement), true));
+        return null;
+    }
+    @Override
+    public Void visit(LenStatement lenStatement){
         //TODO
-        String commands = lenStatement.getExpression().accept(this);
-        Type expressionType = lenStatement.getExpression().accept(typeChecker);
+        lenStatement.getExpression().accept(this);
+        Type expressionType = typeOf(lenStatement.getExpression());
         if(expressionType instanceof StringType stringType)
-            commands += "invokevirtual java/lang/String/length()I\n";
+            emit("invokevirtual", "java/lang/String/length()I");
         else if(expressionType instanceof ListType listType)
-            commands += "invokevirtual java/util/ArrayList/size()I\n";
-        return commands;
+            emit("invokevirtual", listClass(listType) + "/size()I");
+        return null;
     }
     @Override
-    public String visit(ChopStatement chopStatement){
+    public Void visit(ChopStatement chopStatement){
         //TODO
-        String commands = "";
-        commands += chopStatement.getChopExpression().accept(this);
-        commands += "dup\n";
-        commands += "invokevirtual java/lang/String/length()I\n";
-        commands += "ldc 0\n";
-        commands += "swap\n";
-        commands += "ldc -1\n";
-        commands += "iadd\n";
-        commands += "invokevirtual java/lang/String/substring(II)Ljava/lang/String;\n";
-        return commands;
+        chopStatement.getChopExpression().accept(this);
+        emit("dup");
+        emit("invokevirtual", "java/lang/String/length()I");
+        emit("ldc", 0);
+        emit("swap");
+        emit("ldc", -1);
+        emit("iadd");
+        emit("invokevirtual", "java/lang/String/substring(II)Ljava/lang/String;");
+        return null;
     }
     @Override
-    public String visit(FunctionPointer functionPointer){
-        FptrType fptr = (FptrType) functionPointer.accept(typeChecker);
-        String commands = "";
-        commands += "new Fptr\n";
-        commands += "dup\n";
-        commands += "aload_0\n";
-        commands += "ldc " + "\"" + fptr.getFunctionName() + "\"\n";
-        commands += "invokespecial Fptr/<init>(Ljava/lang/Object;Ljava/lang/String;)V\n";
-        return commands;
+    public Void visit(FunctionPointer functionPointer){
+        emit("new", "Fptr");
+        emit("dup");
+        // functions are static members of Main, so the pointer only needs the class; Fptr resolves a method
+        // handle per argument signature on first use
+        emit("ldc", "\"Main\"");
+        emit("ldc", "\"" + functionPointer.getId().getName() + "\"");
+        emit("invokespecial", "Fptr/<init>(Ljava/lang/String;Ljava/lang/String;)V");
+        return null;
     }
     @Override
-    public String visit(ListValue listValue){
+    public Void visit(LambdaExpression lambdaExpression){
+        Closure closure = types.getClosure(((FptrType)typeOf(lambdaExpression)).getFunctionName());
+        if (!closure.isCapturing()) {
+            lambdaSingletons.add(closure.getName());
+            emit("getstatic", "Main/" + closure.getName() + " LFptr;");
+            return null;
+        }
+        ArrayList<Identifier> captures = lambdaExpression.getCaptures();
+        emit("new", "Fptr");
+        emit("dup");
+        emit("ldc", "\"" + closure.getName() + "\"");
+        emit("ldc", captures.size());
+        emit("anewarray", "java/lang/Object");
+        for (int i = 0; i < captures.size(); i++) {
+            emit("dup");
+            emit("ldc", i);
+            emitValue(captures.get(i));
+            emitBox(closure.getCaptureTypes().get(i));
+            emit("aastore");
+        }
+        emit("invokespecial", "Fptr/<init>(Ljava/lang/String;[Ljava/lang/Object;)V");
+        return null;
+    }
+    @Override
+    public Void visit(ListValue listValue){
         //TODO
-        String commands ="";
-        commands += "new java/util/ArrayList\n";
-        commands += "dup\n";
-        commands += "invokespecial java/util/ArrayList/<init>()V\n";
-        commands += "astore " + slotOf("array_slot") + "\n";
-        for(Expression element : listValue.getElements()) {
-            commands += "aload " + slotOf("array_slot") + "\n";
-            commands += element.accept(this);
-            Type elementType = element.accept(typeChecker);
-            if(elementType instanceof IntType intType)
-                commands += "invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;\n";
-            else if(elementType instanceof BoolType boolType)
-                commands += "invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;\n";
-            commands += "invokevirtual java/util/ArrayList/add(Ljava/lang/Object;)Z\n";
-            commands += "pop\n";
-        }
-        commands += "aload " + slotOf("array_slot") + "\n";
-        return commands;
+        emitNewList((ListType)typeOf(listValue), listValue.getElements());
+        return null;
+    }
+    private void emitNewList(ListType listType, ArrayList<Expression> elements){
+        String listClass = listClass(listType);
+        emit("new", listClass);
+        emit("dup");
+        emit("invokespecial", listClass + "/<init>()V");
+        for(Expression element : elements) {
+            emit("dup");
+            element.accept(this);
+            emit("invokevirtual", listClass + "/addElement(" + elementDescriptor(listType) + ")V");
+        }
     }
     @Override
-    public String visit(IntValue intValue){
+    public Void visit(IntValue intValue){
         //TODO, use "invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer" to convert to primitive
-        return "ldc " + intValue.getIntVal() + "\n";
+        emit("ldc", intValue.getIntVal());
+        return null;
     }
     @Override
-    public String visit(BoolValue boolValue){
+    public Void visit(BoolValue boolValue){
         //TODO, use "invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean" to convert to primitive
-        return "ldc " + (boolValue.getBool() ? "1" : "0") + "\n";
+        emit("ldc", boolValue.getBool() ? 1 : 0);
+        return null;
     }
     @Override
-    public String visit(StringValue stringValue){
+    public Void visit(StringValue stringValue){
         //TODO
-        return "ldc " + stringValue.getStr() + "\n";
+        emit("ldc", stringValue.getStr());
+        return null;
     }
-}
\ No newline at end of file
+}
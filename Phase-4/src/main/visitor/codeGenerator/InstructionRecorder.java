@@ -0,0 +1,41 @@
+package main.visitor.codeGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class InstructionRecorder implements InstructionSink {
+    private final InstructionSink target;
+    private final ArrayList<String[]> instructions = new ArrayList<>();
+
+    // records without forwarding, so the body can be rewritten before it is emitted
+    public InstructionRecorder(){
+        this(null);
+    }
+    public InstructionRecorder(InstructionSink target){
+        this.target = target;
+    }
+
+    public ArrayList<String[]> getInstructions(){return instructions;}
+
+    public static void replay(List<String[]> instructions, InstructionSink sink){
+        for(String[] instruction : instructions){
+            if(instruction.length == 1)
+                sink.label(instruction[0]);
+            else
+                sink.instruction(instruction[0], instruction[1]);
+        }
+    }
+
+    @Override
+    public void label(String label){
+        instructions.add(new String[]{label});
+        if(target != null)
+            target.label(label);
+    }
+    @Override
+    public void instruction(String opcode, String operand){
+        instructions.add(new String[]{opcode, operand});
+        if(target != null)
+            target.instruction(opcode, operand);
+    }
+}
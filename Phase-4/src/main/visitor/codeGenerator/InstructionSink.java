@@ -0,0 +1,6 @@
+package main.visitor.codeGenerator;
+
+public interface InstructionSink {
+    void label(String label);
+    void instruction(String opcode, String operand);
+}
@@ -0,0 +1,68 @@
+package main.visitor.codeGenerator;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+
+public class JasminWriter implements ClassEmitter, InstructionSink {
+    private final String className;
+    private final StringBuilder classText = new StringBuilder();
+    // Jasmin wants the fields ahead of the methods, which may be written first
+    private final StringBuilder fieldText = new StringBuilder();
+    private final StringBuilder methodText = new StringBuilder();
+    private final ArrayList<String[]> methodCode = new ArrayList<>();
+    private String methodAccess;
+    private String methodDescriptor;
+    private String methodHeader;
+
+    public JasminWriter(String className, String superName){
+        this.className = className;
+        classText.append(".class public ").append(className).append('\n');
+        classText.append(".super ").append(superName).append('\n');
+    }
+
+    @Override
+    public void addField(String access, String name, String descriptor){
+        fieldText.append(".field ").append(access).append(' ').append(name).append(' ').append(descriptor).append('\n');
+    }
+    @Override
+    public InstructionSink beginMethod(String access, String name, String descriptor){
+        methodHeader = ".method " + access + " " + name + descriptor + "\n";
+        methodAccess = access;
+        methodDescriptor = descriptor;
+        methodCode.clear();
+        return this;
+    }
+    @Override
+    public void endMethod(){
+        methodText.append(methodHeader);
+        methodText.append(".limit stack ").append(MethodAnalysis.maxStack(methodCode)).append('\n');
+        methodText.append(".limit locals ").append(MethodAnalysis.maxLocals(methodCode, methodAccess, methodDescriptor))
+                .append('\n');
+        for(String[] entry : methodCode){
+            if(entry.length == 1)
+                methodText.append('\t').append(entry[0]).append(":\n");
+            else {
+                methodText.append("\t\t").append(entry[0]);
+                if(entry[1] != null)
+                    methodText.append(' ').append(entry[1]);
+                methodText.append('\n');
+            }
+        }
+        methodText.append(".end method\n");
+    }
+    @Override
+    public void label(String label){
+        methodCode.add(new String[]{label});
+    }
+    @Override
+    public void instruction(String opcode, String operand){
+        methodCode.add(new String[]{opcode, operand});
+    }
+    @Override
+    public void writeTo(String outputPath) throws IOException {
+        try(FileWriter writer = new FileWriter(outputPath + className + ".j")){
+            writer.write(classText.toString() + fieldText + methodText);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package main.visitor.codeGenerator;
+
+// the JVM kind of a local variable slot, which decides the load/store opcodes used for it
+public enum LocalCategory {
+    INT("iload", "istore"),
+    REFERENCE("aload", "astore");
+
+    private final String loadOpcode;
+    private final String storeOpcode;
+
+    LocalCategory(String loadOpcode, String storeOpcode){
+        this.loadOpcode = loadOpcode;
+        this.storeOpcode = storeOpcode;
+    }
+    public String getLoadOpcode(){return loadOpcode;}
+    public String getStoreOpcode(){return storeOpcode;}
+}
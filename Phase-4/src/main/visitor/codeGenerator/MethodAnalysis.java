@@ -0,0 +1,226 @@
+package main.visitor.codeGenerator;
+
+import main.visitor.codeGenerator.bytecode.MethodWriter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+
+// analyses over a recorded method body, where a one-element entry is a label and a two-element entry is an
+// opcode and its operand
+public class MethodAnalysis {
+    private MethodAnalysis(){}
+
+    // CodeGenerator numbers locals once per name; this renumbers them so that locals whose live ranges do not
+    // overlap share a slot. Operand forms such as "iload 3" are virtual registers, while short forms such as
+    // "aload_0" name a physical slot and are left alone. The first argCount virtual registers are the arguments
+    // and stay where the caller passes them.
+    public static ArrayList<String[]> allocateLocals(List<String[]> code, int argCount, boolean hasThis){
+        int size = code.size();
+        HashMap<String, Integer> labels = labelIndices(code);
+        int registers = 0;
+        int reserved = argCount + (hasThis ? 1 : 0);
+        BitSet shortForms = new BitSet();
+        for (String[] entry : code) {
+            if (isVirtualLocal(entry))
+                registers = Math.max(registers, localOf(entry) + 1);
+            else if (entry.length == 2 && isLocalInstruction(entry[0]))
+                shortForms.set(shortFormSlot(entry[0]));
+        }
+        reserved = Math.max(reserved, shortForms.length());
+        if (registers == 0)
+            return new ArrayList<>(code);
+
+        BitSet[] liveIn = new BitSet[size + 1];
+        for (int i = 0; i <= size; i++)
+            liveIn[i] = new BitSet(registers);
+        ArrayList<ArrayList<Integer>> successors = new ArrayList<>();
+        for (int i = 0; i < size; i++)
+            successors.add(successors(code, i, labels));
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = size - 1; i >= 0; i--) {
+                BitSet live = liveOut(successors.get(i), liveIn);
+                String[] entry = code.get(i);
+                if (isVirtualLocal(entry)) {
+                    if (isStore(entry[0]))
+                        live.clear(localOf(entry));
+                    if (!isStore(entry[0]) || entry[0].equals("iinc"))
+                        live.set(localOf(entry));
+                }
+                if (!live.equals(liveIn[i])) {
+                    liveIn[i] = live;
+                    changed = true;
+                }
+            }
+        }
+
+        BitSet[] interferences = new BitSet[registers];
+        for (int register = 0; register < registers; register++)
+            interferences[register] = new BitSet(registers);
+        for (int register = liveIn[0].nextSetBit(0); register >= 0; register = liveIn[0].nextSetBit(register + 1))
+            interferences[register].or(liveIn[0]);
+        for (int i = 0; i < size; i++) {
+            String[] entry = code.get(i);
+            if (!isVirtualLocal(entry) || !isStore(entry[0]))
+                continue;
+            int defined = localOf(entry);
+            BitSet live = liveOut(successors.get(i), liveIn);
+            for (int register = live.nextSetBit(0); register >= 0; register = live.nextSetBit(register + 1)) {
+                interferences[defined].set(register);
+                interferences[register].set(defined);
+            }
+        }
+
+        int[] slots = new int[registers];
+        int offset = hasThis ? 1 : 0;
+        for (int register = 0; register < registers; register++)
+            slots[register] = register < argCount ? register + offset : -1;
+        for (int register = argCount; register < registers; register++) {
+            BitSet taken = new BitSet();
+            taken.set(0, reserved);
+            // an argument slot can be reused once the argument is dead, unless a neighbour has reused it already
+            for (int arg = 0; arg < argCount; arg++)
+                if (!interferences[register].get(arg) && !shortForms.get(slots[arg]))
+                    taken.clear(slots[arg]);
+            for (int neighbour = interferences[register].nextSetBit(0); neighbour >= 0;
+                 neighbour = interferences[register].nextSetBit(neighbour + 1))
+                if (neighbour != register && slots[neighbour] >= 0)
+                    taken.set(slots[neighbour]);
+            slots[register] = taken.nextClearBit(0);
+        }
+
+        ArrayList<String[]> allocated = new ArrayList<>(size);
+        for (String[] entry : code) {
+            if (!isVirtualLocal(entry))
+                allocated.add(entry);
+            else if (entry[0].equals("iinc"))
+                allocated.add(new String[]{entry[0], slots[localOf(entry)] + " " + entry[1].trim().split("\\s+")[1]});
+            else
+                allocated.add(new String[]{entry[0], String.valueOf(slots[localOf(entry)])});
+        }
+        return allocated;
+    }
+
+    public static int maxLocals(List<String[]> code, String access, String descriptor){
+        int maxLocals = argumentSlots(descriptor) + (access.contains("static") ? 0 : 1);
+        for (String[] entry : code) {
+            if (entry.length != 2 || !isLocalInstruction(entry[0]))
+                continue;
+            int slot = isVirtualLocal(entry) ? localOf(entry) : shortFormSlot(entry[0]);
+            maxLocals = Math.max(maxLocals, slot + 1);
+        }
+        return maxLocals;
+    }
+
+    public static int maxStack(List<String[]> code){
+        HashMap<String, Integer> labels = labelIndices(code);
+        int[] depths = new int[code.size()];
+        Arrays.fill(depths, -1);
+        int maxStack = 0;
+        ArrayDeque<Integer> worklist = new ArrayDeque<>();
+        if (!code.isEmpty()) {
+            depths[0] = 0;
+            worklist.push(0);
+        }
+        while (!worklist.isEmpty()) {
+            int index = worklist.pop();
+            String[] entry = code.get(index);
+            int depth = depths[index] + (entry.length == 2 ? stackEffect(entry[0], entry[1]) : 0);
+            maxStack = Math.max(maxStack, depth);
+            for (int successor : successors(code, index, labels)) {
+                if (successor < code.size() && depths[successor] < 0) {
+                    depths[successor] = depth;
+                    worklist.push(successor);
+                }
+            }
+        }
+        return maxStack;
+    }
+
+    private static HashMap<String, Integer> labelIndices(List<String[]> code){
+        HashMap<String, Integer> labels = new HashMap<>();
+        for (int i = 0; i < code.size(); i++)
+            if (code.get(i).length == 1)
+                labels.put(code.get(i)[0], i);
+        return labels;
+    }
+    private static ArrayList<Integer> successors(List<String[]> code, int index, HashMap<String, Integer> labels){
+        ArrayList<Integer> successors = new ArrayList<>(2);
+        String[] entry = code.get(index);
+        if (entry.length == 1) {
+            successors.add(index + 1);
+            return successors;
+        }
+        String opcode = entry[0];
+        if (opcode.startsWith("if") || opcode.equals("goto"))
+            successors.add(labels.get(entry[1].trim()));
+        else if (opcode.equals("tableswitch") || opcode.equals("lookupswitch"))
+            for (String label : MethodWriter.switchTargets(entry[1]))
+                successors.add(labels.get(label));
+        switch (opcode) {
+            case "goto", "return", "ireturn", "areturn", "athrow", "tableswitch", "lookupswitch" -> {}
+            default -> successors.add(index + 1);
+        }
+        return successors;
+    }
+    private static BitSet liveOut(ArrayList<Integer> successors, BitSet[] liveIn){
+        BitSet live = new BitSet();
+        for (int successor : successors)
+            live.or(liveIn[successor]);
+        return live;
+    }
+
+    private static boolean isLocalInstruction(String opcode){
+        return opcode.startsWith("iload") || opcode.startsWith("aload") || opcode.startsWith("istore") ||
+                opcode.startsWith("astore") || opcode.equals("iinc");
+    }
+    private static boolean isVirtualLocal(String[] entry){
+        return entry.length == 2 && entry[1] != null && isLocalInstruction(entry[0]);
+    }
+    private static boolean isStore(String opcode){
+        return opcode.startsWith("istore") || opcode.startsWith("astore") || opcode.equals("iinc");
+    }
+    private static int localOf(String[] entry){
+        return Integer.parseInt(entry[1].trim().split("\\s+")[0]);
+    }
+    private static int shortFormSlot(String opcode){
+        return Integer.parseInt(opcode.substring(opcode.indexOf('_') + 1));
+    }
+
+    private static int argumentSlots(String methodDescriptor){
+        int slots = 0;
+        for (String argument : MethodWriter.argumentDescriptors(methodDescriptor))
+            slots += (argument.equals("J") || argument.equals("D")) ? 2 : 1;
+        return slots;
+    }
+    private static int stackEffect(String opcode, String operand){
+        switch (opcode) {
+            case "invokevirtual", "invokespecial", "invokestatic", "invokeinterface" -> {
+                String reference = operand.trim().split("\\s+")[0];
+                String descriptor = reference.substring(reference.indexOf('('));
+                String returnType = descriptor.substring(descriptor.indexOf(')') + 1);
+                int returned = returnType.equals("V") ? 0 : (returnType.equals("J") || returnType.equals("D")) ? 2 : 1;
+                return returned - argumentSlots(descriptor) - (opcode.equals("invokestatic") ? 0 : 1);
+            }
+            case "aconst_null", "iconst_m1", "iconst_0", "iconst_1", "iconst_2", "iconst_3", "iconst_4", "iconst_5",
+                 "bipush", "sipush", "ldc", "ldc_w", "iload", "iload_0", "iload_1", "iload_2", "iload_3",
+                 "aload", "aload_0", "aload_1", "aload_2", "aload_3", "dup", "dup_x1", "dup_x2", "getstatic",
+                 "new" -> {return 1;}
+            case "dup2" -> {return 2;}
+            case "istore", "istore_0", "istore_1", "istore_2", "istore_3", "astore", "astore_0", "astore_1",
+                 "astore_2", "astore_3", "pop", "ifeq", "ifne", "iflt", "ifge", "ifgt", "ifle", "ifnull",
+                 "ifnonnull", "ireturn", "areturn", "athrow", "putstatic", "iadd", "isub", "imul", "idiv", "irem",
+                 "ishl", "ishr", "iand", "ior", "ixor", "iaload", "aaload", "baload", "tableswitch",
+                 "lookupswitch" -> {return -1;}
+            case "pop2", "if_icmpeq", "if_icmpne", "if_icmplt", "if_icmpge", "if_icmpgt", "if_icmple", "if_acmpeq",
+                 "if_acmpne", "putfield" -> {return -2;}
+            case "iastore", "aastore", "bastore" -> {return -3;}
+            default -> {return 0;}
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package main.visitor.codeGenerator;
+
+import main.ast.nodes.expression.Expression;
+
+import java.util.List;
+
+// one case of a pattern: the conditions that all have to hold, and the value it then matches to
+class PatternCase {
+    final List<Expression> conditions;
+    final Expression result;
+
+    PatternCase(List<Expression> conditions, Expression result){
+        this.conditions = conditions;
+        this.result = result;
+    }
+
+    PatternCase withoutFirstCondition(){
+        return new PatternCase(conditions.subList(1, conditions.size()), result);
+    }
+}
@@ -0,0 +1,44 @@
+package main.visitor.codeGenerator;
+
+import main.ast.nodes.expression.AccessExpression;
+import main.ast.nodes.statement.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+// finds the calls of a function body whose result is the function's result: the expression of any return, and
+// a call statement that ends the body, or ends a branch of an if that itself ends the body
+class TailCalls {
+    private TailCalls(){}
+
+    static HashSet<AccessExpression> of(ArrayList<Statement> body){
+        HashSet<AccessExpression> calls = new HashSet<>();
+        collect(body, true, calls);
+        return calls;
+    }
+
+    private static void collect(ArrayList<Statement> body, boolean endsFunction, HashSet<AccessExpression> calls){
+        for (int i = 0; i < body.size(); i++) {
+            boolean last = endsFunction && i == body.size() - 1;
+            switch (body.get(i)) {
+                case ReturnStatement returnStatement -> {
+                    if (returnStatement.hasRetExpression() &&
+                            returnStatement.getReturnExp() instanceof AccessExpression call && call.isFunctionCall())
+                        calls.add(call);
+                }
+                case ExpressionStatement expressionStatement -> {
+                    if (last && expressionStatement.getExpression() instanceof AccessExpression call &&
+                            call.isFunctionCall())
+                        calls.add(call);
+                }
+                case IfStatement ifStatement -> {
+                    collect(ifStatement.getThenBody(), last, calls);
+                    collect(ifStatement.getElseBody(), last, calls);
+                }
+                case LoopDoStatement loopDoStatement -> collect(loopDoStatement.getLoopBodyStmts(), false, calls);
+                case ForStatement forStatement -> collect(forStatement.getLoopBodyStmts(), false, calls);
+                default -> {}
+            }
+        }
+    }
+}
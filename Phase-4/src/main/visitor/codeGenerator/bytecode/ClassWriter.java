@@ -0,0 +1,109 @@
+package main.visitor.codeGenerator.bytecode;
+
+import main.visitor.codeGenerator.ClassEmitter;
+import main.visitor.codeGenerator.InstructionSink;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+
+public class ClassWriter implements ClassEmitter {
+    public static final int ACC_PUBLIC = 0x0001;
+    public static final int ACC_PRIVATE = 0x0002;
+    public static final int ACC_PROTECTED = 0x0004;
+    public static final int ACC_STATIC = 0x0008;
+    public static final int ACC_FINAL = 0x0010;
+    public static final int ACC_SUPER = 0x0020;
+    private static final int JAVA_8_VERSION = 52;
+
+    private final ConstantPool constantPool = new ConstantPool();
+    private final String className;
+    private final String superName;
+    private final ArrayList<String[]> fields = new ArrayList<>();
+    private final ArrayList<Integer> fieldAccesses = new ArrayList<>();
+    private final ArrayList<MethodWriter> methods = new ArrayList<>();
+
+    public ClassWriter(String className, String superName){
+        this.className = className;
+        this.superName = superName;
+    }
+
+    public String getClassName(){return className;}
+
+    public static int parseAccess(String... modifiers){
+        int access = 0;
+        for(String modifier : modifiers){
+            switch (modifier){
+                case "public" -> access |= ACC_PUBLIC;
+                case "private" -> access |= ACC_PRIVATE;
+                case "protected" -> access |= ACC_PROTECTED;
+                case "static" -> access |= ACC_STATIC;
+                case "final" -> access |= ACC_FINAL;
+                default -> {}
+            }
+        }
+        return access;
+    }
+
+    public void addField(int access, String name, String descriptor){
+        fields.add(new String[]{name, descriptor});
+        fieldAccesses.add(access);
+    }
+    @Override
+    public void addField(String access, String name, String descriptor){
+        addField(parseAccess(access.split(" ")), name, descriptor);
+    }
+    public MethodWriter addMethod(int access, String name, String descriptor){
+        MethodWriter method = new MethodWriter(constantPool, className, access, name, descriptor);
+        methods.add(method);
+        return method;
+    }
+
+    @Override
+    public InstructionSink beginMethod(String access, String name, String descriptor){
+        return addMethod(parseAccess(access.split(" ")), name, descriptor);
+    }
+    @Override
+    public void endMethod(){}
+    @Override
+    public void writeTo(String outputPath) throws IOException {
+        Files.write(new File(outputPath + className + ".class").toPath(), toByteArray());
+    }
+
+    public byte[] toByteArray(){
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(body);
+            out.writeShort(ACC_PUBLIC | ACC_SUPER);
+            out.writeShort(constantPool.classRef(className));
+            out.writeShort(constantPool.classRef(superName));
+            out.writeShort(0);
+            out.writeShort(fields.size());
+            for(int i = 0; i < fields.size(); i++){
+                out.writeShort(fieldAccesses.get(i));
+                out.writeShort(constantPool.utf8(fields.get(i)[0]));
+                out.writeShort(constantPool.utf8(fields.get(i)[1]));
+                out.writeShort(0);
+            }
+            out.writeShort(methods.size());
+            for(MethodWriter method : methods)
+                method.write(out);
+            out.writeShort(0);
+
+            // the constant pool is only complete once every method has been encoded
+            ByteArrayOutputStream classFile = new ByteArrayOutputStream();
+            DataOutputStream header = new DataOutputStream(classFile);
+            header.writeInt(0xCAFEBABE);
+            header.writeShort(0);
+            header.writeShort(JAVA_8_VERSION);
+            constantPool.write(header);
+            body.writeTo(header);
+            return classFile.toByteArray();
+        } catch (IOException e){
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package main.visitor.codeGenerator.bytecode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ConstantPool {
+    private static final int UTF8 = 1;
+    private static final int INTEGER = 3;
+    private static final int CLASS = 7;
+    private static final int STRING = 8;
+    private static final int FIELD_REF = 9;
+    private static final int METHOD_REF = 10;
+    private static final int INTERFACE_METHOD_REF = 11;
+    private static final int NAME_AND_TYPE = 12;
+
+    private final Map<String, Integer> entries = new HashMap<>();
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream output = new DataOutputStream(bytes);
+    private int count = 1;
+
+    public int utf8(String value){
+        String key = "U" + value;
+        Integer index = entries.get(key);
+        if(index != null)
+            return index;
+        try {
+            output.writeByte(UTF8);
+            output.writeUTF(value);
+        } catch (IOException e){
+            throw new IllegalStateException(e);
+        }
+        return register(key);
+    }
+    public int integer(int value){
+        String key = "I" + value;
+        Integer index = entries.get(key);
+        if(index != null)
+            return index;
+        try {
+            output.writeByte(INTEGER);
+            output.writeInt(value);
+        } catch (IOException e){
+            throw new IllegalStateException(e);
+        }
+        return register(key);
+    }
+    public int classRef(String internalName){
+        return reference("C" + internalName, CLASS, utf8(internalName));
+    }
+    public int string(String value){
+        return reference("S" + value, STRING, utf8(value));
+    }
+    public int nameAndType(String name, String descriptor){
+        return reference("N" + name + " " + descriptor, NAME_AND_TYPE, utf8(name), utf8(descriptor));
+    }
+    public int fieldRef(String owner, String name, String descriptor){
+        return reference("F" + owner + "." + name + " " + descriptor, FIELD_REF,
+                classRef(owner), nameAndType(name, descriptor));
+    }
+    public int methodRef(String owner, String name, String descriptor, boolean isInterface){
+        return reference((isInterface ? "J" : "M") + owner + "." + name + descriptor,
+                isInterface ? INTERFACE_METHOD_REF : METHOD_REF, classRef(owner), nameAndType(name, descriptor));
+    }
+    private int reference(String key, int tag, int... indexes){
+        Integer index = entries.get(key);
+        if(index != null)
+            return index;
+        try {
+            output.writeByte(tag);
+            for(int i : indexes)
+                output.writeShort(i);
+        } catch (IOException e){
+            throw new IllegalStateException(e);
+        }
+        return register(key);
+    }
+    private int register(String key){
+        entries.put(key, count);
+        return count++;
+    }
+    public void write(DataOutputStream out) throws IOException {
+        out.writeShort(count);
+        bytes.writeTo(out);
+    }
+}
@@ -0,0 +1,91 @@
+package main.visitor.codeGenerator.bytecode;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+public class Frame {
+    private final ArrayList<VerificationType> locals;
+    private final ArrayList<VerificationType> stack;
+
+    public Frame(){
+        this.locals = new ArrayList<>();
+        this.stack = new ArrayList<>();
+    }
+    private Frame(ArrayList<VerificationType> locals, ArrayList<VerificationType> stack){
+        this.locals = new ArrayList<>(locals);
+        this.stack = new ArrayList<>(stack);
+    }
+    public Frame copy(){
+        return new Frame(locals, stack);
+    }
+
+    public int getLocalsSize(){return locals.size();}
+    public int getStackSize(){return stack.size();}
+
+    public VerificationType getLocal(int index){
+        if(index >= locals.size())
+            throw new IllegalStateException("local " + index + " read before it is written");
+        return locals.get(index);
+    }
+    public void setLocal(int index, VerificationType type){
+        while(locals.size() <= index)
+            locals.add(VerificationType.TOP_TYPE);
+        locals.set(index, type);
+    }
+    public void push(VerificationType type){
+        stack.add(type);
+    }
+    public VerificationType pop(){
+        if(stack.isEmpty())
+            throw new IllegalStateException("operand stack underflow");
+        return stack.removeLast();
+    }
+    public VerificationType peek(){
+        return stack.getLast();
+    }
+    public void clearStack(){
+        stack.clear();
+    }
+    public void initialize(VerificationType uninitialized, VerificationType initialized){
+        locals.replaceAll(type -> type.equals(uninitialized) ? initialized : type);
+        stack.replaceAll(type -> type.equals(uninitialized) ? initialized : type);
+    }
+
+    public boolean merge(Frame other){
+        if(stack.size() != other.stack.size())
+            throw new IllegalStateException("inconsistent operand stack height at branch target");
+        boolean changed = false;
+        for(int i = 0; i < stack.size(); i++){
+            VerificationType merged = VerificationType.merge(stack.get(i), other.stack.get(i));
+            if(!merged.equals(stack.get(i))){
+                stack.set(i, merged);
+                changed = true;
+            }
+        }
+        for(int i = 0; i < locals.size(); i++){
+            VerificationType otherType = (i < other.locals.size()) ? other.locals.get(i) : VerificationType.TOP_TYPE;
+            VerificationType merged = VerificationType.merge(locals.get(i), otherType);
+            if(!merged.equals(locals.get(i))){
+                locals.set(i, merged);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    public void write(DataOutputStream out, int offsetDelta, ConstantPool constantPool, int[] offsets)
+            throws IOException {
+        int localsCount = locals.size();
+        while(localsCount > 0 && locals.get(localsCount - 1).getTag() == VerificationType.TOP)
+            localsCount--;
+        out.writeByte(255);
+        out.writeShort(offsetDelta);
+        out.writeShort(localsCount);
+        for(int i = 0; i < localsCount; i++)
+            locals.get(i).write(out, constantPool, offsets);
+        out.writeShort(stack.size());
+        for(VerificationType type : stack)
+            type.write(out, constantPool, offsets);
+    }
+}
@@ -0,0 +1,693 @@
+package main.visitor.codeGenerator.bytecode;
+
+import main.visitor.codeGenerator.InstructionSink;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+public class MethodWriter implements InstructionSink {
+    private static final Map<String, Integer> OPCODES = new HashMap<>();
+    static {
+        String[] names = {
+                "nop", "aconst_null", "iconst_m1", "iconst_0", "iconst_1", "iconst_2", "iconst_3", "iconst_4",
+                "iconst_5"};
+        for(int i = 0; i < names.length; i++)
+            OPCODES.put(names[i], i);
+        OPCODES.put("bipush", 16);
+        OPCODES.put("sipush", 17);
+        OPCODES.put("ldc", 18);
+        OPCODES.put("ldc_w", 19);
+        OPCODES.put("iload", 21);
+        OPCODES.put("aload", 25);
+        for(int i = 0; i < 4; i++){
+            OPCODES.put("iload_" + i, 26 + i);
+            OPCODES.put("aload_" + i, 42 + i);
+            OPCODES.put("istore_" + i, 59 + i);
+            OPCODES.put("astore_" + i, 75 + i);
+        }
+        OPCODES.put("iaload", 46);
+        OPCODES.put("aaload", 50);
+        OPCODES.put("baload", 51);
+        OPCODES.put("istore", 54);
+        OPCODES.put("astore", 58);
+        OPCODES.put("iastore", 79);
+        OPCODES.put("aastore", 83);
+        OPCODES.put("bastore", 84);
+        OPCODES.put("pop", 87);
+        OPCODES.put("pop2", 88);
+        OPCODES.put("dup", 89);
+        OPCODES.put("dup_x1", 90);
+        OPCODES.put("dup_x2", 91);
+        OPCODES.put("dup2", 92);
+        OPCODES.put("swap", 95);
+        OPCODES.put("iadd", 96);
+        OPCODES.put("isub", 100);
+        OPCODES.put("imul", 104);
+        OPCODES.put("idiv", 108);
+        OPCODES.put("irem", 112);
+        OPCODES.put("ineg", 116);
+        OPCODES.put("ishl", 120);
+        OPCODES.put("ishr", 122);
+        OPCODES.put("iand", 126);
+        OPCODES.put("ior", 128);
+        OPCODES.put("ixor", 130);
+        OPCODES.put("iinc", 132);
+        OPCODES.put("ifeq", 153);
+        OPCODES.put("ifne", 154);
+        OPCODES.put("iflt", 155);
+        OPCODES.put("ifge", 156);
+        OPCODES.put("ifgt", 157);
+        OPCODES.put("ifle", 158);
+        OPCODES.put("if_icmpeq", 159);
+        OPCODES.put("if_icmpne", 160);
+        OPCODES.put("if_icmplt", 161);
+        OPCODES.put("if_icmpge", 162);
+        OPCODES.put("if_icmpgt", 163);
+        OPCODES.put("if_icmple", 164);
+        OPCODES.put("if_acmpeq", 165);
+        OPCODES.put("if_acmpne", 166);
+        OPCODES.put("goto", 167);
+        OPCODES.put("tableswitch", 170);
+        OPCODES.put("lookupswitch", 171);
+        OPCODES.put("ireturn", 172);
+        OPCODES.put("areturn", 176);
+        OPCODES.put("return", 177);
+        OPCODES.put("getstatic", 178);
+        OPCODES.put("putstatic", 179);
+        OPCODES.put("getfield", 180);
+        OPCODES.put("putfield", 181);
+        OPCODES.put("invokevirtual", 182);
+        OPCODES.put("invokespecial", 183);
+        OPCODES.put("invokestatic", 184);
+        OPCODES.put("invokeinterface", 185);
+        OPCODES.put("new", 187);
+        OPCODES.put("newarray", 188);
+        OPCODES.put("anewarray", 189);
+        OPCODES.put("arraylength", 190);
+        OPCODES.put("athrow", 191);
+        OPCODES.put("checkcast", 192);
+        OPCODES.put("instanceof", 193);
+        OPCODES.put("ifnull", 198);
+        OPCODES.put("ifnonnull", 199);
+    }
+    private static final int WIDE = 196;
+
+    private static class Instruction {
+        private final String opcode;
+        private final String operand;
+        private int offset;
+        private int size;
+        private int constantIndex;
+        private Instruction(String opcode, String operand){
+            this.opcode = opcode;
+            this.operand = operand;
+        }
+    }
+
+    private final ConstantPool constantPool;
+    private final String className;
+    private final int access;
+    private final String name;
+    private final String descriptor;
+    private final ArrayList<Instruction> instructions = new ArrayList<>();
+    private final Map<String, Integer> labels = new HashMap<>();
+    private int maxStack;
+    private int maxLocals;
+
+    public MethodWriter(ConstantPool constantPool, String className, int access, String name, String descriptor){
+        this.constantPool = constantPool;
+        this.className = className;
+        this.access = access;
+        this.name = name;
+        this.descriptor = descriptor;
+    }
+
+    @Override
+    public void label(String label){
+        labels.put(label, instructions.size());
+    }
+    @Override
+    public void instruction(String opcode, String operand){
+        if(!OPCODES.containsKey(opcode))
+            throw new IllegalArgumentException("unsupported instruction " + opcode);
+        instructions.add(new Instruction(opcode, operand));
+    }
+
+    public int getMaxStack(){return maxStack;}
+    public int getMaxLocals(){return maxLocals;}
+
+    public void write(DataOutputStream out) throws IOException {
+        int[] offsets = layout();
+        Frame[] frames = computeFrames();
+        byte[] code = encode(offsets, frames);
+        TreeMap<Integer, Frame> stackMap = stackMapFrames(frames);
+
+        out.writeShort(access);
+        out.writeShort(constantPool.utf8(name));
+        out.writeShort(constantPool.utf8(descriptor));
+        out.writeShort(1);
+        ByteArrayOutputStream codeAttribute = new ByteArrayOutputStream();
+        DataOutputStream attribute = new DataOutputStream(codeAttribute);
+        attribute.writeShort(maxStack);
+        attribute.writeShort(maxLocals);
+        attribute.writeInt(code.length);
+        attribute.write(code);
+        attribute.writeShort(0);
+        if(stackMap.isEmpty())
+            attribute.writeShort(0);
+        else {
+            attribute.writeShort(1);
+            ByteArrayOutputStream stackMapAttribute = new ByteArrayOutputStream();
+            DataOutputStream entries = new DataOutputStream(stackMapAttribute);
+            entries.writeShort(stackMap.size());
+            int previous = -1;
+            for(Map.Entry<Integer, Frame> entry : stackMap.entrySet()){
+                int offset = offsets[entry.getKey()];
+                entry.getValue().write(entries, offset - previous - 1, constantPool, offsets);
+                previous = offset;
+            }
+            attribute.writeShort(constantPool.utf8("StackMapTable"));
+            attribute.writeInt(stackMapAttribute.size());
+            stackMapAttribute.writeTo(attribute);
+        }
+        out.writeShort(constantPool.utf8("Code"));
+        out.writeInt(codeAttribute.size());
+        codeAttribute.writeTo(out);
+    }
+
+    private int[] layout(){
+        int[] offsets = new int[instructions.size() + 1];
+        int offset = 0;
+        for(int i = 0; i < instructions.size(); i++){
+            Instruction instruction = instructions.get(i);
+            instruction.offset = offset;
+            instruction.size = sizeOf(instruction);
+            offsets[i] = offset;
+            offset += instruction.size;
+        }
+        offsets[instructions.size()] = offset;
+        if(offset > 65535)
+            throw new IllegalStateException("method " + name + " is too large");
+        return offsets;
+    }
+    private int sizeOf(Instruction instruction){
+        switch (instruction.opcode){
+            case "ldc", "ldc_w" -> {
+                if(isStringLiteral(instruction.operand))
+                    instruction.constantIndex = constantPool.string(unquote(instruction.operand));
+                else {
+                    int value = Integer.parseInt(instruction.operand.trim());
+                    if(value >= -1 && value <= 5)
+                        return 1;
+                    if(value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE)
+                        return 2;
+                    if(value >= Short.MIN_VALUE && value <= Short.MAX_VALUE)
+                        return 3;
+                    instruction.constantIndex = constantPool.integer(value);
+                }
+                return (instruction.constantIndex < 256) ? 2 : 3;
+            }
+            case "bipush", "newarray" -> {return 2;}
+            case "sipush" -> {return 3;}
+            case "iload", "aload", "istore", "astore" -> {
+                int slot = Integer.parseInt(instruction.operand);
+                return (slot <= 3) ? 1 : (slot <= 255) ? 2 : 4;
+            }
+            case "iinc" -> {
+                String[] parts = instruction.operand.trim().split("\\s+");
+                int slot = Integer.parseInt(parts[0]);
+                int delta = Integer.parseInt(parts[1]);
+                return (slot <= 255 && delta >= Byte.MIN_VALUE && delta <= Byte.MAX_VALUE) ? 3 : 6;
+            }
+            case "invokeinterface" -> {return 5;}
+            case "tableswitch", "lookupswitch" -> {
+                int padding = 3 - instruction.offset % 4;
+                int cases = switchCases(instruction.operand).size();
+                return 1 + padding + (instruction.opcode.equals("tableswitch") ? 12 + 4 * cases : 8 + 8 * cases);
+            }
+            default -> {
+                if(isBranch(instruction.opcode))
+                    return 3;
+                return (instruction.operand == null) ? 1 : 3;
+            }
+        }
+    }
+
+    private Frame[] computeFrames(){
+        Frame[] frames = new Frame[instructions.size()];
+        if(instructions.isEmpty())
+            return frames;
+        Frame initial = new Frame();
+        int slot = 0;
+        if((access & ClassWriter.ACC_STATIC) == 0)
+            initial.setLocal(slot++, name.equals("<init>") ?
+                    VerificationType.UNINITIALIZED_THIS_TYPE : VerificationType.object(className));
+        for(String argument : argumentDescriptors(descriptor))
+            initial.setLocal(slot++, VerificationType.fromDescriptor(argument));
+        maxLocals = slot;
+        maxStack = 0;
+        frames[0] = initial;
+        ArrayDeque<Integer> worklist = new ArrayDeque<>();
+        worklist.push(0);
+        while(!worklist.isEmpty()){
+            int index = worklist.pop();
+            Instruction instruction = instructions.get(index);
+            Frame frame = frames[index].copy();
+            execute(instruction, index, frame);
+            maxStack = Math.max(maxStack, frame.getStackSize());
+            maxLocals = Math.max(maxLocals, frame.getLocalsSize());
+            for(int successor : successors(instruction, index)){
+                if(successor >= instructions.size())
+                    throw new IllegalStateException("execution falls off the end of method " + name);
+                if(frames[successor] == null){
+                    frames[successor] = frame.copy();
+                    worklist.push(successor);
+                }
+                else if(frames[successor].merge(frame))
+                    worklist.push(successor);
+            }
+        }
+        return frames;
+    }
+    private ArrayList<Integer> successors(Instruction instruction, int index){
+        ArrayList<Integer> successors = new ArrayList<>();
+        if(isBranch(instruction.opcode))
+            successors.add(target(instruction.operand));
+        else if(isSwitch(instruction.opcode))
+            for(String label : switchTargets(instruction.operand))
+                successors.add(target(label));
+        switch (instruction.opcode){
+            case "goto", "return", "ireturn", "areturn", "athrow", "tableswitch", "lookupswitch" -> {}
+            default -> successors.add(index + 1);
+        }
+        return successors;
+    }
+    private int target(String label){
+        Integer target = labels.get(label.trim());
+        if(target == null)
+            throw new IllegalStateException("undefined label " + label);
+        return target;
+    }
+    private void execute(Instruction instruction, int index, Frame frame){
+        String operand = instruction.operand;
+        switch (instruction.opcode){
+            case "nop", "goto", "return", "iinc" -> {}
+            case "aconst_null" -> frame.push(VerificationType.NULL_TYPE);
+            case "iconst_m1", "iconst_0", "iconst_1", "iconst_2", "iconst_3", "iconst_4", "iconst_5",
+                 "bipush", "sipush" -> frame.push(VerificationType.INTEGER_TYPE);
+            case "ldc", "ldc_w" -> frame.push(isStringLiteral(operand) ?
+                    VerificationType.object("java/lang/String") : VerificationType.INTEGER_TYPE);
+            case "iload", "iload_0", "iload_1", "iload_2", "iload_3" -> frame.push(VerificationType.INTEGER_TYPE);
+            case "aload", "aload_0", "aload_1", "aload_2", "aload_3" -> frame.push(frame.getLocal(slotOf(instruction)));
+            case "istore", "istore_0", "istore_1", "istore_2", "istore_3" -> {
+                frame.pop();
+                frame.setLocal(slotOf(instruction), VerificationType.INTEGER_TYPE);
+            }
+            case "astore", "astore_0", "astore_1", "astore_2", "astore_3" ->
+                    frame.setLocal(slotOf(instruction), frame.pop());
+            case "iaload", "baload" -> {
+                frame.pop();
+                frame.pop();
+                frame.push(VerificationType.INTEGER_TYPE);
+            }
+            case "aaload" -> {
+                frame.pop();
+                VerificationType array = frame.pop();
+                String arrayName = array.getClassName();
+                if(arrayName != null && arrayName.startsWith("["))
+                    frame.push(VerificationType.fromDescriptor(arrayName.substring(1)));
+                else
+                    frame.push(VerificationType.object("java/lang/Object"));
+            }
+            case "iastore", "aastore", "bastore" -> {
+                frame.pop();
+                frame.pop();
+                frame.pop();
+            }
+            case "pop", "ifeq", "ifne", "iflt", "ifge", "ifgt", "ifle", "ifnull", "ifnonnull",
+                 "ireturn", "areturn", "athrow", "putstatic", "tableswitch", "lookupswitch" -> frame.pop();
+            case "pop2", "if_icmpeq", "if_icmpne", "if_icmplt", "if_icmpge", "if_icmpgt", "if_icmple",
+                 "if_acmpeq", "if_acmpne" -> {
+                frame.pop();
+                frame.pop();
+            }
+            case "dup" -> frame.push(frame.peek());
+            case "dup_x1" -> {
+                VerificationType first = frame.pop();
+                VerificationType second = frame.pop();
+                frame.push(first);
+                frame.push(second);
+                frame.push(first);
+            }
+            case "dup_x2" -> {
+                VerificationType first = frame.pop();
+                VerificationType second = frame.pop();
+                VerificationType third = frame.pop();
+                frame.push(first);
+                frame.push(third);
+                frame.push(second);
+                frame.push(first);
+            }
+            case "dup2" -> {
+                VerificationType first = frame.pop();
+                VerificationType second = frame.pop();
+                frame.push(second);
+                frame.push(first);
+                frame.push(second);
+                frame.push(first);
+            }
+            case "swap" -> {
+                VerificationType first = frame.pop();
+                VerificationType second = frame.pop();
+                frame.push(first);
+                frame.push(second);
+            }
+            case "iadd", "isub", "imul", "idiv", "irem", "ishl", "ishr", "iand", "ior", "ixor" -> {
+                frame.pop();
+                frame.pop();
+                frame.push(VerificationType.INTEGER_TYPE);
+            }
+            case "ineg" -> {
+                frame.pop();
+                frame.push(VerificationType.INTEGER_TYPE);
+            }
+            case "getstatic" -> frame.push(VerificationType.fromDescriptor(fieldDescriptor(operand)));
+            case "getfield" -> {
+                frame.pop();
+                frame.push(VerificationType.fromDescriptor(fieldDescriptor(operand)));
+            }
+            case "putfield" -> {
+                frame.pop();
+                frame.pop();
+            }
+            case "invokevirtual", "invokespecial", "invokestatic", "invokeinterface" -> {
+                String methodDescriptor = methodDescriptor(operand);
+                for(int i = 0; i < argumentDescriptors(methodDescriptor).size(); i++)
+                    frame.pop();
+                if(!instruction.opcode.equals("invokestatic")){
+                    VerificationType receiver = frame.pop();
+                    if(instruction.opcode.equals("invokespecial") && methodName(operand).equals("<init>")){
+                        if(receiver.getTag() == VerificationType.UNINITIALIZED_THIS)
+                            frame.initialize(receiver, VerificationType.object(className));
+                        else if(receiver.getTag() == VerificationType.UNINITIALIZED)
+                            frame.initialize(receiver, VerificationType.object(owner(operand)));
+                    }
+                }
+                String returnDescriptor = methodDescriptor.substring(methodDescriptor.indexOf(')') + 1);
+                if(!returnDescriptor.equals("V"))
+                    frame.push(VerificationType.fromDescriptor(returnDescriptor));
+            }
+            case "new" -> frame.push(VerificationType.uninitialized(index));
+            case "newarray" -> {
+                frame.pop();
+                frame.push(VerificationType.object(switch (operand.trim()){
+                    case "boolean" -> "[Z";
+                    case "int" -> "[I";
+                    default -> throw new IllegalArgumentException("unsupported array type " + operand);
+                }));
+            }
+            case "anewarray" -> {
+                frame.pop();
+                String component = operand.trim();
+                frame.push(VerificationType.object(component.startsWith("[") ?
+                        "[" + component : "[L" + component + ";"));
+            }
+            case "arraylength", "instanceof" -> {
+                frame.pop();
+                frame.push(VerificationType.INTEGER_TYPE);
+            }
+            case "checkcast" -> {
+                frame.pop();
+                frame.push(VerificationType.object(operand.trim()));
+            }
+            default -> throw new IllegalArgumentException("unsupported instruction " + instruction.opcode);
+        }
+    }
+
+    private TreeMap<Integer, Frame> stackMapFrames(Frame[] frames){
+        TreeMap<Integer, Frame> stackMap = new TreeMap<>();
+        for(int i = 0; i < instructions.size(); i++){
+            Instruction instruction = instructions.get(i);
+            if(frames[i] != null && isBranch(instruction.opcode)){
+                int target = target(instruction.operand);
+                stackMap.put(target, frames[target]);
+            }
+            else if(frames[i] != null && isSwitch(instruction.opcode))
+                for(String label : switchTargets(instruction.operand))
+                    stackMap.put(target(label), frames[target(label)]);
+        }
+        for(int i = 0; i < instructions.size(); i++){
+            if(frames[i] == null && (i == 0 || frames[i - 1] != null)){
+                Frame deadCode = new Frame();
+                deadCode.push(VerificationType.object("java/lang/Throwable"));
+                stackMap.put(i, deadCode);
+                maxStack = Math.max(maxStack, 1);
+            }
+        }
+        return stackMap;
+    }
+
+    private byte[] encode(int[] offsets, Frame[] frames) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        int index = 0;
+        while(index < instructions.size()){
+            if(frames[index] == null){
+                // unreachable code is replaced by nop ... athrow, as the verifier still checks it
+                int end = index;
+                while(end < instructions.size() && frames[end] == null)
+                    end++;
+                for(int i = offsets[index]; i < offsets[end] - 1; i++)
+                    out.writeByte(OPCODES.get("nop"));
+                out.writeByte(OPCODES.get("athrow"));
+                index = end;
+                continue;
+            }
+            encode(instructions.get(index), out, offsets);
+            index++;
+        }
+        return bytes.toByteArray();
+    }
+    private void encode(Instruction instruction, DataOutputStream out, int[] offsets) throws IOException {
+        String opcode = instruction.opcode;
+        String operand = instruction.operand;
+        switch (opcode){
+            case "ldc", "ldc_w" -> {
+                if(instruction.constantIndex == 0){
+                    int value = Integer.parseInt(operand.trim());
+                    if(value >= -1 && value <= 5)
+                        out.writeByte(OPCODES.get("iconst_0") + value);
+                    else if(instruction.size == 2){
+                        out.writeByte(OPCODES.get("bipush"));
+                        out.writeByte(value);
+                    }
+                    else {
+                        out.writeByte(OPCODES.get("sipush"));
+                        out.writeShort(value);
+                    }
+                }
+                else if(instruction.size == 2){
+                    out.writeByte(OPCODES.get("ldc"));
+                    out.writeByte(instruction.constantIndex);
+                }
+                else {
+                    out.writeByte(OPCODES.get("ldc_w"));
+                    out.writeShort(instruction.constantIndex);
+                }
+            }
+            case "bipush" -> {
+                out.writeByte(OPCODES.get(opcode));
+                out.writeByte(Integer.parseInt(operand.trim()));
+            }
+            case "sipush" -> {
+                out.writeByte(OPCODES.get(opcode));
+                out.writeShort(Integer.parseInt(operand.trim()));
+            }
+            case "iload", "aload", "istore", "astore" -> {
+                int slot = Integer.parseInt(operand.trim());
+                if(slot <= 3)
+                    out.writeByte(OPCODES.get(opcode + "_" + slot));
+                else if(slot <= 255){
+                    out.writeByte(OPCODES.get(opcode));
+                    out.writeByte(slot);
+                }
+                else {
+                    out.writeByte(WIDE);
+                    out.writeByte(OPCODES.get(opcode));
+                    out.writeShort(slot);
+                }
+            }
+            case "iinc" -> {
+                String[] parts = operand.trim().split("\\s+");
+                int slot = Integer.parseInt(parts[0]);
+                int delta = Integer.parseInt(parts[1]);
+                if(instruction.size == 3){
+                    out.writeByte(OPCODES.get(opcode));
+                    out.writeByte(slot);
+                    out.writeByte(delta);
+                }
+                else {
+                    out.writeByte(WIDE);
+                    out.writeByte(OPCODES.get(opcode));
+                    out.writeShort(slot);
+                    out.writeShort(delta);
+                }
+            }
+            case "getstatic", "putstatic", "getfield", "putfield" -> {
+                String[] parts = operand.trim().split("\\s+");
+                out.writeByte(OPCODES.get(opcode));
+                out.writeShort(constantPool.fieldRef(owner(parts[0]), memberName(parts[0]), parts[1]));
+            }
+            case "invokevirtual", "invokespecial", "invokestatic", "invokeinterface" -> {
+                boolean isInterface = opcode.equals("invokeinterface");
+                String methodDescriptor = methodDescriptor(operand);
+                out.writeByte(OPCODES.get(opcode));
+                out.writeShort(constantPool.methodRef(owner(operand), methodName(operand), methodDescriptor,
+                        isInterface));
+                if(isInterface){
+                    out.writeByte(argumentDescriptors(methodDescriptor).size() + 1);
+                    out.writeByte(0);
+                }
+            }
+            case "new", "anewarray", "checkcast", "instanceof" -> {
+                out.writeByte(OPCODES.get(opcode));
+                out.writeShort(constantPool.classRef(operand.trim()));
+            }
+            case "newarray" -> {
+                out.writeByte(OPCODES.get(opcode));
+                out.writeByte(operand.trim().equals("boolean") ? 4 : 10);
+            }
+            case "tableswitch", "lookupswitch" -> {
+                out.writeByte(OPCODES.get(opcode));
+                for(int i = 0; i < 3 - instruction.offset % 4; i++)
+                    out.writeByte(0);
+                TreeMap<Integer, String> cases = switchCases(operand);
+                out.writeInt(offsets[target(switchDefault(operand))] - instruction.offset);
+                if(opcode.equals("tableswitch")){
+                    out.writeInt(cases.firstKey());
+                    out.writeInt(cases.lastKey());
+                }
+                else
+                    out.writeInt(cases.size());
+                for(Map.Entry<Integer, String> switchCase : cases.entrySet()){
+                    if(opcode.equals("lookupswitch"))
+                        out.writeInt(switchCase.getKey());
+                    out.writeInt(offsets[target(switchCase.getValue())] - instruction.offset);
+                }
+            }
+            default -> {
+                out.writeByte(OPCODES.get(opcode));
+                if(isBranch(opcode)){
+                    int jump = offsets[target(operand)] - instruction.offset;
+                    if(jump < Short.MIN_VALUE || jump > Short.MAX_VALUE)
+                        throw new IllegalStateException("branch offset out of range in method " + name);
+                    out.writeShort(jump);
+                }
+            }
+        }
+    }
+
+    private int slotOf(Instruction instruction){
+        int separator = instruction.opcode.indexOf('_');
+        if(separator >= 0)
+            return Integer.parseInt(instruction.opcode.substring(separator + 1));
+        return Integer.parseInt(instruction.operand.trim());
+    }
+    private static boolean isBranch(String opcode){
+        return opcode.startsWith("if") || opcode.equals("goto");
+    }
+    private static boolean isSwitch(String opcode){
+        return opcode.equals("tableswitch") || opcode.equals("lookupswitch");
+    }
+    // a switch operand is written the way Jasmin reads it: "low high" and then a label per line for a
+    // tableswitch, a "key : label" line per key for a lookupswitch, and "default : label" last
+    private static TreeMap<Integer, String> switchCases(String operand){
+        String[] tokens = operand.trim().split("\\s+");
+        TreeMap<Integer, String> cases = new TreeMap<>();
+        if(tokens.length > 1 && !tokens[1].equals(":")){
+            int key = Integer.parseInt(tokens[0]);
+            for(int i = 2; !tokens[i].equals("default"); i++)
+                cases.put(key++, tokens[i]);
+        }
+        else
+            for(int i = 0; !tokens[i].equals("default"); i += 3)
+                cases.put(Integer.parseInt(tokens[i]), tokens[i + 2]);
+        return cases;
+    }
+    private static String switchDefault(String operand){
+        String[] tokens = operand.trim().split("\\s+");
+        return tokens[tokens.length - 1];
+    }
+    public static ArrayList<String> switchTargets(String operand){
+        ArrayList<String> targets = new ArrayList<>(switchCases(operand).values());
+        targets.add(switchDefault(operand));
+        return targets;
+    }
+    private static boolean isStringLiteral(String operand){
+        return operand.trim().startsWith("\"");
+    }
+    private static String unquote(String literal){
+        literal = literal.trim();
+        StringBuilder value = new StringBuilder();
+        for(int i = 1; i < literal.length() - 1; i++){
+            char c = literal.charAt(i);
+            if(c != '\\' || i + 1 >= literal.length() - 1){
+                value.append(c);
+                continue;
+            }
+            char escaped = literal.charAt(++i);
+            switch (escaped){
+                case 'n' -> value.append('\n');
+                case 't' -> value.append('\t');
+                case 'r' -> value.append('\r');
+                case 'b' -> value.append('\b');
+                case 'f' -> value.append('\f');
+                case 'u' -> {
+                    value.append((char) Integer.parseInt(literal.substring(i + 1, i + 5), 16));
+                    i += 4;
+                }
+                default -> value.append(escaped);
+            }
+        }
+        return value.toString();
+    }
+    private static String fieldDescriptor(String operand){
+        return operand.trim().split("\\s+")[1];
+    }
+    private static String methodDescriptor(String operand){
+        String reference = operand.trim().split("\\s+")[0];
+        return reference.substring(reference.indexOf('('));
+    }
+    private static String memberReference(String operand){
+        String reference = operand.trim().split("\\s+")[0];
+        int descriptorStart = reference.indexOf('(');
+        return (descriptorStart >= 0) ? reference.substring(0, descriptorStart) : reference;
+    }
+    private static String owner(String operand){
+        String reference = memberReference(operand);
+        return reference.substring(0, reference.lastIndexOf('/'));
+    }
+    private static String memberName(String operand){
+        String reference = memberReference(operand);
+        return reference.substring(reference.lastIndexOf('/') + 1);
+    }
+    private static String methodName(String operand){
+        return memberName(operand);
+    }
+    public static ArrayList<String> argumentDescriptors(String methodDescriptor){
+        ArrayList<String> arguments = new ArrayList<>();
+        int i = 1;
+        while(methodDescriptor.charAt(i) != ')'){
+            int start = i;
+            while(methodDescriptor.charAt(i) == '[')
+                i++;
+            if(methodDescriptor.charAt(i) == 'L')
+                i = methodDescriptor.indexOf(';', i);
+            i++;
+            arguments.add(methodDescriptor.substring(start, i));
+        }
+        return arguments;
+    }
+}
@@ -0,0 +1,81 @@
+package main.visitor.codeGenerator.bytecode;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Objects;
+
+public class VerificationType {
+    public static final int TOP = 0;
+    public static final int INTEGER = 1;
+    public static final int NULL = 5;
+    public static final int UNINITIALIZED_THIS = 6;
+    public static final int OBJECT = 7;
+    public static final int UNINITIALIZED = 8;
+
+    public static final VerificationType TOP_TYPE = new VerificationType(TOP, null, -1);
+    public static final VerificationType INTEGER_TYPE = new VerificationType(INTEGER, null, -1);
+    public static final VerificationType NULL_TYPE = new VerificationType(NULL, null, -1);
+    public static final VerificationType UNINITIALIZED_THIS_TYPE = new VerificationType(UNINITIALIZED_THIS, null, -1);
+
+    private final int tag;
+    private final String className;
+    // index of the "new" instruction for uninitialized types
+    private final int newInstruction;
+
+    private VerificationType(int tag, String className, int newInstruction){
+        this.tag = tag;
+        this.className = className;
+        this.newInstruction = newInstruction;
+    }
+    public static VerificationType object(String className){
+        return new VerificationType(OBJECT, className, -1);
+    }
+    public static VerificationType uninitialized(int newInstruction){
+        return new VerificationType(UNINITIALIZED, null, newInstruction);
+    }
+    public static VerificationType fromDescriptor(String descriptor){
+        switch (descriptor.charAt(0)){
+            case 'I', 'Z', 'B', 'C', 'S' -> {return INTEGER_TYPE;}
+            case 'L' -> {return object(descriptor.substring(1, descriptor.length() - 1));}
+            case '[' -> {return object(descriptor);}
+            default -> throw new IllegalArgumentException("unsupported descriptor " + descriptor);
+        }
+    }
+
+    public int getTag(){return tag;}
+    public String getClassName(){return className;}
+    public int getNewInstruction(){return newInstruction;}
+
+    public static VerificationType merge(VerificationType first, VerificationType second){
+        if(first.equals(second))
+            return first;
+        if(first.tag == OBJECT && second.tag == OBJECT)
+            return object("java/lang/Object");
+        if(first.tag == NULL && second.tag == OBJECT)
+            return second;
+        if(second.tag == NULL && first.tag == OBJECT)
+            return first;
+        return TOP_TYPE;
+    }
+
+    public void write(DataOutputStream out, ConstantPool constantPool, int[] offsets) throws IOException {
+        out.writeByte(tag);
+        if(tag == OBJECT)
+            out.writeShort(constantPool.classRef(className));
+        else if(tag == UNINITIALIZED)
+            out.writeShort(offsets[newInstruction]);
+    }
+
+    @Override
+    public boolean equals(Object obj){
+        if(this == obj)
+            return true;
+        if(!(obj instanceof VerificationType other))
+            return false;
+        return tag == other.tag && newInstruction == other.newInstruction && Objects.equals(className, other.className);
+    }
+    @Override
+    public int hashCode(){
+        return Objects.hash(tag, className, newInstruction);
+    }
+}
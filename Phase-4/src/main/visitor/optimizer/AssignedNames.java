@@ -0,0 +1,122 @@
+package main.visitor.optimizer;
+
+import main.ast.nodes.Node;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.operators.UnaryOperator;
+import main.ast.nodes.expression.value.ListValue;
+import main.ast.nodes.statement.*;
+import main.visitor.Visitor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+// collects the names of the variables a block of statements may write, through assignments, for iterators and
+// ++/--. Lambda bodies are left out because they cannot write the enclosing function's variables.
+class AssignedNames extends Visitor<Void> {
+    private final HashSet<String> names = new HashSet<>();
+
+    static HashSet<String> of(ArrayList<Statement> statements){
+        AssignedNames assignedNames = new AssignedNames();
+        assignedNames.visitAll(statements);
+        return assignedNames.names;
+    }
+
+    private void visitAll(ArrayList<? extends Node> nodes){
+        for (Node node : nodes)
+            node.accept(this);
+    }
+
+    @Override
+    public Void visit(AssignStatement assignStatement){
+        if (!assignStatement.isAccessList())
+            names.add(assignStatement.getAssignedId().getName());
+        else
+            assignStatement.getAccessListExpression().accept(this);
+        return assignStatement.getAssignExpression().accept(this);
+    }
+    @Override
+    public Void visit(IfStatement ifStatement){
+        visitAll(ifStatement.getConditions());
+        visitAll(ifStatement.getThenBody());
+        visitAll(ifStatement.getElseBody());
+        return null;
+    }
+    @Override
+    public Void visit(LoopDoStatement loopDoStatement){
+        visitAll(loopDoStatement.getLoopBodyStmts());
+        return null;
+    }
+    @Override
+    public Void visit(ForStatement forStatement){
+        names.add(forStatement.getIteratorId().getName());
+        visitAll(forStatement.getRangeExpression().getRangeExpressions());
+        visitAll(forStatement.getLoopBodyStmts());
+        return null;
+    }
+    @Override
+    public Void visit(PutStatement putStatement){
+        return putStatement.getExpression().accept(this);
+    }
+    @Override
+    public Void visit(ReturnStatement returnStatement){
+        if (returnStatement.hasRetExpression())
+            returnStatement.getReturnExp().accept(this);
+        return null;
+    }
+    @Override
+    public Void visit(ExpressionStatement expressionStatement){
+        return expressionStatement.getExpression().accept(this);
+    }
+    @Override
+    public Void visit(PushStatement pushStatement){
+        pushStatement.getInitial().accept(this);
+        return pushStatement.getToBeAdded().accept(this);
+    }
+    @Override
+    public Void visit(UnaryExpression unaryExpression){
+        UnaryOperator operator = unaryExpression.getOperator();
+        if ((operator == UnaryOperator.INC || operator == UnaryOperator.DEC) &&
+                unaryExpression.getExpression() instanceof Identifier identifier)
+            names.add(identifier.getName());
+        return unaryExpression.getExpression().accept(this);
+    }
+    @Override
+    public Void visit(BinaryExpression binaryExpression){
+        binaryExpression.getFirstOperand().accept(this);
+        return binaryExpression.getSecondOperand().accept(this);
+    }
+    @Override
+    public Void visit(AccessExpression accessExpression){
+        accessExpression.getAccessedExpression().accept(this);
+        visitAll(accessExpression.getArguments());
+        visitAll(accessExpression.getDimentionalAccess());
+        return null;
+    }
+    @Override
+    public Void visit(AppendExpression appendExpression){
+        appendExpression.getAppendee().accept(this);
+        visitAll(appendExpression.getAppendeds());
+        return null;
+    }
+    @Override
+    public Void visit(LenStatement lenStatement){
+        return lenStatement.getExpression().accept(this);
+    }
+    @Override
+    public Void visit(ChopStatement chopStatement){
+        return chopStatement.getChopExpression().accept(this);
+    }
+    @Override
+    public Void visit(ChompStatement chompStatement){
+        return chompStatement.getChompExpression().accept(this);
+    }
+    @Override
+    public Void visit(MatchPatternStatement matchPatternStatement){
+        return matchPatternStatement.getMatchArgument().accept(this);
+    }
+    @Override
+    public Void visit(ListValue listValue){
+        visitAll(listValue.getElements());
+        return null;
+    }
+}
@@ -0,0 +1,170 @@
+package main.visitor.optimizer;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.value.ListValue;
+import main.ast.nodes.statement.*;
+import main.visitor.Visitor;
+import main.visitor.type.TypeTable;
+
+import java.util.ArrayList;
+
+// the traversal shared by the optimizations: it walks every function and main body, and visiting an expression
+// returns the node that should stand in its place. By default every node stands for itself, so a pass only
+// overrides the nodes it rewrites.
+public abstract class AstRewriter extends Visitor<Expression> {
+    protected final TypeTable types;
+
+    protected AstRewriter(TypeTable types){
+        this.types = types;
+    }
+
+    protected Expression rewrite(Expression expression){
+        Expression rewritten = expression.accept(this);
+        if (rewritten == null || rewritten == expression)
+            return expression;
+        types.replace(expression, rewritten);
+        return rewritten;
+    }
+    protected void rewriteAll(ArrayList<Expression> expressions){
+        for (int i = 0; i < expressions.size(); i++)
+            expressions.set(i, rewrite(expressions.get(i)));
+    }
+    protected void rewriteBody(ArrayList<Statement> body){
+        for (Statement statement : body)
+            statement.accept(this);
+    }
+
+    @Override
+    public Expression visit(Program program){
+        for (FunctionDeclaration functionDeclaration : program.getFunctionDeclarations())
+            functionDeclaration.accept(this);
+        program.getMain().accept(this);
+        return null;
+    }
+    @Override
+    public Expression visit(FunctionDeclaration functionDeclaration){
+        rewriteBody(functionDeclaration.getBody());
+        return null;
+    }
+    @Override
+    public Expression visit(MainDeclaration mainDeclaration){
+        rewriteBody(mainDeclaration.getBody());
+        return null;
+    }
+    @Override
+    public Expression visit(AssignStatement assignStatement){
+        assignStatement.setAssignExpression(rewrite(assignStatement.getAssignExpression()));
+        if (assignStatement.isAccessList())
+            assignStatement.setAccessListExpression(rewrite(assignStatement.getAccessListExpression()));
+        return null;
+    }
+    @Override
+    public Expression visit(IfStatement ifStatement){
+        rewriteAll(ifStatement.getConditions());
+        rewriteBody(ifStatement.getThenBody());
+        rewriteBody(ifStatement.getElseBody());
+        return null;
+    }
+    @Override
+    public Expression visit(LoopDoStatement loopDoStatement){
+        rewriteBody(loopDoStatement.getLoopBodyStmts());
+        return null;
+    }
+    @Override
+    public Expression visit(ForStatement forStatement){
+        rewriteAll(forStatement.getRangeExpression().getRangeExpressions());
+        rewriteBody(forStatement.getLoopBodyStmts());
+        return null;
+    }
+    @Override
+    public Expression visit(BreakStatement breakStatement){
+        rewriteAll(breakStatement.getConditions());
+        return null;
+    }
+    @Override
+    public Expression visit(NextStatement nextStatement){
+        rewriteAll(nextStatement.getConditions());
+        return null;
+    }
+    @Override
+    public Expression visit(PutStatement putStatement){
+        putStatement.setExpression(rewrite(putStatement.getExpression()));
+        return null;
+    }
+    @Override
+    public Expression visit(ReturnStatement returnStatement){
+        if (returnStatement.hasRetExpression())
+            returnStatement.setReturnExp(rewrite(returnStatement.getReturnExp()));
+        return null;
+    }
+    @Override
+    public Expression visit(ExpressionStatement expressionStatement){
+        expressionStatement.setExpression(rewrite(expressionStatement.getExpression()));
+        return null;
+    }
+    @Override
+    public Expression visit(PushStatement pushStatement){
+        pushStatement.setInitial(rewrite(pushStatement.getInitial()));
+        pushStatement.setToBeAdded(rewrite(pushStatement.getToBeAdded()));
+        return null;
+    }
+
+    @Override
+    public Expression visit(Identifier identifier){
+        return identifier;
+    }
+    @Override
+    public Expression visit(BinaryExpression binaryExpression){
+        binaryExpression.setFirstOperand(rewrite(binaryExpression.getFirstOperand()));
+        binaryExpression.setSecondOperand(rewrite(binaryExpression.getSecondOperand()));
+        return binaryExpression;
+    }
+    @Override
+    public Expression visit(UnaryExpression unaryExpression){
+        unaryExpression.setExpression(rewrite(unaryExpression.getExpression()));
+        return unaryExpression;
+    }
+    @Override
+    public Expression visit(AccessExpression accessExpression){
+        // the callee of a call is resolved by the type checker, so only the arguments are rewritten
+        if (!accessExpression.isFunctionCall())
+            accessExpression.setAccessedExpression(rewrite(accessExpression.getAccessedExpression()));
+        rewriteAll(accessExpression.getArguments());
+        rewriteAll(accessExpression.getDimentionalAccess());
+        return accessExpression;
+    }
+    @Override
+    public Expression visit(AppendExpression appendExpression){
+        appendExpression.setAppendee(rewrite(appendExpression.getAppendee()));
+        rewriteAll(appendExpression.getAppendeds());
+        return appendExpression;
+    }
+    @Override
+    public Expression visit(LenStatement lenStatement){
+        lenStatement.setExpression(rewrite(lenStatement.getExpression()));
+        return lenStatement;
+    }
+    @Override
+    public Expression visit(ChopStatement chopStatement){
+        chopStatement.setChopExpression(rewrite(chopStatement.getChopExpression()));
+        return chopStatement;
+    }
+    @Override
+    public Expression visit(ChompStatement chompStatement){
+        chompStatement.setChompExpression(rewrite(chompStatement.getChompExpression()));
+        return chompStatement;
+    }
+    @Override
+    public Expression visit(MatchPatternStatement matchPatternStatement){
+        matchPatternStatement.setMatchArgument(rewrite(matchPatternStatement.getMatchArgument()));
+        return matchPatternStatement;
+    }
+    @Override
+    public Expression visit(ListValue listValue){
+        rewriteAll(listValue.getElements());
+        return listValue;
+    }
+}
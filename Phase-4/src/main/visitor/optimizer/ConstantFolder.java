@@ -0,0 +1,190 @@
+package main.visitor.optimizer;
+
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.operators.BinaryOperator;
+import main.ast.nodes.expression.operators.UnaryOperator;
+import main.ast.nodes.expression.value.Value;
+import main.ast.nodes.expression.value.primitive.BoolValue;
+import main.ast.nodes.expression.value.primitive.IntValue;
+import main.ast.nodes.statement.*;
+import main.visitor.type.TypeTable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Objects;
+
+// runs between type checking and code generation. It folds int and bool operators whose operands are literals,
+// replaces a read of a variable that holds a known int or bool with that literal, and keeps only the taken
+// branch of an if whose condition folds to a literal. Function bodies are shared by their specializations, so
+// only such literals are propagated: they mean the same thing whatever the argument types are.
+public class ConstantFolder extends AstRewriter {
+    // the int or bool every variable in here is known to hold at the current point
+    private HashMap<String, Object> constants = new HashMap<>();
+
+    public ConstantFolder(TypeTable types){
+        super(types);
+    }
+
+    @Override
+    protected void rewriteBody(ArrayList<Statement> body){
+        for (int i = 0; i < body.size(); i++) {
+            Statement statement = body.get(i);
+            statement.accept(this);
+            if (statement instanceof IfStatement ifStatement && constantCondition(ifStatement) != null) {
+                ArrayList<Statement> taken = constantCondition(ifStatement) ? ifStatement.getThenBody() :
+                        ifStatement.getElseBody();
+                body.remove(i);
+                body.addAll(i, taken);
+                i += taken.size() - 1;
+            }
+        }
+    }
+    private static Boolean constantCondition(IfStatement ifStatement){
+        // several conditions are joined by and/or, which the tree does not keep, so only a lone one is folded
+        ArrayList<Expression> conditions = ifStatement.getConditions();
+        return conditions.size() == 1 && conditions.getFirst() instanceof BoolValue condition ?
+                condition.getBool() : null;
+    }
+    private static Object valueOf(Expression expression){
+        if (expression instanceof IntValue intValue)
+            return intValue.getIntVal();
+        if (expression instanceof BoolValue boolValue)
+            return boolValue.getBool();
+        return null;
+    }
+    private static Value literal(Object value, int line){
+        Value literal = value instanceof Integer intVal ? new IntValue(intVal) : new BoolValue((Boolean) value);
+        literal.setLine(line);
+        return literal;
+    }
+    // a loop body may run any number of times, so nothing it writes is known inside it or after it
+    private void rewriteLoopBody(ArrayList<Statement> body){
+        constants.keySet().removeAll(AssignedNames.of(body));
+        HashMap<String, Object> beforeBody = new HashMap<>(constants);
+        rewriteBody(body);
+        constants = beforeBody;
+    }
+
+    @Override
+    public Expression visit(FunctionDeclaration functionDeclaration){
+        constants = new HashMap<>();
+        return super.visit(functionDeclaration);
+    }
+    @Override
+    public Expression visit(MainDeclaration mainDeclaration){
+        constants = new HashMap<>();
+        return super.visit(mainDeclaration);
+    }
+    @Override
+    public Expression visit(AssignStatement assignStatement){
+        super.visit(assignStatement);
+        if (assignStatement.isAccessList())
+            return null;
+        String name = assignStatement.getAssignedId().getName();
+        Object assigned = valueOf(assignStatement.getAssignExpression());
+        Object current = constants.get(name);
+        Object value = switch (assignStatement.getAssignOperator()) {
+            case ASSIGN -> assigned;
+            case PLUS_ASSIGN -> apply(BinaryOperator.PLUS, current, assigned);
+            case MINUS_ASSIGN -> apply(BinaryOperator.MINUS, current, assigned);
+            case MULT_ASSIGN -> apply(BinaryOperator.MULT, current, assigned);
+            case DIVIDE_ASSIGN -> apply(BinaryOperator.DIVIDE, current, assigned);
+            case MOD_ASSIGN -> current instanceof Integer a && assigned instanceof Integer b && b != 0 ? a % b : null;
+        };
+        if (value == null)
+            constants.remove(name);
+        else
+            constants.put(name, value);
+        return null;
+    }
+    @Override
+    public Expression visit(IfStatement ifStatement){
+        rewriteAll(ifStatement.getConditions());
+        Boolean condition = constantCondition(ifStatement);
+        if (condition != null) {
+            rewriteBody(condition ? ifStatement.getThenBody() : ifStatement.getElseBody());
+            return null;
+        }
+        HashMap<String, Object> beforeBranches = constants;
+        constants = new HashMap<>(beforeBranches);
+        rewriteBody(ifStatement.getThenBody());
+        HashMap<String, Object> afterThen = constants;
+        constants = new HashMap<>(beforeBranches);
+        rewriteBody(ifStatement.getElseBody());
+        constants.entrySet().removeIf(entry -> !Objects.equals(afterThen.get(entry.getKey()), entry.getValue()));
+        return null;
+    }
+    @Override
+    public Expression visit(LoopDoStatement loopDoStatement){
+        rewriteLoopBody(loopDoStatement.getLoopBodyStmts());
+        return null;
+    }
+    @Override
+    public Expression visit(ForStatement forStatement){
+        rewriteAll(forStatement.getRangeExpression().getRangeExpressions());
+        constants.remove(forStatement.getIteratorId().getName());
+        rewriteLoopBody(forStatement.getLoopBodyStmts());
+        return null;
+    }
+
+    @Override
+    public Expression visit(Identifier identifier){
+        Object value = constants.get(identifier.getName());
+        return value == null ? identifier : literal(value, identifier.getLine());
+    }
+    @Override
+    public Expression visit(BinaryExpression binaryExpression){
+        super.visit(binaryExpression);
+        Object value = apply(binaryExpression.getOperator(), valueOf(binaryExpression.getFirstOperand()),
+                valueOf(binaryExpression.getSecondOperand()));
+        return value == null ? binaryExpression : literal(value, binaryExpression.getLine());
+    }
+    private static Object apply(BinaryOperator operator, Object first, Object second){
+        if (first instanceof Integer a && second instanceof Integer b) {
+            return switch (operator) {
+                case PLUS -> a + b;
+                case MINUS -> a - b;
+                case MULT -> a * b;
+                // dividing by zero is left to throw at run time
+                case DIVIDE -> b == 0 ? null : a / b;
+                case EQUAL -> a.equals(b);
+                case NOT_EQUAL -> !a.equals(b);
+                case GREATER_THAN -> a > b;
+                case LESS_THAN -> a < b;
+                case LESS_EQUAL_THAN -> a <= b;
+                case GREATER_EQUAL_THAN -> a >= b;
+                case AND, OR -> null;
+            };
+        }
+        if (first instanceof Boolean a && second instanceof Boolean b) {
+            if (operator == BinaryOperator.EQUAL)
+                return a.equals(b);
+            if (operator == BinaryOperator.NOT_EQUAL)
+                return !a.equals(b);
+            if (operator == BinaryOperator.AND)
+                return a && b;
+            if (operator == BinaryOperator.OR)
+                return a || b;
+        }
+        return null;
+    }
+    @Override
+    public Expression visit(UnaryExpression unaryExpression){
+        UnaryOperator operator = unaryExpression.getOperator();
+        if (operator == UnaryOperator.INC || operator == UnaryOperator.DEC) {
+            // the operand is written back, so it stays a variable and stops being known
+            if (unaryExpression.getExpression() instanceof Identifier identifier)
+                constants.remove(identifier.getName());
+            return unaryExpression;
+        }
+        super.visit(unaryExpression);
+        Object operand = valueOf(unaryExpression.getExpression());
+        if (operator == UnaryOperator.MINUS && operand instanceof Integer intVal)
+            return literal(-intVal, unaryExpression.getLine());
+        if (operator == UnaryOperator.NOT && operand instanceof Boolean bool)
+            return literal(!bool, unaryExpression.getLine());
+        return unaryExpression;
+    }
+}
@@ -0,0 +1,123 @@
+package main.visitor.optimizer;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.PatternDeclaration;
+import main.ast.nodes.expression.AccessExpression;
+import main.ast.nodes.expression.Expression;
+import main.ast.nodes.expression.MatchPatternStatement;
+import main.ast.nodes.expression.value.FunctionPointer;
+import main.ast.nodes.statement.*;
+import main.symbolTable.item.PatternItem;
+import main.visitor.type.Specialization;
+import main.visitor.type.TypeTable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+// runs after the other optimizations. Every body reachable from main loses the statements that follow a return,
+// or a break or next without conditions, and the specializations, functions and patterns that reachable code
+// does not use are dropped, so no method is generated for them. A body reused from the incremental cache is not
+// walked; the callees the type checker recorded for it stay reachable instead.
+public class DeadCodeEliminator extends AstRewriter {
+    private String context;
+    private final HashSet<Specialization> reachable = new HashSet<>();
+    private final ArrayDeque<Specialization> unvisited = new ArrayDeque<>();
+    // patterns are tracked by the method generated for each type they are matched against
+    private final HashSet<String> matchedPatterns = new HashSet<>();
+    private final ArrayDeque<String> unvisitedPatterns = new ArrayDeque<>();
+
+    public DeadCodeEliminator(TypeTable types){
+        super(types);
+    }
+
+    private void reach(Specialization specialization){
+        if (specialization != null && reachable.add(specialization))
+            unvisited.add(specialization);
+    }
+    // whether control never gets past the statement
+    private static boolean transfersControl(Statement statement){
+        return switch (statement) {
+            case ReturnStatement returnStatement -> true;
+            case BreakStatement breakStatement -> breakStatement.getConditions().isEmpty();
+            case NextStatement nextStatement -> nextStatement.getConditions().isEmpty();
+            case IfStatement ifStatement -> !ifStatement.getElseBody().isEmpty() &&
+                    endsWithTransfer(ifStatement.getThenBody()) && endsWithTransfer(ifStatement.getElseBody());
+            default -> false;
+        };
+    }
+    private static boolean endsWithTransfer(ArrayList<Statement> body){
+        return !body.isEmpty() && transfersControl(body.getLast());
+    }
+
+    @Override
+    protected void rewriteBody(ArrayList<Statement> body){
+        for (int i = 0; i < body.size(); i++) {
+            if (transfersControl(body.get(i))) {
+                body.subList(i + 1, body.size()).clear();
+                break;
+            }
+        }
+        super.rewriteBody(body);
+    }
+
+    @Override
+    public Expression visit(Program program){
+        context = TypeTable.MAIN_CONTEXT;
+        program.getMain().accept(this);
+        while (!unvisited.isEmpty() || !unvisitedPatterns.isEmpty()) {
+            if (!unvisitedPatterns.isEmpty()) {
+                String methodName = unvisitedPatterns.poll();
+                PatternDeclaration patternDeclaration = types.getPatterns().get(methodName);
+                context = PatternItem.START_KEY + methodName;
+                rewriteAll(patternDeclaration.getConditions());
+                rewriteAll(patternDeclaration.getReturnExp());
+                continue;
+            }
+            Specialization specialization = unvisited.poll();
+            if (specialization.getBody() != null)
+                for (Specialization callee : types.getDependencies(specialization.getKey()))
+                    reach(callee);
+            else {
+                context = specialization.getKey();
+                specialization.getFunctionDeclaration().accept(this);
+            }
+        }
+
+        types.retainSpecializations(reachable);
+        HashSet<FunctionDeclaration> usedFunctions = new HashSet<>();
+        for (Specialization specialization : reachable)
+            usedFunctions.add(specialization.getFunctionDeclaration());
+        program.getFunctionDeclarations().removeIf(functionDeclaration -> !usedFunctions.contains(functionDeclaration));
+        types.retainPatterns(matchedPatterns);
+        program.getPatternDeclarations().removeIf(patternDeclaration ->
+                !types.getPatterns().containsValue(patternDeclaration));
+        return null;
+    }
+
+    @Override
+    public Expression visit(AccessExpression accessExpression){
+        if (accessExpression.isFunctionCall())
+            reach(types.getCallTarget(context, accessExpression));
+        return super.visit(accessExpression);
+    }
+    @Override
+    public Expression visit(FunctionPointer functionPointer){
+        // a pointer may be called wherever it is passed, and is resolved by name when it is, so every
+        // specialization of the function it names is kept
+        for (Specialization specialization : types.getSpecializations())
+            if (specialization.getFunctionDeclaration().getFunctionName().getName()
+                    .equals(functionPointer.getId().getName()))
+                reach(specialization);
+        return functionPointer;
+    }
+    @Override
+    public Expression visit(MatchPatternStatement matchPatternStatement){
+        String methodName = TypeTable.patternMethodName(matchPatternStatement.getPatternId().getName(),
+                types.get(context, matchPatternStatement.getMatchArgument()));
+        if (types.getPatterns().containsKey(methodName) && matchedPatterns.add(methodName))
+            unvisitedPatterns.add(methodName);
+        return super.visit(matchPatternStatement);
+    }
+}
@@ -0,0 +1,177 @@
+package main.visitor.optimizer;
+
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.operators.BinaryOperator;
+import main.ast.nodes.expression.operators.UnaryOperator;
+import main.ast.nodes.expression.value.FunctionPointer;
+import main.ast.nodes.expression.value.ListValue;
+import main.ast.nodes.expression.value.primitive.BoolValue;
+import main.ast.nodes.expression.value.primitive.IntValue;
+import main.ast.nodes.expression.value.primitive.StringValue;
+import main.visitor.Visitor;
+import main.visitor.type.TypeTable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+// copies a callee's return expression into a call site. Each parameter is replaced by a copy of its argument, and
+// every new node gets, in each caller context, the type and call target its original had in the matching callee
+// context; argument nodes already live in the caller contexts.
+class ExpressionCopier extends Visitor<Expression> {
+    private final TypeTable types;
+    private final ArrayList<String> callerContexts;
+    private final ArrayList<String> calleeContexts;
+    private final HashMap<String, Expression> arguments;
+    private ArrayList<String> sourceContexts;
+
+    ExpressionCopier(TypeTable types, ArrayList<String> callerContexts, ArrayList<String> calleeContexts,
+                     HashMap<String, Expression> arguments){
+        this.types = types;
+        this.callerContexts = callerContexts;
+        this.calleeContexts = calleeContexts;
+        this.arguments = arguments;
+        this.sourceContexts = calleeContexts;
+    }
+
+    Expression copy(Expression expression){
+        if (sourceContexts == calleeContexts && expression instanceof Identifier identifier &&
+                arguments.containsKey(identifier.getName())) {
+            sourceContexts = callerContexts;
+            Expression argument = copy(arguments.get(identifier.getName()));
+            sourceContexts = calleeContexts;
+            return argument;
+        }
+        Expression copy = expression.accept(this);
+        copy.setLine(expression.getLine());
+        for (int i = 0; i < callerContexts.size(); i++) {
+            types.put(callerContexts.get(i), copy, types.get(sourceContexts.get(i), expression));
+            if (expression instanceof AccessExpression call && call.isFunctionCall())
+                types.putCallTarget(callerContexts.get(i), (AccessExpression) copy,
+                        types.getCallTarget(sourceContexts.get(i), call));
+        }
+        return copy;
+    }
+    private ArrayList<Expression> copyAll(ArrayList<Expression> expressions){
+        ArrayList<Expression> copies = new ArrayList<>();
+        for (Expression expression : expressions)
+            copies.add(copy(expression));
+        return copies;
+    }
+
+    // the number of nodes in an expression the copier can copy, or -1 if it holds anything else
+    static int size(Expression expression){
+        int size = switch (expression) {
+            case Identifier identifier -> 0;
+            case IntValue intValue -> 0;
+            case BoolValue boolValue -> 0;
+            case StringValue stringValue -> 0;
+            case FunctionPointer functionPointer -> 0;
+            case BinaryExpression binary -> add(size(binary.getFirstOperand()), size(binary.getSecondOperand()));
+            case UnaryExpression unary -> unary.getOperator() == UnaryOperator.INC ||
+                    unary.getOperator() == UnaryOperator.DEC ? -1 : size(unary.getExpression());
+            case AccessExpression access -> add(size(access.getAccessedExpression()),
+                    add(sizeOfAll(access.getArguments()), sizeOfAll(access.getDimentionalAccess())));
+            case ListValue listValue -> sizeOfAll(listValue.getElements());
+            case LenStatement lenStatement -> size(lenStatement.getExpression());
+            default -> -1;
+        };
+        return size < 0 ? -1 : size + 1;
+    }
+    private static int sizeOfAll(ArrayList<Expression> expressions){
+        int size = 0;
+        for (Expression expression : expressions)
+            size = add(size, size(expression));
+        return size;
+    }
+    private static int add(int first, int second){
+        return first < 0 || second < 0 ? -1 : first + second;
+    }
+    // whether evaluating the expression can neither fail nor have an effect, so it may be moved or dropped
+    static boolean isPure(Expression expression){
+        return switch (expression) {
+            case Identifier identifier -> true;
+            case IntValue intValue -> true;
+            case BoolValue boolValue -> true;
+            case StringValue stringValue -> true;
+            case FunctionPointer functionPointer -> true;
+            case BinaryExpression binary -> binary.getOperator() != BinaryOperator.DIVIDE &&
+                    isPure(binary.getFirstOperand()) && isPure(binary.getSecondOperand());
+            case UnaryExpression unary -> (unary.getOperator() == UnaryOperator.NOT ||
+                    unary.getOperator() == UnaryOperator.MINUS) && isPure(unary.getExpression());
+            default -> false;
+        };
+    }
+    static boolean isTrivial(Expression expression){
+        return expression instanceof Identifier || expression instanceof IntValue ||
+                expression instanceof BoolValue || expression instanceof StringValue ||
+                expression instanceof FunctionPointer;
+    }
+    static int occurrences(Expression expression, String name){
+        return switch (expression) {
+            case Identifier identifier -> identifier.getName().equals(name) ? 1 : 0;
+            case BinaryExpression binary -> occurrences(binary.getFirstOperand(), name) +
+                    occurrences(binary.getSecondOperand(), name);
+            case UnaryExpression unary -> occurrences(unary.getExpression(), name);
+            case AccessExpression access -> occurrences(access.getAccessedExpression(), name) +
+                    occurrencesInAll(access.getArguments(), name) +
+                    occurrencesInAll(access.getDimentionalAccess(), name);
+            case ListValue listValue -> occurrencesInAll(listValue.getElements(), name);
+            case LenStatement lenStatement -> occurrences(lenStatement.getExpression(), name);
+            default -> 0;
+        };
+    }
+    private static int occurrencesInAll(ArrayList<Expression> expressions, String name){
+        int count = 0;
+        for (Expression expression : expressions)
+            count += occurrences(expression, name);
+        return count;
+    }
+
+    @Override
+    public Expression visit(Identifier identifier){
+        return new Identifier(identifier.getName());
+    }
+    @Override
+    public Expression visit(IntValue intValue){
+        return new IntValue(intValue.getIntVal());
+    }
+    @Override
+    public Expression visit(BoolValue boolValue){
+        return new BoolValue(boolValue.getBool());
+    }
+    @Override
+    public Expression visit(StringValue stringValue){
+        return new StringValue(stringValue.getStr());
+    }
+    @Override
+    public Expression visit(FunctionPointer functionPointer){
+        Identifier id = new Identifier(functionPointer.getId().getName());
+        id.setLine(functionPointer.getId().getLine());
+        return new FunctionPointer(id);
+    }
+    @Override
+    public Expression visit(BinaryExpression binaryExpression){
+        return new BinaryExpression(copy(binaryExpression.getFirstOperand()), copy(binaryExpression.getSecondOperand()),
+                binaryExpression.getOperator());
+    }
+    @Override
+    public Expression visit(UnaryExpression unaryExpression){
+        return new UnaryExpression(copy(unaryExpression.getExpression()), unaryExpression.getOperator());
+    }
+    @Override
+    public Expression visit(AccessExpression accessExpression){
+        AccessExpression copy = new AccessExpression(copy(accessExpression.getAccessedExpression()),
+                copyAll(accessExpression.getArguments()));
+        copy.setIsFunctionCall(accessExpression.isFunctionCall());
+        copy.setDimentionalAccess(copyAll(accessExpression.getDimentionalAccess()));
+        return copy;
+    }
+    @Override
+    public Expression visit(ListValue listValue){
+        return new ListValue(copyAll(listValue.getElements()));
+    }
+    @Override
+    public Expression visit(LenStatement lenStatement){
+        return new LenStatement(copy(lenStatement.getExpression()));
+    }
+}
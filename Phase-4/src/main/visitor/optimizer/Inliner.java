@@ -0,0 +1,106 @@
+package main.visitor.optimizer;
+
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.declaration.VarDeclaration;
+import main.ast.nodes.expression.AccessExpression;
+import main.ast.nodes.expression.Expression;
+import main.ast.nodes.statement.ReturnStatement;
+import main.ast.nodes.statement.Statement;
+import main.visitor.type.Closure;
+import main.visitor.type.Specialization;
+import main.visitor.type.TypeTable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+
+// replaces calls to small functions with the callee's body. A callee qualifies when its body is a single return
+// of at most budget nodes and it cannot reach itself through the call graph the type checker recorded. A
+// parameter is replaced by its argument only if that cannot change what the program does: the argument must be
+// pure, and unless it is a variable or a literal it may be used at most once. A body is shared by all
+// specializations of its function, so a call is only inlined if it targets the same function in all of them.
+public class Inliner extends AstRewriter {
+    public static final int DEFAULT_BUDGET = 12;
+    private final int budget;
+    // the contexts the body being rewritten is checked in
+    private ArrayList<String> contexts = new ArrayList<>();
+    private final HashMap<Specialization, Boolean> recursive = new HashMap<>();
+
+    public Inliner(TypeTable types, int budget){
+        super(types);
+        this.budget = budget;
+    }
+
+    @Override
+    public Expression visit(FunctionDeclaration functionDeclaration){
+        contexts = new ArrayList<>();
+        // a body reused from the incremental cache is replayed as it is, so only freshly checked ones are rewritten
+        for (Specialization specialization : types.getSpecializations())
+            if (specialization.getFunctionDeclaration() == functionDeclaration && specialization.getBody() == null)
+                contexts.add(specialization.getKey());
+        if (!contexts.isEmpty())
+            super.visit(functionDeclaration);
+        return null;
+    }
+    @Override
+    public Expression visit(MainDeclaration mainDeclaration){
+        contexts = new ArrayList<>();
+        contexts.add(TypeTable.MAIN_CONTEXT);
+        return super.visit(mainDeclaration);
+    }
+    @Override
+    public Expression visit(AccessExpression accessExpression){
+        super.visit(accessExpression);
+        if (!accessExpression.isFunctionCall())
+            return accessExpression;
+        ArrayList<String> calleeContexts = new ArrayList<>();
+        FunctionDeclaration callee = null;
+        for (String context : contexts) {
+            Specialization target = types.getCallTarget(context, accessExpression);
+            // a closure's captured values are only known where it was created
+            Closure closure = types.getCalledClosure(context, accessExpression);
+            if (target == null || !isInlinable(target) || (closure != null && closure.isCapturing()) ||
+                    (callee != null && callee != target.getFunctionDeclaration()))
+                return accessExpression;
+            callee = target.getFunctionDeclaration();
+            calleeContexts.add(target.getKey());
+        }
+        Expression returned = ((ReturnStatement) callee.getBody().getFirst()).getReturnExp();
+        HashMap<String, Expression> arguments = new HashMap<>();
+        ArrayList<VarDeclaration> args = callee.getArgs();
+        for (int i = 0; i < args.size(); i++) {
+            Expression argument = i < accessExpression.getArguments().size() ?
+                    accessExpression.getArguments().get(i) : args.get(i).getDefaultVal();
+            String name = args.get(i).getName().getName();
+            if (!ExpressionCopier.isPure(argument) ||
+                    (!ExpressionCopier.isTrivial(argument) && ExpressionCopier.occurrences(returned, name) > 1))
+                return accessExpression;
+            arguments.put(name, argument);
+        }
+        Expression inlined = new ExpressionCopier(types, contexts, calleeContexts, arguments).copy(returned);
+        // the copy may call further small functions; the call graph is acyclic here, so this ends
+        return rewrite(inlined);
+    }
+
+    private boolean isInlinable(Specialization target){
+        ArrayList<Statement> body = target.getFunctionDeclaration().getBody();
+        if (target.getBody() != null || body.size() != 1 || !(body.getFirst() instanceof ReturnStatement returnStatement)
+                || !returnStatement.hasRetExpression())
+            return false;
+        int size = ExpressionCopier.size(returnStatement.getReturnExp());
+        return size >= 0 && size <= budget && !isRecursive(target);
+    }
+    private boolean isRecursive(Specialization specialization){
+        return recursive.computeIfAbsent(specialization, start -> reaches(start, start, new HashSet<>()));
+    }
+    private boolean reaches(Specialization from, Specialization to, HashSet<Specialization> visited){
+        for (Specialization callee : types.getDependencies(from.getKey())) {
+            if (callee == to)
+                return true;
+            if (visited.add(callee) && reaches(callee, to, visited))
+                return true;
+        }
+        return false;
+    }
+}
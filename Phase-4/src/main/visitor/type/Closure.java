@@ -0,0 +1,27 @@
+package main.visitor.type;
+
+import main.ast.nodes.expression.LambdaExpression;
+import main.ast.type.Type;
+
+import java.util.ArrayList;
+
+// the values one lambda evaluates to where its captures have the given types. They are calls to the lambda's
+// function with the captured values passed ahead of the arguments, and their pointer type names this, so a
+// function taking one is specialized for it like for a pointer to a named function.
+public class Closure {
+    private final LambdaExpression lambdaExpression;
+    private final ArrayList<Type> captureTypes;
+    private final String name;
+
+    public Closure(LambdaExpression lambdaExpression, ArrayList<Type> captureTypes){
+        this.lambdaExpression = lambdaExpression;
+        this.captureTypes = captureTypes;
+        this.name = Specialization.mangle(lambdaExpression.getFunction().getFunctionName().getName(), captureTypes);
+    }
+
+    public LambdaExpression getLambdaExpression(){return lambdaExpression;}
+    public ArrayList<Type> getCaptureTypes(){return captureTypes;}
+    public String getName(){return name;}
+    public String getFunctionName(){return lambdaExpression.getFunction().getFunctionName().getName();}
+    public boolean isCapturing(){return !captureTypes.isEmpty();}
+}
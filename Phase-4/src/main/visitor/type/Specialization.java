@@ -0,0 +1,66 @@
+package main.visitor.type;
+
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.type.FptrType;
+import main.ast.type.ListType;
+import main.ast.type.NoType;
+import main.ast.type.Type;
+import main.ast.type.primitiveType.BoolType;
+import main.ast.type.primitiveType.FloatType;
+import main.ast.type.primitiveType.IntType;
+import main.ast.type.primitiveType.StringType;
+import main.symbolTable.item.FunctionItem;
+
+import java.util.ArrayList;
+
+public class Specialization {
+    private final FunctionDeclaration functionDeclaration;
+    private final ArrayList<Type> argumentTypes;
+    private final String methodName;
+    private Type returnType;
+    private ArrayList<String[]> body;
+
+    public Specialization(FunctionDeclaration functionDeclaration, ArrayList<Type> argumentTypes){
+        this.functionDeclaration = functionDeclaration;
+        this.argumentTypes = new ArrayList<>(argumentTypes);
+        this.methodName = mangle(functionDeclaration.getFunctionName().getName(), argumentTypes);
+    }
+
+    public static String mangle(String functionName, ArrayList<Type> argumentTypes){
+        StringBuilder mangled = new StringBuilder(functionName);
+        for(Type argumentType : argumentTypes)
+            mangled.append('$').append(typeCode(argumentType));
+        return mangled.toString();
+    }
+    public static String typeCode(Type type){
+        return switch (type){
+            case IntType intType -> "I";
+            case BoolType boolType -> "Z";
+            case StringType stringType -> "S";
+            case FloatType floatType -> "F";
+            case FptrType fptrType -> "P" + fptrType.getFunctionName();
+            case ListType listType -> "L" + typeCode(listType.getType());
+            case null, default -> "N";
+        };
+    }
+    public static Type fromTypeCode(String code){
+        return switch (code.charAt(0)){
+            case 'I' -> new IntType();
+            case 'Z' -> new BoolType();
+            case 'S' -> new StringType();
+            case 'F' -> new FloatType();
+            case 'P' -> new FptrType(code.substring(1));
+            case 'L' -> new ListType(fromTypeCode(code.substring(1)));
+            default -> new NoType();
+        };
+    }
+
+    public FunctionDeclaration getFunctionDeclaration(){return functionDeclaration;}
+    public ArrayList<Type> getArgumentTypes(){return argumentTypes;}
+    public String getMethodName(){return methodName;}
+    public String getKey(){return FunctionItem.START_KEY + methodName;}
+    public Type getReturnType(){return returnType;}
+    public void setReturnType(Type returnType){this.returnType = returnType;}
+    public ArrayList<String[]> getBody(){return body;}
+    public void setBody(ArrayList<String[]> body){this.body = body;}
+}
@@ -1,5 +1,6 @@
 package main.visitor.type;
 
+import main.CompilationContext;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.*;
 import main.ast.nodes.expression.*;
@@ -11,8 +12,10 @@ import main.ast.type.*;
 import main.ast.type.primitiveType.*;
 import main.compileError.CompileError;
 import main.compileError.typeErrors.*;
+import main.incremental.CacheEntry;
+import main.incremental.IncrementalCache;
 import main.symbolTable.SymbolTable;
-import main.symbolTable.exceptions.*;
+import main.symbolTable.Symbols;
 import main.symbolTable.item.*;
 import main.visitor.Visitor;
 
@@ -21,109 +24,190 @@ import java.util.*;
 public class TypeChecker extends Visitor<Type> {
     public ArrayList<CompileError> typeErrors = new ArrayList<>();
     private final Stack<Set<Type>> returnTypesStack = new Stack<>();
-    public final Set<String> visited = new HashSet<>();
+    private final Stack<ArrayList<Expression>> selfCallReturns = new Stack<>();
+    public final TypeTable types = new TypeTable();
+    private final Stack<String> contexts = new Stack<>();
+    private final CompilationContext compilation;
+    private final IncrementalCache cache;
+    private final Symbols symbols;
+    private final HashMap<Specialization, CacheEntry> reused = new HashMap<>();
+
+    public TypeChecker(CompilationContext compilation){
+        this.compilation = compilation;
+        this.cache = compilation.getCache();
+        this.symbols = compilation.getSymbols();
+    }
+
+    private Type typeOf(Expression expression){
+        Type type = expression.accept(this);
+        types.put(contexts.peek(), expression, type);
+        return type;
+    }
 
     @Override
     public Type visit(Program program){
-        SymbolTable.root = new SymbolTable();
-        SymbolTable.top = new SymbolTable();
+        compilation.resetScopes();
         for(FunctionDeclaration functionDeclaration : program.getFunctionDeclarations()){
-            FunctionItem functionItem = new FunctionItem(functionDeclaration);
-            try {
-                SymbolTable.root.put(functionItem);
-            }catch (ItemAlreadyExists ignored){}
+            compilation.getRoot().putIfAbsent(new FunctionItem(functionDeclaration,
+                    symbols.resolve(functionDeclaration.getFunctionName())));
         }
         for(PatternDeclaration patternDeclaration : program.getPatternDeclarations()){
-            PatternItem patternItem = new PatternItem(patternDeclaration);
-            try{
-                SymbolTable.root.put(patternItem);
-            }catch (ItemAlreadyExists ignored){}
+            compilation.getRoot().putIfAbsent(new PatternItem(patternDeclaration,
+                    symbols.resolve(patternDeclaration.getPatternName())));
         }
+        contexts.push(TypeTable.MAIN_CONTEXT);
         program.getMain().accept(this);
+        contexts.pop();
+        revalidateReused();
 
         return null;
     }
     @Override
     public Type visit(FunctionDeclaration functionDeclaration){
-        if (visited.contains(functionDeclaration.getFunctionName().getName())) {
-            try {
-                return ((FunctionItem) SymbolTable.root.getItem(FunctionItem.START_KEY +
-                        functionDeclaration.getFunctionName().getName())).getReturnType();
-            } catch (ItemNotFound e) {}
-        }
-        SymbolTable.push(new SymbolTable());
+        ArrayList<Type> currentArgTypes = new ArrayList<>();
+        if (compilation.getRoot().lookup(Symbols.FUNCTION,
+                symbols.resolve(functionDeclaration.getFunctionName())) instanceof FunctionItem functionItem)
+            currentArgTypes = functionItem.getArgumentTypes();
+        Specialization specialization = types.getSpecialization(functionDeclaration.getFunctionName().getName(),
+                currentArgTypes);
+        if (specialization != null)
+            return specialization.getReturnType();
+        specialization = types.addSpecialization(functionDeclaration, currentArgTypes);
+        if (cache != null && reuseCached(functionDeclaration, specialization))
+            return specialization.getReturnType();
+        return checkBody(functionDeclaration, specialization);
+    }
+    private Type checkBody(FunctionDeclaration functionDeclaration, Specialization specialization){
+        ArrayList<Type> currentArgTypes = specialization.getArgumentTypes();
+        compilation.pushScope(new SymbolTable());
         returnTypesStack.push(new HashSet<>());
-        visited.add(functionDeclaration.getFunctionName().getName());
-        try {
-            FunctionItem functionItem = (FunctionItem) SymbolTable.root.getItem(FunctionItem.START_KEY +
-                    functionDeclaration.getFunctionName().getName());
-            ArrayList<Type> currentArgTypes = functionItem.getArgumentTypes();
-            for (int i = 0; i < functionDeclaration.getArgs().size(); i++) {
-                VarItem argItem = new VarItem(functionDeclaration.getArgs().get(i).getName());
-                argItem.setType(currentArgTypes.get(i));
-                try {
-                    SymbolTable.top.put(argItem);
-                }catch (ItemAlreadyExists ignored){
-                    var item = (VarItem) SymbolTable.top.getItem(VarItem.START_KEY + argItem.getName());
-                    item.setType(currentArgTypes.get(i));
-                }
-            }
-        }catch (ItemNotFound ignored){}
+        selfCallReturns.push(new ArrayList<>());
+        contexts.push(specialization.getKey());
+        for (int i = 0; i < functionDeclaration.getArgs().size(); i++) {
+            Identifier argName = functionDeclaration.getArgs().get(i).getName();
+            VarItem argItem = new VarItem(argName, symbols.resolve(argName));
+            argItem.setType(currentArgTypes.get(i));
+            if (compilation.getTop().putIfAbsent(argItem) instanceof VarItem item)
+                item.setType(currentArgTypes.get(i));
+        }
         for(Statement statement : functionDeclaration.getBody())
             statement.accept(this);
 
+        contexts.pop();
         Set<Type> returnStmtsTypes = returnTypesStack.pop();
+        compilation.popScope();
         if(returnStmtsTypes.size() > 1){
             typeErrors.add(new FunctionInconsistentReturnTypes(functionDeclaration.getLine(),
                     functionDeclaration.getFunctionName().getName()));
-            SymbolTable.pop();
-            return new NoType();
+            specialization.setReturnType(new NoType());
         }
         else if(returnStmtsTypes.size() == 1){
-            SymbolTable.pop();
-            try {
-                ((FunctionItem) SymbolTable.root.getItem(FunctionItem.START_KEY +
-                        functionDeclaration.getFunctionName().getName())).setReturnType(returnStmtsTypes.iterator().next());
-            } catch (ItemNotFound e) {}
-            return returnStmtsTypes.iterator().next();
+            if (compilation.getRoot().lookup(Symbols.FUNCTION,
+                    symbols.resolve(functionDeclaration.getFunctionName())) instanceof FunctionItem functionItem)
+                functionItem.setReturnType(returnStmtsTypes.iterator().next());
+            specialization.setReturnType(returnStmtsTypes.iterator().next());
         }
-        else {
-            SymbolTable.pop();
-            return new NoType();
+        else
+            specialization.setReturnType(new NoType());
+        for (Expression selfCall : selfCallReturns.pop())
+            types.put(specialization.getKey(), selfCall, specialization.getReturnType());
+        return specialization.getReturnType();
+    }
+    private boolean reuseCached(FunctionDeclaration functionDeclaration, Specialization specialization){
+        // hashed even without an entry: the optimizations rewrite the body before the cache is saved
+        String functionHash = cache.hashOf(functionDeclaration);
+        CacheEntry entry = cache.get(specialization.getMethodName());
+        if (entry == null || !entry.getFunctionHash().equals(functionHash))
+            return false;
+        specialization.setReturnType(Specialization.fromTypeCode(entry.getReturnType()));
+        for (CacheEntry.Dependency dependency : entry.getDependencies()) {
+            Specialization callee = resolveDependency(dependency);
+            if (callee == null || !Specialization.typeCode(callee.getReturnType()).equals(dependency.getReturnType())) {
+                types.clearDependencies(specialization.getKey());
+                return false;
+            }
+            types.addDependency(specialization.getKey(), callee);
+        }
+        specialization.setBody(entry.getBody());
+        reused.put(specialization, entry);
+        return true;
+    }
+    private Specialization resolveDependency(CacheEntry.Dependency dependency){
+        if (!(compilation.getRoot().lookup(Symbols.FUNCTION, symbols.intern(dependency.getFunctionName()))
+                instanceof FunctionItem functionItem))
+            return null;
+        if (!cache.hashOf(functionItem.getFunctionDeclaration()).equals(dependency.getFunctionHash()))
+            return null;
+        ArrayList<Type> argTypes = new ArrayList<>();
+        for (String argType : dependency.getArgumentTypes())
+            argTypes.add(Specialization.fromTypeCode(argType));
+        functionItem.setArgumentTypes(argTypes);
+        functionItem.getFunctionDeclaration().accept(this);
+        return types.getSpecialization(dependency.getFunctionName(), argTypes);
+    }
+    private void revalidateReused(){
+        // a reused body is only valid if its callees still return what they returned when it was cached
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Specialization specialization : new ArrayList<>(reused.keySet())) {
+                for (CacheEntry.Dependency dependency : reused.get(specialization).getDependencies()) {
+                    ArrayList<Type> argTypes = new ArrayList<>();
+                    for (String argType : dependency.getArgumentTypes())
+                        argTypes.add(Specialization.fromTypeCode(argType));
+                    Specialization callee = types.getSpecialization(dependency.getFunctionName(), argTypes);
+                    if (!Specialization.typeCode(callee.getReturnType()).equals(dependency.getReturnType())) {
+                        reused.remove(specialization);
+                        specialization.setBody(null);
+                        types.clearDependencies(specialization.getKey());
+                        checkBody(specialization.getFunctionDeclaration(), specialization);
+                        changed = true;
+                        break;
+                    }
+                }
+            }
         }
     }
     @Override
     public Type visit(PatternDeclaration patternDeclaration){
-        SymbolTable.push(new SymbolTable());
+        compilation.pushScope(new SymbolTable());
         returnTypesStack.push(new HashSet<>());
-        try {
-            PatternItem patternItem = (PatternItem) SymbolTable.root.getItem(PatternItem.START_KEY +
-                    patternDeclaration.getPatternName().getName());
-            VarItem varItem = new VarItem(patternDeclaration.getTargetVariable());
+        PatternItem patternItem = compilation.getRoot().lookup(Symbols.PATTERN,
+                symbols.resolve(patternDeclaration.getPatternName())) instanceof PatternItem item ? item : null;
+        String methodName = TypeTable.patternMethodName(patternDeclaration.getPatternName().getName(),
+                patternItem == null ? null : patternItem.getTargetVarType());
+        contexts.push(PatternItem.START_KEY + methodName);
+        if (patternItem != null) {
+            types.addPattern(methodName, patternDeclaration);
+            types.put(contexts.peek(), patternDeclaration.getTargetVariable(), patternItem.getTargetVarType());
+            VarItem varItem = new VarItem(patternDeclaration.getTargetVariable(),
+                    symbols.resolve(patternDeclaration.getTargetVariable()));
             varItem.setType(patternItem.getTargetVarType());
-            try {
-                SymbolTable.top.put(varItem);
-            }catch (ItemAlreadyExists ignored){}
+            compilation.getTop().putIfAbsent(varItem);
             for(Expression expression : patternDeclaration.getConditions()){
-                if(!(expression.accept(this) instanceof BoolType)){
+                if(!(typeOf(expression) instanceof BoolType)){
                     typeErrors.add(new ConditionIsNotBool(expression.getLine()));
-                    SymbolTable.pop();
+                    compilation.popScope();
+                    contexts.pop();
                     return new NoType();
                 }
             }
             for(Expression expression : patternDeclaration.getReturnExp())
-                returnTypesStack.peek().add(expression.accept(this));
+                returnTypesStack.peek().add(typeOf(expression));
             Set<Type> returnStmtsTypes = returnTypesStack.pop();
             if(returnStmtsTypes.size() != 1){
                 typeErrors.add(new PatternInconsistentReturnTypes(patternDeclaration.getLine(),
                         patternDeclaration.getPatternName().getName()));
-                SymbolTable.pop();
+                compilation.popScope();
+                contexts.pop();
                 return new NoType();
             }
-            SymbolTable.pop();
+            compilation.popScope();
+            contexts.pop();
             return returnStmtsTypes.iterator().next();
-        }catch (ItemNotFound ignored){}
-        SymbolTable.pop();
+        }
+        compilation.popScope();
+        contexts.pop();
         return new NoType();
     }
     @Override
@@ -134,60 +218,49 @@ public class TypeChecker extends Visitor<Type> {
         }
         return null;
     }
+    private Type checkCall(AccessExpression accessExpression, FunctionItem functionItem, ArrayList<Type> argTypes){
+        ArrayList<VarDeclaration> args = functionItem.getFunctionDeclaration().getArgs();
+        for(int i = argTypes.size(); i < args.size(); i++)
+            argTypes.add(typeOf(args.get(i).getDefaultVal()));
+        functionItem.setArgumentTypes(argTypes);
+        Type returnType = functionItem.getFunctionDeclaration().accept(this);
+        types.putCallTarget(contexts.peek(), accessExpression,
+                types.getSpecialization(functionItem.getName(), argTypes));
+        return returnType;
+    }
     @Override
     public Type visit(AccessExpression accessExpression){
         if(accessExpression.isFunctionCall()){
             ArrayList<Type> argTypes = new ArrayList<>();
             for(Expression expression:accessExpression.getArguments()){
-                argTypes.add(expression.accept(this));
+                argTypes.add(typeOf(expression));
             }
-            Identifier functionName = (Identifier)accessExpression.getAccessedExpression();
-            try {
-                FunctionItem functionItem = (FunctionItem) SymbolTable.root.getItem(FunctionItem.START_KEY + functionName.getName());
-                List<VarDeclaration> defaultVals = functionItem.getFunctionDeclaration().getArgs().
-                        stream().
-                        filter(a->a.getDefaultVal() != null).toList();
-                int i = defaultVals.size() - 1;
-                while(argTypes.size() < functionItem.getFunctionDeclaration().getArgs().size()){
-                    argTypes.add(defaultVals.get(i).getDefaultVal().accept(this));
-                    i -= 1;
-                }
-                functionItem.setArgumentTypes(argTypes);
-                return functionItem.getFunctionDeclaration().accept(this);
+            if(accessExpression.getAccessedExpression() instanceof Identifier functionName &&
+                    compilation.getRoot().lookup(Symbols.FUNCTION, symbols.resolve(functionName)) instanceof FunctionItem functionItem)
+                return checkCall(accessExpression, functionItem, argTypes);
+            Type nonFunctionType = typeOf(accessExpression.getAccessedExpression());
+            if(! (nonFunctionType instanceof FptrType fptrType)){
+                typeErrors.add(new IsNotCallable(accessExpression.getLine()));
+                return new NoType();
             }
-            catch (ItemNotFound e){
-                Type nonFunctionType = accessExpression.getAccessedExpression().accept(this);
-                if(! (nonFunctionType instanceof FptrType fptrType)){
-                    typeErrors.add(new IsNotCallable(accessExpression.getLine()));
-                    return new NoType();
-                }
-                else{
-                    try {
-                        FunctionItem functionItem = (FunctionItem) SymbolTable.root.getItem(FunctionItem.START_KEY + fptrType.getFunctionName());
-                        List<VarDeclaration> defaultVals = functionItem.getFunctionDeclaration().getArgs().
-                                stream().
-                                filter(a->a.getDefaultVal() != null).toList();
-                        int i = defaultVals.size() - 1;
-                        while(argTypes.size() < functionItem.getFunctionDeclaration().getArgs().size()){
-                            argTypes.add(defaultVals.get(i).getDefaultVal().accept(this));
-                            i -= 1;
-                        }
-                        functionItem.setArgumentTypes(argTypes);
-                        return functionItem.getFunctionDeclaration().accept(this);
-                    }catch (ItemNotFound ignored){}
-
-                }
+            String calledName = fptrType.getFunctionName();
+            if(types.getClosure(calledName) instanceof Closure closure){
+                // the lambda's function takes the captured values first
+                argTypes.addAll(0, closure.getCaptureTypes());
+                calledName = closure.getFunctionName();
             }
+            if(compilation.getRoot().lookup(Symbols.FUNCTION, symbols.intern(calledName)) instanceof FunctionItem functionItem)
+                return checkCall(accessExpression, functionItem, argTypes);
         }
         else{
-            Type accessedType = accessExpression.getAccessedExpression().accept(this);
+            Type accessedType = typeOf(accessExpression.getAccessedExpression());
             if(!(accessedType instanceof StringType) && !(accessedType instanceof ListType)){
                 typeErrors.add(new IsNotIndexable(accessExpression.getLine()));
                 return new NoType();
             }
             Set<Type> accessTypes = new HashSet<>();
             for(Expression expression : accessExpression.getDimentionalAccess()){
-                accessTypes.add(expression.accept(this));
+                accessTypes.add(typeOf(expression));
             }
             if(! (accessTypes.stream().toList().getFirst() instanceof IntType)){
                 typeErrors.add(new AccessIndexIsNotInt(accessExpression.getLine()));
@@ -195,8 +268,15 @@ public class TypeChecker extends Visitor<Type> {
             }
             if(accessedType instanceof StringType)
                 return new StringType();
-            else
-                return ((ListType)accessedType).getType();
+            Type elementType = accessedType;
+            for(int i = 0; i < accessExpression.getDimentionalAccess().size(); i++){
+                if(!(elementType instanceof ListType listType)){
+                    typeErrors.add(new IsNotIndexable(accessExpression.getLine()));
+                    return new NoType();
+                }
+                elementType = listType.getType();
+            }
+            return elementType;
         }
         return null;
     }
@@ -207,94 +287,89 @@ public class TypeChecker extends Visitor<Type> {
             returnTypesStack.peek().add(new NoType());
             return new NoType();
         }
-        Type returnType = returnStatement.getReturnExp().accept(this);
+        Type returnType = typeOf(returnStatement.getReturnExp());
+        if (isSelfCall(returnStatement.getReturnExp())) {
+            // a function returning its own result returns whatever its other returns do, which is only known
+            // once the whole body is checked
+            selfCallReturns.peek().add(returnStatement.getReturnExp());
+            return returnType;
+        }
         returnTypesStack.peek().add(returnType);
         return returnType;
     }
+    private boolean isSelfCall(Expression expression){
+        return expression instanceof AccessExpression call && call.isFunctionCall() &&
+                types.getCallTarget(contexts.peek(), call) instanceof Specialization target &&
+                target.getKey().equals(contexts.peek());
+    }
     @Override
     public Type visit(ExpressionStatement expressionStatement){
-        return expressionStatement.getExpression().accept(this);
+        return typeOf(expressionStatement.getExpression());
 
     }
     @Override
     public Type visit(ForStatement forStatement){
-        SymbolTable.push(SymbolTable.top.copy());
-        Type rangeTypeIter = forStatement.getRangeExpression().accept(this);
-        VarItem varItem = new VarItem(forStatement.getIteratorId());
+        compilation.pushScope(new SymbolTable(compilation.getTop()));
+        Type rangeTypeIter = typeOf(forStatement.getRangeExpression());
+        VarItem varItem = new VarItem(forStatement.getIteratorId(), symbols.resolve(forStatement.getIteratorId()));
         varItem.setType(rangeTypeIter);
-        try{
-            SymbolTable.top.put(varItem);
-        }catch (ItemAlreadyExists ignored){
-            try {
-                var item = (VarItem) SymbolTable.top.getItem(VarItem.START_KEY + varItem.getName());
-                item.setType(rangeTypeIter);
-
-            } catch (ItemNotFound e) {
-                // ignore
-            }
-        }
+        if(compilation.getTop().putIfAbsent(varItem) instanceof VarItem item)
+            item.setType(rangeTypeIter);
 
         for(Statement statement : forStatement.getLoopBodyStmts())
             statement.accept(this);
-        SymbolTable.pop();
+        compilation.popScope();
         return null;
     }
     @Override
     public Type visit(IfStatement ifStatement){
-        SymbolTable.push(SymbolTable.top.copy());
+        compilation.pushScope(new SymbolTable(compilation.getTop()));
         for(Expression expression : ifStatement.getConditions())
-            if(!(expression.accept(this) instanceof BoolType))
+            if(!(typeOf(expression) instanceof BoolType))
                 typeErrors.add(new ConditionIsNotBool(expression.getLine()));
         for(Statement statement : ifStatement.getThenBody())
             statement.accept(this);
         for(Statement statement : ifStatement.getElseBody())
             statement.accept(this);
-        SymbolTable.pop();
+        compilation.popScope();
         return new NoType();
     }
     @Override
     public Type visit(LoopDoStatement loopDoStatement){
-        SymbolTable.push(SymbolTable.top.copy());
+        compilation.pushScope(new SymbolTable(compilation.getTop()));
         for(Statement statement : loopDoStatement.getLoopBodyStmts())
             statement.accept(this);
-        SymbolTable.pop();
+        compilation.popScope();
         return new NoType();
     }
     @Override
     public Type visit(AssignStatement assignStatement){
         if(assignStatement.isAccessList()){
-            if(!(assignStatement.getAccessListExpression().accept(this) instanceof IntType)){
+            if(!(typeOf(assignStatement.getAccessListExpression()) instanceof IntType)){
                 typeErrors.add(new AccessIndexIsNotInt(assignStatement.getLine()));
                 return new NoType();
             }
-            Type assignExpType = assignStatement.getAssignExpression().accept(this);
-            ListType listType = (ListType) assignStatement.getAssignedId().accept(this);
+            Type assignExpType = typeOf(assignStatement.getAssignExpression());
+            ListType listType = (ListType) typeOf(assignStatement.getAssignedId());
             if(!assignExpType.sameType(listType.getType())){
                 typeErrors.add(new ListElementsInconsistentType(assignStatement.getLine()));
                 return new NoType();
             }
         }
         else{
-            Type assignExpType = assignStatement.getAssignExpression().accept(this);
-            VarItem newVarItem = new VarItem(assignStatement.getAssignedId());
+            Type assignExpType = typeOf(assignStatement.getAssignExpression());
+            VarItem newVarItem = new VarItem(assignStatement.getAssignedId(),
+                    symbols.resolve(assignStatement.getAssignedId()));
             newVarItem.setType(assignExpType);
-            try {
-                SymbolTable.top.put(newVarItem);
-            }catch (ItemAlreadyExists ignored){
-                VarItem item = null;
-                try {
-                    item = (VarItem) SymbolTable.top.getItem(VarItem.START_KEY + newVarItem.getName());
-                } catch (ItemNotFound ignored1) {}
-                assert item != null;
+            if(compilation.getTop().putIfAbsent(newVarItem) instanceof VarItem item)
                 item.setType(assignExpType);
-            }
         }
         return new NoType();
     }
     @Override
     public Type visit(BreakStatement breakStatement){
         for(Expression expression : breakStatement.getConditions())
-            if(!((expression.accept(this)) instanceof BoolType))
+            if(!((typeOf(expression)) instanceof BoolType))
                 typeErrors.add(new ConditionIsNotBool(expression.getLine()));
 
         return null;
@@ -302,15 +377,15 @@ public class TypeChecker extends Visitor<Type> {
     @Override
     public Type visit(NextStatement nextStatement){
         for(Expression expression : nextStatement.getConditions())
-            if(!((expression.accept(this)) instanceof BoolType))
+            if(!((typeOf(expression)) instanceof BoolType))
                 typeErrors.add(new ConditionIsNotBool(expression.getLine()));
 
         return null;
     }
     @Override
     public Type visit(PushStatement pushStatement){
-        Type initType = pushStatement.getInitial().accept(this);
-        Type toBeAddedType = pushStatement.getToBeAdded().accept(this);
+        Type initType = typeOf(pushStatement.getInitial());
+        Type toBeAddedType = typeOf(pushStatement.getToBeAdded());
         if(!(initType instanceof ListType) && !(initType instanceof StringType)){
             typeErrors.add(new CannotBePushed(pushStatement.getLine()));
             return new NoType();
@@ -328,7 +403,7 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(PutStatement putStatement){
-        Type put = putStatement.getExpression().accept(this);
+        Type put = typeOf(putStatement.getExpression());
         if(put instanceof FptrType){
             typeErrors.add(new IsNotPrintable(putStatement.getLine()));
             return new NoType();
@@ -357,7 +432,7 @@ public class TypeChecker extends Visitor<Type> {
     public Type visit(ListValue listValue){
         Set<Type> listTypes = new HashSet<>();
         for(Expression expression : listValue.getElements()){
-            listTypes.add(expression.accept(this));
+            listTypes.add(typeOf(expression));
         }
         if(listTypes.size() != 1){
             typeErrors.add(new ListElementsInconsistentType(listValue.getLine()));
@@ -371,14 +446,14 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(AppendExpression appendExpression){
-        Type appendeeType = appendExpression.getAppendee().accept(this);
+        Type appendeeType = typeOf(appendExpression.getAppendee());
         Set<Type> appendedTypes = new HashSet<>();
         if(!(appendeeType instanceof ListType) && !(appendeeType instanceof StringType)){
             typeErrors.add(new IsNotAppendable(appendExpression.getLine()));
             return new NoType();
         }
         for(Expression expression: appendExpression.getAppendeds())
-            appendedTypes.add(expression.accept(this));
+            appendedTypes.add(typeOf(expression));
 
         if(appendedTypes.size() != 1){
             typeErrors.add(new AppendTypesMisMatch(appendExpression.getLine()));
@@ -398,8 +473,8 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(BinaryExpression binaryExpression){
-        Type leftOpType = binaryExpression.getFirstOperand().accept(this);
-        Type rightOpType = binaryExpression.getSecondOperand().accept(this);
+        Type leftOpType = typeOf(binaryExpression.getFirstOperand());
+        Type rightOpType = typeOf(binaryExpression.getSecondOperand());
         if(!leftOpType.sameType(rightOpType) && !(leftOpType instanceof NoType) && !(rightOpType instanceof NoType)){
             typeErrors.add(new NonSameOperands(binaryExpression.getLine(), binaryExpression.getOperator()));
             return new NoType();
@@ -407,6 +482,13 @@ public class TypeChecker extends Visitor<Type> {
         BinaryOperator operator = binaryExpression.getOperator();
         boolean leftIsNoType = leftOpType instanceof NoType;
         boolean rightIsNoType = rightOpType instanceof NoType;
+        if(operator.equals(BinaryOperator.AND) || operator.equals(BinaryOperator.OR)){
+            if((!leftIsNoType && !(leftOpType instanceof BoolType)) || (!rightIsNoType && !(rightOpType instanceof BoolType))){
+                typeErrors.add(new UnsupportedOperandType(binaryExpression.getLine(), operator.toString()));
+                return new NoType();
+            }
+            return leftIsNoType || rightIsNoType ? new NoType() : new BoolType();
+        }
         if(operator.equals(BinaryOperator.DIVIDE)
                 || operator.equals(BinaryOperator.MINUS)
                 || operator.equals(BinaryOperator.MULT)
@@ -455,7 +537,7 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(UnaryExpression unaryExpression){
-        Type operandType = unaryExpression.getExpression().accept(this);
+        Type operandType = typeOf(unaryExpression.getExpression());
         UnaryOperator operator = unaryExpression.getOperator();
         boolean operandIsNoType = operandType instanceof NoType;
 
@@ -484,7 +566,7 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(ChompStatement chompStatement){
-        if (!(chompStatement.getChompExpression().accept(this) instanceof StringType)) {
+        if (!(typeOf(chompStatement.getChompExpression()) instanceof StringType)) {
             typeErrors.add(new ChompArgumentTypeMisMatch(chompStatement.getLine()));
             return new NoType();
         }
@@ -493,7 +575,7 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(ChopStatement chopStatement){
-        if (!(chopStatement.getChopExpression().accept(this) instanceof StringType)) {
+        if (!(typeOf(chopStatement.getChopExpression()) instanceof StringType)) {
             typeErrors.add(new ChopArgumentTypeMisMatch(chopStatement.getLine()));
             return new NoType();
         }
@@ -502,20 +584,20 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(Identifier identifier){
-        try {
-            VarItem varItem = (VarItem) SymbolTable.top.getItem(VarItem.START_KEY + identifier.getName());
+        if(compilation.getTop().lookup(Symbols.VARIABLE, symbols.resolve(identifier)) instanceof VarItem varItem)
             return varItem.getType();
-
-        }catch (ItemNotFound ignored){}
         return new NoType();
     }
     @Override
     public Type visit(LambdaExpression lambdaExpression){
-        return new NoType();
+        ArrayList<Type> captureTypes = new ArrayList<>();
+        for(Identifier capture : lambdaExpression.getCaptures())
+            captureTypes.add(typeOf(capture));
+        return new FptrType(types.addClosure(new Closure(lambdaExpression, captureTypes)).getName());
     }
     @Override
     public Type visit(LenStatement lenStatement){
-        Type argType = lenStatement.getExpression().accept(this);
+        Type argType = typeOf(lenStatement.getExpression());
         if(!(argType instanceof StringType) && !(argType instanceof ListType)){
             typeErrors.add(new LenArgumentTypeMisMatch(lenStatement.getLine()));
             return new NoType();
@@ -524,19 +606,18 @@ public class TypeChecker extends Visitor<Type> {
     }
     @Override
     public Type visit(MatchPatternStatement matchPatternStatement){
-        try{
-            PatternItem patternItem = (PatternItem)SymbolTable.root.getItem(PatternItem.START_KEY +
-                    matchPatternStatement.getPatternId().getName());
-            patternItem.setTargetVarType(matchPatternStatement.getMatchArgument().accept(this));
+        if(compilation.getRoot().lookup(Symbols.PATTERN,
+                symbols.resolve(matchPatternStatement.getPatternId())) instanceof PatternItem patternItem){
+            patternItem.setTargetVarType(typeOf(matchPatternStatement.getMatchArgument()));
             return patternItem.getPatternDeclaration().accept(this);
-        }catch (ItemNotFound ignored){}
+        }
         return new NoType();
     }
     @Override
     public Type visit(RangeExpression rangeExpression){
         RangeType rangeType = rangeExpression.getRangeType();
         if(rangeType.equals(RangeType.IDENTIFIER)){
-            Type rangeIdentifierType = rangeExpression.getRangeExpressions().getFirst().accept(this);
+            Type rangeIdentifierType = typeOf(rangeExpression.getRangeExpressions().getFirst());
             if(rangeIdentifierType instanceof ListType listType){
                 return listType.getType();
             }
@@ -548,7 +629,7 @@ public class TypeChecker extends Visitor<Type> {
         else if(rangeType.equals(RangeType.LIST)){
             Set<Type> typesOfElements = new HashSet<>();
             for(Expression expression : rangeExpression.getRangeExpressions())
-                typesOfElements.add(expression.accept(this));
+                typesOfElements.add(typeOf(expression));
 
             if(typesOfElements.size() != 1){
                 typeErrors.add(new ListElementsInconsistentType(rangeExpression.getLine()));
@@ -557,8 +638,8 @@ public class TypeChecker extends Visitor<Type> {
             return typesOfElements.stream().toList().getFirst();
         }
         else if(rangeType.equals(RangeType.DOUBLE_DOT)){
-            Type beginRange = rangeExpression.getRangeExpressions().getFirst().accept(this);
-            Type endRange = rangeExpression.getRangeExpressions().getLast().accept(this);
+            Type beginRange = typeOf(rangeExpression.getRangeExpressions().getFirst());
+            Type endRange = typeOf(rangeExpression.getRangeExpressions().getLast());
             if(!(beginRange instanceof IntType) || !(endRange instanceof IntType)){
                 typeErrors.add(new RangeValuesMisMatch(rangeExpression.getLine()));
                 return new NoType();
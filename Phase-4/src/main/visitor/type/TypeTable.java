@@ -0,0 +1,103 @@
+package main.visitor.type;
+
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.PatternDeclaration;
+import main.ast.nodes.expression.AccessExpression;
+import main.ast.nodes.expression.Expression;
+import main.ast.type.FptrType;
+import main.ast.type.Type;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+public class TypeTable {
+    public static final String MAIN_CONTEXT = "Main";
+    private final HashMap<String, IdentityHashMap<Expression, Type>> expressionTypes = new HashMap<>();
+    private final HashMap<String, IdentityHashMap<AccessExpression, Specialization>> callTargets = new HashMap<>();
+    private final HashMap<String, LinkedHashSet<Specialization>> dependencies = new HashMap<>();
+    private final LinkedHashMap<String, Specialization> specializations = new LinkedHashMap<>();
+    private final LinkedHashMap<String, PatternDeclaration> patterns = new LinkedHashMap<>();
+    private final HashMap<String, Closure> closures = new HashMap<>();
+
+    public void put(String context, Expression expression, Type type){
+        expressionTypes.computeIfAbsent(context, k -> new IdentityHashMap<>()).put(expression, type);
+    }
+    public Type get(String context, Expression expression){
+        IdentityHashMap<Expression, Type> types = expressionTypes.get(context);
+        return (types == null) ? null : types.get(expression);
+    }
+    // gives a node that an optimization put in place of another the type the old node had in every context
+    public void replace(Expression expression, Expression replacement){
+        for (IdentityHashMap<Expression, Type> types : expressionTypes.values())
+            if (types.containsKey(expression))
+                types.put(replacement, types.get(expression));
+    }
+
+    public Specialization getSpecialization(String functionName, ArrayList<Type> argumentTypes){
+        return specializations.get(Specialization.mangle(functionName, argumentTypes));
+    }
+    public Specialization addSpecialization(FunctionDeclaration functionDeclaration, ArrayList<Type> argumentTypes){
+        Specialization specialization = new Specialization(functionDeclaration, argumentTypes);
+        specializations.put(specialization.getMethodName(), specialization);
+        return specialization;
+    }
+    public Collection<Specialization> getSpecializations(){
+        return specializations.values();
+    }
+    public void retainSpecializations(Collection<Specialization> reachable){
+        specializations.values().retainAll(reachable);
+    }
+
+    // a pattern is checked and generated once for every type it is matched against, under the name this gives;
+    // no function can have it, as function names cannot contain a '$'
+    public static String patternMethodName(String patternName, Type targetType){
+        ArrayList<Type> targetTypes = new ArrayList<>();
+        targetTypes.add(targetType);
+        return "pattern$" + Specialization.mangle(patternName, targetTypes);
+    }
+    public void addPattern(String methodName, PatternDeclaration patternDeclaration){
+        patterns.put(methodName, patternDeclaration);
+    }
+    public Map<String, PatternDeclaration> getPatterns(){
+        return patterns;
+    }
+    public void retainPatterns(Collection<String> reachable){
+        patterns.keySet().retainAll(reachable);
+    }
+
+    public Closure addClosure(Closure closure){
+        return closures.computeIfAbsent(closure.getName(), k -> closure);
+    }
+    public Closure getClosure(String name){
+        return closures.get(name);
+    }
+    // the closure a call goes through, or null if it calls a function by name or through a pointer to one
+    public Closure getCalledClosure(String context, AccessExpression call){
+        return call.isFunctionCall() && get(context, call.getAccessedExpression()) instanceof FptrType fptrType ?
+                closures.get(fptrType.getFunctionName()) : null;
+    }
+
+    public void putCallTarget(String context, AccessExpression call, Specialization target){
+        callTargets.computeIfAbsent(context, k -> new IdentityHashMap<>()).put(call, target);
+        addDependency(context, target);
+    }
+    public Specialization getCallTarget(String context, AccessExpression call){
+        IdentityHashMap<AccessExpression, Specialization> targets = callTargets.get(context);
+        return (targets == null) ? null : targets.get(call);
+    }
+
+    public void addDependency(String context, Specialization callee){
+        dependencies.computeIfAbsent(context, k -> new LinkedHashSet<>()).add(callee);
+    }
+    public Collection<Specialization> getDependencies(String context){
+        return dependencies.getOrDefault(context, new LinkedHashSet<>());
+    }
+    public void clearDependencies(String context){
+        dependencies.remove(context);
+    }
+}
@@ -967,6 +967,8 @@ public class FunctionCraftParser extends Parser {
 	@SuppressWarnings("CheckReturnValue")
 	public static class ConditionContext extends ParserRuleContext {
 		public ArrayList<Expression> conditionRet;
+		public ArrayList<Expression> terms;
+		public ArrayList<BinaryOperator> operators;
 		public ExpressionContext e;
 		public ConditionContext c;
 		public List<TerminalNode> LPAR() { return getTokens(FunctionCraftParser.LPAR); }
@@ -983,6 +985,12 @@ public class FunctionCraftParser extends Parser {
 		public ExpressionContext expression(int i) {
 			return getRuleContext(ExpressionContext.class,i);
 		}
+		public List<ConditionContext> condition() {
+			return getRuleContexts(ConditionContext.class);
+		}
+		public ConditionContext condition(int i) {
+			return getRuleContext(ConditionContext.class,i);
+		}
 		public List<TerminalNode> AND() { return getTokens(FunctionCraftParser.AND); }
 		public TerminalNode AND(int i) {
 			return getToken(FunctionCraftParser.AND, i);
@@ -991,12 +999,6 @@ public class FunctionCraftParser extends Parser {
 		public TerminalNode OR(int i) {
 			return getToken(FunctionCraftParser.OR, i);
 		}
-		public List<ConditionContext> condition() {
-			return getRuleContexts(ConditionContext.class);
-		}
-		public ConditionContext condition(int i) {
-			return getRuleContext(ConditionContext.class,i);
-		}
 		public ConditionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1019,17 +1021,19 @@ public class FunctionCraftParser extends Parser {
 	public final ConditionContext condition() throws RecognitionException {
 		ConditionContext _localctx = new ConditionContext(_ctx, getState());
 		enterRule(_localctx, 16, RULE_condition);
-		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
 
-			        ((ConditionContext)_localctx).conditionRet =  new ArrayList<Expression>();
+			        ((ConditionContext)_localctx).terms =  new ArrayList<Expression>();
+			        ((ConditionContext)_localctx).operators =  new ArrayList<BinaryOperator>();
+			        BinaryOperator op = BinaryOperator.AND;
+			        boolean grouped = false;
 			    
-			setState(237);
+			setState(244);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,15,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,16,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
@@ -1038,47 +1042,71 @@ public class FunctionCraftParser extends Parser {
 					match(LPAR);
 					setState(218);
 					((ConditionContext)_localctx).e = expression(0);
-					_localctx.conditionRet.add(((ConditionContext)_localctx).e.expRet);
+
+					        if(!_localctx.terms.isEmpty())
+					            _localctx.operators.add(BinaryOperator.AND);
+					        _localctx.terms.add(((ConditionContext)_localctx).e.expRet);
+					     
 					setState(220);
 					match(RPAR);
-					setState(232);
+					setState(239);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,15,_ctx);
 					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 						if ( _alt==1 ) {
 							{
 							{
-							setState(221);
-							_la = _input.LA(1);
-							if ( !(_la==AND || _la==OR) ) {
-							_errHandler.recoverInline(this);
-							}
-							else {
-								if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-								_errHandler.reportMatch(this);
-								consume();
+							setState(225);
+							_errHandler.sync(this);
+							switch (_input.LA(1)) {
+							case AND:
+								{
+								setState(221);
+								match(AND);
+								op = BinaryOperator.AND;
+								}
+								break;
+							case OR:
+								{
+								setState(223);
+								match(OR);
+								op = BinaryOperator.OR;
+								}
+								break;
+							default:
+								throw new NoViableAltException(this);
 							}
-							setState(223);
+							grouped = false;
+							setState(230);
 							_errHandler.sync(this);
-							switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
+							switch ( getInterpreter().adaptivePredict(_input,13,_ctx) ) {
 							case 1:
 								{
-								setState(222);
+								setState(228);
 								match(LPAR);
+								grouped = true;
 								}
 								break;
 							}
-							setState(225);
+							setState(232);
 							((ConditionContext)_localctx).c = condition();
 
-							        _localctx.conditionRet.addAll(((ConditionContext)_localctx).c.conditionRet);
+							        if(!((ConditionContext)_localctx).c.terms.isEmpty()){
+							            _localctx.operators.add(op);
+							            if(grouped)
+							                _localctx.terms.add(BinaryExpression.join(((ConditionContext)_localctx).c.terms, ((ConditionContext)_localctx).c.operators));
+							            else{
+							                _localctx.terms.addAll(((ConditionContext)_localctx).c.terms);
+							                _localctx.operators.addAll(((ConditionContext)_localctx).c.operators);
+							            }
+							        }
 							     
-							setState(228);
+							setState(235);
 							_errHandler.sync(this);
-							switch ( getInterpreter().adaptivePredict(_input,13,_ctx) ) {
+							switch ( getInterpreter().adaptivePredict(_input,14,_ctx) ) {
 							case 1:
 								{
-								setState(227);
+								setState(234);
 								match(RPAR);
 								}
 								break;
@@ -1086,17 +1114,20 @@ public class FunctionCraftParser extends Parser {
 							}
 							} 
 						}
-						setState(234);
+						setState(241);
 						_errHandler.sync(this);
-						_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
+						_alt = getInterpreter().adaptivePredict(_input,15,_ctx);
 					}
 					}
 					} 
 				}
-				setState(239);
+				setState(246);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,15,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,16,_ctx);
 			}
+
+			        ((ConditionContext)_localctx).conditionRet =  BinaryExpression.joinConditions(_localctx.terms, _localctx.operators);
+			    
 			}
 		}
 		catch (RecognitionException re) {
@@ -1147,19 +1178,19 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(240);
+			setState(249);
 			((PutsStatementContext)_localctx).p = match(PUTS);
-			setState(241);
+			setState(250);
 			match(LPAR);
-			setState(242);
+			setState(251);
 			((PutsStatementContext)_localctx).e = expression(0);
 
 			        ((PutsStatementContext)_localctx).putRet =  new PutStatement(((PutsStatementContext)_localctx).e.expRet);
 			        _localctx.putRet.setLine((((PutsStatementContext)_localctx).p!=null?((PutsStatementContext)_localctx).p.getLine():0));
 			    
-			setState(244);
+			setState(253);
 			match(RPAR);
-			setState(245);
+			setState(254);
 			match(SEMICOLLON);
 			}
 		}
@@ -1210,17 +1241,17 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(247);
+			setState(256);
 			((LenStatementContext)_localctx).l = match(LEN);
-			setState(248);
+			setState(257);
 			match(LPAR);
-			setState(249);
+			setState(258);
 			((LenStatementContext)_localctx).e = expression(0);
 
 			        ((LenStatementContext)_localctx).lenRet =  new LenStatement(((LenStatementContext)_localctx).e.expRet);
 			        _localctx.lenRet.setLine((((LenStatementContext)_localctx).l!=null?((LenStatementContext)_localctx).l.getLine():0));
 			    
-			setState(251);
+			setState(260);
 			match(RPAR);
 			}
 		}
@@ -1277,19 +1308,19 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(253);
+			setState(262);
 			((PushStatementContext)_localctx).p = match(PUSH);
-			setState(254);
+			setState(263);
 			match(LPAR);
-			setState(255);
+			setState(264);
 			((PushStatementContext)_localctx).e1 = expression(0);
-			setState(256);
+			setState(265);
 			match(COMMA);
-			setState(257);
+			setState(266);
 			((PushStatementContext)_localctx).e2 = expression(0);
-			setState(258);
+			setState(267);
 			match(RPAR);
-			setState(259);
+			setState(268);
 			match(SEMICOLLON);
 
 			        ((PushStatementContext)_localctx).pushRet =  new PushStatement(((PushStatementContext)_localctx).e1.expRet, ((PushStatementContext)_localctx).e2.expRet);
@@ -1344,17 +1375,17 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(262);
+			setState(271);
 			((LoopDoStatementContext)_localctx).l1 = match(LOOP);
-			setState(263);
+			setState(272);
 			match(DO);
-			setState(264);
+			setState(273);
 			((LoopDoStatementContext)_localctx).l2 = loopBody();
 
 			        ((LoopDoStatementContext)_localctx).loopDoRet =  new LoopDoStatement(((LoopDoStatementContext)_localctx).l2.loopStmtsRet);
 			        _localctx.loopDoRet.setLine((((LoopDoStatementContext)_localctx).l1!=null?((LoopDoStatementContext)_localctx).l1.getLine():0));
 			    
-			setState(266);
+			setState(275);
 			match(END);
 			}
 		}
@@ -1436,12 +1467,12 @@ public class FunctionCraftParser extends Parser {
 
 			        ((LoopBodyContext)_localctx).loopStmtsRet =  new ArrayList<Statement>();
 			    
-			setState(294);
+			setState(303);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -1150098203556918928L) != 0)) {
 				{
-				setState(292);
+				setState(301);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case PUTS:
@@ -1467,26 +1498,26 @@ public class FunctionCraftParser extends Parser {
 				case IDENTIFIER:
 				case STRING_VALUE:
 					{
-					setState(269);
+					setState(278);
 					((LoopBodyContext)_localctx).s = statement();
 					_localctx.loopStmtsRet.add(((LoopBodyContext)_localctx).s.stmtRet);
 					}
 					break;
 				case BREAK:
 					{
-					setState(272);
+					setState(281);
 					match(BREAK);
 
 					        BreakStatement b = new BreakStatement();
 					     
-					setState(278);
+					setState(287);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if (_la==IF) {
 						{
-						setState(274);
+						setState(283);
 						match(IF);
-						setState(275);
+						setState(284);
 						((LoopBodyContext)_localctx).c1 = condition();
 
 						        b.setConditions(((LoopBodyContext)_localctx).c1.conditionRet);
@@ -1495,25 +1526,25 @@ public class FunctionCraftParser extends Parser {
 					}
 
 					_localctx.loopStmtsRet.add(b);
-					setState(281);
+					setState(290);
 					match(SEMICOLLON);
 					}
 					break;
 				case NEXT:
 					{
-					setState(282);
+					setState(291);
 					match(NEXT);
 
 					        NextStatement n = new NextStatement();
 					    
-					setState(288);
+					setState(297);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if (_la==IF) {
 						{
-						setState(284);
+						setState(293);
 						match(IF);
-						setState(285);
+						setState(294);
 						((LoopBodyContext)_localctx).c2 = condition();
 
 						        n.setConditions(((LoopBodyContext)_localctx).c2.conditionRet);
@@ -1522,7 +1553,7 @@ public class FunctionCraftParser extends Parser {
 					}
 
 					_localctx.loopStmtsRet.add(n);
-					setState(291);
+					setState(300);
 					match(SEMICOLLON);
 					}
 					break;
@@ -1530,16 +1561,16 @@ public class FunctionCraftParser extends Parser {
 					throw new NoViableAltException(this);
 				}
 				}
-				setState(296);
+				setState(305);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(300);
+			setState(309);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==RETURN) {
 				{
-				setState(297);
+				setState(306);
 				((LoopBodyContext)_localctx).r = returnStatement();
 				_localctx.loopStmtsRet.add(((LoopBodyContext)_localctx).r.returnStmtRet);
 				}
@@ -1600,17 +1631,17 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(302);
+			setState(311);
 			((ForStatementContext)_localctx).f = match(FOR);
-			setState(303);
+			setState(312);
 			((ForStatementContext)_localctx).id = match(IDENTIFIER);
-			setState(304);
+			setState(313);
 			match(IN);
-			setState(305);
+			setState(314);
 			((ForStatementContext)_localctx).r = range();
-			setState(306);
+			setState(315);
 			((ForStatementContext)_localctx).l = loopBody();
-			setState(307);
+			setState(316);
 			match(END);
 
 			        ((ForStatementContext)_localctx).forStRet =  new ForStatement(new Identifier((((ForStatementContext)_localctx).id!=null?((ForStatementContext)_localctx).id.getText():null)), ((ForStatementContext)_localctx).r.rangeRet, ((ForStatementContext)_localctx).l.loopStmtsRet);
@@ -1686,19 +1717,19 @@ public class FunctionCraftParser extends Parser {
 			        RangeType rangeType;
 			        int line = 0;
 			    
-			setState(335);
+			setState(344);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case LPAR:
 				{
 				{
-				setState(311);
+				setState(320);
 				match(LPAR);
-				setState(312);
+				setState(321);
 				((RangeContext)_localctx).e1 = expression(0);
-				setState(313);
+				setState(322);
 				((RangeContext)_localctx).DOUBLEDOT = match(DOUBLEDOT);
-				setState(314);
+				setState(323);
 				((RangeContext)_localctx).e2 = expression(0);
 
 				        exps.add(((RangeContext)_localctx).e1.expRet);
@@ -1706,7 +1737,7 @@ public class FunctionCraftParser extends Parser {
 				        rangeType = RangeType.DOUBLE_DOT;
 				        line = (((RangeContext)_localctx).DOUBLEDOT!=null?((RangeContext)_localctx).DOUBLEDOT.getLine():0);
 				    
-				setState(316);
+				setState(325);
 				match(RPAR);
 				}
 				}
@@ -1717,43 +1748,43 @@ public class FunctionCraftParser extends Parser {
 				        rangeType = RangeType.LIST;
 				    
 				{
-				setState(319);
+				setState(328);
 				((RangeContext)_localctx).LBRACK = match(LBRACK);
 				{
-				setState(320);
+				setState(329);
 				((RangeContext)_localctx).e3 = expression(0);
 
 				        exps.add(((RangeContext)_localctx).e3.expRet);
 				        line = (((RangeContext)_localctx).LBRACK!=null?((RangeContext)_localctx).LBRACK.getLine():0);
 				    
-				setState(328);
+				setState(337);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(322);
+					setState(331);
 					match(COMMA);
-					setState(323);
+					setState(332);
 					((RangeContext)_localctx).e4 = expression(0);
 
 					        exps.add(((RangeContext)_localctx).e4.expRet);
 					    
 					}
 					}
-					setState(330);
+					setState(339);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
-				setState(331);
+				setState(340);
 				match(RBRACK);
 				}
 				}
 				break;
 			case IDENTIFIER:
 				{
-				setState(333);
+				setState(342);
 				((RangeContext)_localctx).id = match(IDENTIFIER);
 
 				        Identifier id_ = new Identifier((((RangeContext)_localctx).id!=null?((RangeContext)_localctx).id.getText():null));
@@ -1823,17 +1854,17 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(339);
+			setState(348);
 			((MatchPatternStatementContext)_localctx).id = match(IDENTIFIER);
-			setState(340);
+			setState(349);
 			match(DOT);
-			setState(341);
+			setState(350);
 			((MatchPatternStatementContext)_localctx).m = match(MATCH);
-			setState(342);
+			setState(351);
 			match(LPAR);
-			setState(343);
+			setState(352);
 			((MatchPatternStatementContext)_localctx).e = expression(0);
-			setState(344);
+			setState(353);
 			match(RPAR);
 
 			        Identifier id_ = new Identifier((((MatchPatternStatementContext)_localctx).id!=null?((MatchPatternStatementContext)_localctx).id.getText():null));
@@ -1890,13 +1921,13 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(347);
+			setState(356);
 			((ChopStatementContext)_localctx).c = match(CHOP);
-			setState(348);
+			setState(357);
 			match(LPAR);
-			setState(349);
+			setState(358);
 			((ChopStatementContext)_localctx).e = expression(0);
-			setState(350);
+			setState(359);
 			match(RPAR);
 
 			        ((ChopStatementContext)_localctx).chopRet =  new ChopStatement(((ChopStatementContext)_localctx).e.expRet);
@@ -1951,13 +1982,13 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(353);
+			setState(362);
 			((ChompStatementContext)_localctx).c = match(CHOMP);
-			setState(354);
+			setState(363);
 			match(LPAR);
-			setState(355);
+			setState(364);
 			((ChompStatementContext)_localctx).e = expression(0);
-			setState(356);
+			setState(365);
 			match(RPAR);
 
 			        ((ChompStatementContext)_localctx).chompRet =  new ChompStatement(((ChompStatementContext)_localctx).e.expRet);
@@ -2033,60 +2064,60 @@ public class FunctionCraftParser extends Parser {
 			        int line;
 			        AssignOperator op;
 			    
-			setState(360);
+			setState(369);
 			((AssignmentContext)_localctx).id = match(IDENTIFIER);
-			setState(364);
+			setState(373);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==LBRACK) {
 				{
-				setState(361);
+				setState(370);
 				((AssignmentContext)_localctx).a = accessList();
 				access = true;
 				}
 			}
 
-			setState(378);
+			setState(387);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case ASSIGN:
 				{
-				setState(366);
+				setState(375);
 				((AssignmentContext)_localctx).as = match(ASSIGN);
 				op = AssignOperator.ASSIGN;line = (((AssignmentContext)_localctx).as!=null?((AssignmentContext)_localctx).as.getLine():0);
 				}
 				break;
 			case PLUS_ASSIGN:
 				{
-				setState(368);
+				setState(377);
 				((AssignmentContext)_localctx).pl = match(PLUS_ASSIGN);
 				op = AssignOperator.PLUS_ASSIGN;line = (((AssignmentContext)_localctx).pl!=null?((AssignmentContext)_localctx).pl.getLine():0);
 				}
 				break;
 			case MINUS_ASSIGN:
 				{
-				setState(370);
+				setState(379);
 				((AssignmentContext)_localctx).mi = match(MINUS_ASSIGN);
 				op = AssignOperator.MINUS_ASSIGN;line = (((AssignmentContext)_localctx).mi!=null?((AssignmentContext)_localctx).mi.getLine():0);
 				}
 				break;
 			case DIVIDE_ASSIGN:
 				{
-				setState(372);
+				setState(381);
 				((AssignmentContext)_localctx).di = match(DIVIDE_ASSIGN);
 				op = AssignOperator.DIVIDE_ASSIGN;line = (((AssignmentContext)_localctx).di!=null?((AssignmentContext)_localctx).di.getLine():0);
 				}
 				break;
 			case MULT_ASSIGN:
 				{
-				setState(374);
+				setState(383);
 				((AssignmentContext)_localctx).mu = match(MULT_ASSIGN);
 				op = AssignOperator.MULT_ASSIGN;line = (((AssignmentContext)_localctx).mu!=null?((AssignmentContext)_localctx).mu.getLine():0);
 				}
 				break;
 			case MOD_ASSIGN:
 				{
-				setState(376);
+				setState(385);
 				((AssignmentContext)_localctx).mo = match(MOD_ASSIGN);
 				op = AssignOperator.MOD_ASSIGN;line = (((AssignmentContext)_localctx).mo!=null?((AssignmentContext)_localctx).mo.getLine():0);
 				}
@@ -2094,9 +2125,9 @@ public class FunctionCraftParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(380);
+			setState(389);
 			((AssignmentContext)_localctx).e = expression(0);
-			setState(381);
+			setState(390);
 			match(SEMICOLLON);
 
 			          Identifier id_ = new Identifier((((AssignmentContext)_localctx).id!=null?((AssignmentContext)_localctx).id.getText():null));
@@ -2154,12 +2185,12 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(384);
+			setState(393);
 			match(LBRACK);
-			setState(385);
+			setState(394);
 			((AccessListContext)_localctx).e = expression(0);
 			((AccessListContext)_localctx).accessListExp =  ((AccessListContext)_localctx).e.expRet;
-			setState(387);
+			setState(396);
 			match(RBRACK);
 			}
 		}
@@ -2229,13 +2260,13 @@ public class FunctionCraftParser extends Parser {
 		StatementContext _localctx = new StatementContext(_ctx, getState());
 		enterRule(_localctx, 42, RULE_statement);
 		try {
-			setState(412);
+			setState(421);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(389);
+				setState(398);
 				((StatementContext)_localctx).i = ifStatement();
 				((StatementContext)_localctx).stmtRet =  ((StatementContext)_localctx).i.ifRet;
 				}
@@ -2243,7 +2274,7 @@ public class FunctionCraftParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(392);
+				setState(401);
 				((StatementContext)_localctx).loop = loopDoStatement();
 				((StatementContext)_localctx).stmtRet =  ((StatementContext)_localctx).loop.loopDoRet;
 				}
@@ -2251,7 +2282,7 @@ public class FunctionCraftParser extends Parser {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(395);
+				setState(404);
 				((StatementContext)_localctx).f = forStatement();
 				((StatementContext)_localctx).stmtRet =  ((StatementContext)_localctx).f.forStRet;
 				}
@@ -2259,7 +2290,7 @@ public class FunctionCraftParser extends Parser {
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(398);
+				setState(407);
 				((StatementContext)_localctx).puts = putsStatement();
 				((StatementContext)_localctx).stmtRet =  ((StatementContext)_localctx).puts.putRet;
 				}
@@ -2267,7 +2298,7 @@ public class FunctionCraftParser extends Parser {
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(401);
+				setState(410);
 				((StatementContext)_localctx).push = pushStatement();
 				((StatementContext)_localctx).stmtRet =  ((StatementContext)_localctx).push.pushRet;
 				}
@@ -2275,7 +2306,7 @@ public class FunctionCraftParser extends Parser {
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(404);
+				setState(413);
 				((StatementContext)_localctx).e = expression(0);
 				((StatementContext)_localctx).stmtRet =  new ExpressionStatement(((StatementContext)_localctx).e.expRet);
 
@@ -2283,14 +2314,14 @@ public class FunctionCraftParser extends Parser {
 				        ((StatementContext)_localctx).stmtRet =  expStmt;
 				        _localctx.stmtRet.setLine(((StatementContext)_localctx).e.expRet.getLine());
 				     
-				setState(407);
+				setState(416);
 				match(SEMICOLLON);
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(409);
+				setState(418);
 				((StatementContext)_localctx).as = assignment();
 				((StatementContext)_localctx).stmtRet =  ((StatementContext)_localctx).as.assignRet;
 				}
@@ -2351,27 +2382,27 @@ public class FunctionCraftParser extends Parser {
 
 			        ((BodyContext)_localctx).bodyRet =  new ArrayList<Statement>();
 			    
-			setState(420);
+			setState(429);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -1150101502091802256L) != 0)) {
 				{
 				{
-				setState(415);
+				setState(424);
 				((BodyContext)_localctx).s = statement();
 				_localctx.bodyRet.add(((BodyContext)_localctx).s.stmtRet);
 				}
 				}
-				setState(422);
+				setState(431);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(426);
+			setState(435);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==RETURN) {
 				{
-				setState(423);
+				setState(432);
 				((BodyContext)_localctx).r = returnStatement();
 				_localctx.bodyRet.add(((BodyContext)_localctx).r.returnStmtRet);
 				}
@@ -2439,14 +2470,14 @@ public class FunctionCraftParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(429);
+			setState(438);
 			((ExpressionContext)_localctx).e3 = eqaulityExpression();
 			((ExpressionContext)_localctx).expRet =  ((ExpressionContext)_localctx).e3.expRet;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(439);
+			setState(448);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,28,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
@@ -2456,11 +2487,11 @@ public class FunctionCraftParser extends Parser {
 					_localctx = new ExpressionContext(_parentctx, _parentState);
 					_localctx.e1 = _prevctx;
 					pushNewRecursionContext(_localctx, _startState, RULE_expression);
-					setState(432);
+					setState(441);
 					if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-					setState(433);
+					setState(442);
 					((ExpressionContext)_localctx).a = match(APPEND);
-					setState(434);
+					setState(443);
 					((ExpressionContext)_localctx).e2 = eqaulityExpression();
 
 					                  if(!(((ExpressionContext)_localctx).e1.expRet instanceof AppendExpression)){
@@ -2476,9 +2507,9 @@ public class FunctionCraftParser extends Parser {
 					}
 					} 
 				}
-				setState(441);
+				setState(450);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,28,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
 			}
 			}
 		}
@@ -2532,31 +2563,31 @@ public class FunctionCraftParser extends Parser {
 		EqaulityExpressionContext _localctx = new EqaulityExpressionContext(_ctx, getState());
 		enterRule(_localctx, 48, RULE_eqaulityExpression);
 		try {
-			setState(456);
+			setState(465);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,30,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,31,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(442);
+				setState(451);
 				((EqaulityExpressionContext)_localctx).e1 = relationalExpression(0);
 
 				        BinaryOperator op;
 				        int line;
 				    
-				setState(448);
+				setState(457);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case EQUAL:
 					{
-					setState(444);
+					setState(453);
 					((EqaulityExpressionContext)_localctx).op1 = match(EQUAL);
 					op = BinaryOperator.EQUAL;line = (((EqaulityExpressionContext)_localctx).op1!=null?((EqaulityExpressionContext)_localctx).op1.getLine():0);
 					}
 					break;
 				case NOT_EQUAL:
 					{
-					setState(446);
+					setState(455);
 					((EqaulityExpressionContext)_localctx).op2 = match(NOT_EQUAL);
 					op = BinaryOperator.NOT_EQUAL;line = (((EqaulityExpressionContext)_localctx).op2!=null?((EqaulityExpressionContext)_localctx).op2.getLine():0);
 					}
@@ -2564,7 +2595,7 @@ public class FunctionCraftParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(450);
+				setState(459);
 				((EqaulityExpressionContext)_localctx).r1 = relationalExpression(0);
 				((EqaulityExpressionContext)_localctx).expRet =  new BinaryExpression(((EqaulityExpressionContext)_localctx).e1.expRet, ((EqaulityExpressionContext)_localctx).r1.expRet, op);_localctx.expRet.setLine(line);
 				}
@@ -2572,7 +2603,7 @@ public class FunctionCraftParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(453);
+				setState(462);
 				((EqaulityExpressionContext)_localctx).r2 = relationalExpression(0);
 				((EqaulityExpressionContext)_localctx).expRet =  ((EqaulityExpressionContext)_localctx).r2.expRet;
 				}
@@ -2645,14 +2676,14 @@ public class FunctionCraftParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(459);
+			setState(468);
 			((RelationalExpressionContext)_localctx).a2 = additiveExpression(0);
 			((RelationalExpressionContext)_localctx).expRet =  ((RelationalExpressionContext)_localctx).a2.expRet;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(479);
+			setState(488);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,32,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,33,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
@@ -2662,39 +2693,39 @@ public class FunctionCraftParser extends Parser {
 					_localctx = new RelationalExpressionContext(_parentctx, _parentState);
 					_localctx.r1 = _prevctx;
 					pushNewRecursionContext(_localctx, _startState, RULE_relationalExpression);
-					setState(462);
+					setState(471);
 					if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
 
 					                  BinaryOperator op;
 					                  int line;
 					              
-					setState(472);
+					setState(481);
 					_errHandler.sync(this);
 					switch (_input.LA(1)) {
 					case GREATER_THAN:
 						{
-						setState(464);
+						setState(473);
 						((RelationalExpressionContext)_localctx).gt = match(GREATER_THAN);
 						op = BinaryOperator.GREATER_THAN;line = (((RelationalExpressionContext)_localctx).gt!=null?((RelationalExpressionContext)_localctx).gt.getLine():0);
 						}
 						break;
 					case LESS_THAN:
 						{
-						setState(466);
+						setState(475);
 						((RelationalExpressionContext)_localctx).lt = match(LESS_THAN);
 						op = BinaryOperator.LESS_THAN;line = (((RelationalExpressionContext)_localctx).lt!=null?((RelationalExpressionContext)_localctx).lt.getLine():0);
 						}
 						break;
 					case LESS_EQUAL_THAN:
 						{
-						setState(468);
+						setState(477);
 						((RelationalExpressionContext)_localctx).let = match(LESS_EQUAL_THAN);
 						op = BinaryOperator.LESS_EQUAL_THAN;line = (((RelationalExpressionContext)_localctx).let!=null?((RelationalExpressionContext)_localctx).let.getLine():0);
 						}
 						break;
 					case GREATER_EQUAL_THAN:
 						{
-						setState(470);
+						setState(479);
 						((RelationalExpressionContext)_localctx).get = match(GREATER_EQUAL_THAN);
 						op = BinaryOperator.GREATER_EQUAL_THAN;line = (((RelationalExpressionContext)_localctx).get!=null?((RelationalExpressionContext)_localctx).get.getLine():0);
 						}
@@ -2702,15 +2733,15 @@ public class FunctionCraftParser extends Parser {
 					default:
 						throw new NoViableAltException(this);
 					}
-					setState(474);
+					setState(483);
 					((RelationalExpressionContext)_localctx).a1 = additiveExpression(0);
 					((RelationalExpressionContext)_localctx).expRet =  new BinaryExpression(((RelationalExpressionContext)_localctx).r1.expRet, ((RelationalExpressionContext)_localctx).a1.expRet, op);_localctx.expRet.setLine(line);
 					}
 					} 
 				}
-				setState(481);
+				setState(490);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,32,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,33,_ctx);
 			}
 			}
 		}
@@ -2776,16 +2807,16 @@ public class FunctionCraftParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(483);
+			setState(492);
 			((AdditiveExpressionContext)_localctx).m2 = multiplicativeExpression(0);
 
 			        ((AdditiveExpressionContext)_localctx).expRet =  ((AdditiveExpressionContext)_localctx).m2.expRet;
 			    
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(499);
+			setState(508);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,34,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,35,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
@@ -2795,25 +2826,25 @@ public class FunctionCraftParser extends Parser {
 					_localctx = new AdditiveExpressionContext(_parentctx, _parentState);
 					_localctx.a1 = _prevctx;
 					pushNewRecursionContext(_localctx, _startState, RULE_additiveExpression);
-					setState(486);
+					setState(495);
 					if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
 
 					                      BinaryOperator op;
 					                      int line;
 					              
-					setState(492);
+					setState(501);
 					_errHandler.sync(this);
 					switch (_input.LA(1)) {
 					case PLUS:
 						{
-						setState(488);
+						setState(497);
 						((AdditiveExpressionContext)_localctx).p = match(PLUS);
 						op = BinaryOperator.PLUS;line = (((AdditiveExpressionContext)_localctx).p!=null?((AdditiveExpressionContext)_localctx).p.getLine():0);
 						}
 						break;
 					case MINUS:
 						{
-						setState(490);
+						setState(499);
 						((AdditiveExpressionContext)_localctx).m = match(MINUS);
 						op = BinaryOperator.MINUS;line = (((AdditiveExpressionContext)_localctx).m!=null?((AdditiveExpressionContext)_localctx).m.getLine():0);
 						}
@@ -2821,15 +2852,15 @@ public class FunctionCraftParser extends Parser {
 					default:
 						throw new NoViableAltException(this);
 					}
-					setState(494);
+					setState(503);
 					((AdditiveExpressionContext)_localctx).m1 = multiplicativeExpression(0);
 					((AdditiveExpressionContext)_localctx).expRet =  new BinaryExpression(((AdditiveExpressionContext)_localctx).a1.expRet, ((AdditiveExpressionContext)_localctx).m1.expRet, op);_localctx.expRet.setLine(line);
 					}
 					} 
 				}
-				setState(501);
+				setState(510);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,34,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,35,_ctx);
 			}
 			}
 		}
@@ -2895,14 +2926,14 @@ public class FunctionCraftParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(503);
+			setState(512);
 			((MultiplicativeExpressionContext)_localctx).p2 = preUnaryExpression();
 			((MultiplicativeExpressionContext)_localctx).expRet =  ((MultiplicativeExpressionContext)_localctx).p2.expRet;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(519);
+			setState(528);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,36,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
@@ -2912,25 +2943,25 @@ public class FunctionCraftParser extends Parser {
 					_localctx = new MultiplicativeExpressionContext(_parentctx, _parentState);
 					_localctx.m1 = _prevctx;
 					pushNewRecursionContext(_localctx, _startState, RULE_multiplicativeExpression);
-					setState(506);
+					setState(515);
 					if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
 
 					                      BinaryOperator op;
 					                      int line;
 					              
-					setState(512);
+					setState(521);
 					_errHandler.sync(this);
 					switch (_input.LA(1)) {
 					case MULT:
 						{
-						setState(508);
+						setState(517);
 						((MultiplicativeExpressionContext)_localctx).m = match(MULT);
 						op = BinaryOperator.MULT;line = (((MultiplicativeExpressionContext)_localctx).m!=null?((MultiplicativeExpressionContext)_localctx).m.getLine():0);
 						}
 						break;
 					case DIVIDE:
 						{
-						setState(510);
+						setState(519);
 						((MultiplicativeExpressionContext)_localctx).d = match(DIVIDE);
 						op = BinaryOperator.DIVIDE;line = (((MultiplicativeExpressionContext)_localctx).d!=null?((MultiplicativeExpressionContext)_localctx).d.getLine():0);
 						}
@@ -2938,15 +2969,15 @@ public class FunctionCraftParser extends Parser {
 					default:
 						throw new NoViableAltException(this);
 					}
-					setState(514);
+					setState(523);
 					((MultiplicativeExpressionContext)_localctx).p1 = preUnaryExpression();
 					((MultiplicativeExpressionContext)_localctx).expRet =  new BinaryExpression(((MultiplicativeExpressionContext)_localctx).m1.expRet, ((MultiplicativeExpressionContext)_localctx).p1.expRet, op);_localctx.expRet.setLine(line);
 					}
 					} 
 				}
-				setState(521);
+				setState(530);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,36,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
 			}
 			}
 		}
@@ -3000,7 +3031,7 @@ public class FunctionCraftParser extends Parser {
 		PreUnaryExpressionContext _localctx = new PreUnaryExpressionContext(_ctx, getState());
 		enterRule(_localctx, 56, RULE_preUnaryExpression);
 		try {
-			setState(539);
+			setState(548);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case MINUS:
@@ -3013,33 +3044,33 @@ public class FunctionCraftParser extends Parser {
 				        UnaryOperator op;
 				        int line;
 				    
-				setState(531);
+				setState(540);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case NOT:
 					{
-					setState(523);
+					setState(532);
 					((PreUnaryExpressionContext)_localctx).n = match(NOT);
 					op = UnaryOperator.NOT;line = (((PreUnaryExpressionContext)_localctx).n!=null?((PreUnaryExpressionContext)_localctx).n.getLine():0);
 					}
 					break;
 				case MINUS:
 					{
-					setState(525);
+					setState(534);
 					((PreUnaryExpressionContext)_localctx).m = match(MINUS);
 					op = UnaryOperator.MINUS;line = (((PreUnaryExpressionContext)_localctx).m!=null?((PreUnaryExpressionContext)_localctx).m.getLine():0);
 					}
 					break;
 				case INCREMENT:
 					{
-					setState(527);
+					setState(536);
 					((PreUnaryExpressionContext)_localctx).i = match(INCREMENT);
 					op = UnaryOperator.INC;line = (((PreUnaryExpressionContext)_localctx).i!=null?((PreUnaryExpressionContext)_localctx).i.getLine():0);
 					}
 					break;
 				case DECREMENT:
 					{
-					setState(529);
+					setState(538);
 					((PreUnaryExpressionContext)_localctx).d = match(DECREMENT);
 					op = UnaryOperator.DEC;line = (((PreUnaryExpressionContext)_localctx).d!=null?((PreUnaryExpressionContext)_localctx).d.getLine():0);
 					}
@@ -3047,7 +3078,7 @@ public class FunctionCraftParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(533);
+				setState(542);
 				((PreUnaryExpressionContext)_localctx).a1 = accessExpression();
 				((PreUnaryExpressionContext)_localctx).expRet =  new UnaryExpression(((PreUnaryExpressionContext)_localctx).a1.expRet, op);_localctx.expRet.setLine(line);
 				}
@@ -3067,7 +3098,7 @@ public class FunctionCraftParser extends Parser {
 			case STRING_VALUE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(536);
+				setState(545);
 				((PreUnaryExpressionContext)_localctx).a2 = accessExpression();
 				((PreUnaryExpressionContext)_localctx).expRet =  ((PreUnaryExpressionContext)_localctx).a2.expRet;
 				}
@@ -3149,41 +3180,41 @@ public class FunctionCraftParser extends Parser {
 			        ArrayList<Expression> args = new ArrayList<Expression>();
 			        ArrayList<Expression> dimentions = new ArrayList<Expression>();
 			    
-			setState(542);
+			setState(551);
 			((AccessExpressionContext)_localctx).o = otherExpression();
-			setState(550);
+			setState(559);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,39,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(543);
+					setState(552);
 					match(LPAR);
-					setState(544);
+					setState(553);
 					((AccessExpressionContext)_localctx).f = functionArguments();
 
 					        isAccessExpression = true;
 					        isFunctionCall =true;
 					        args.addAll(((AccessExpressionContext)_localctx).f.funcArgsRet);
 					    
-					setState(546);
+					setState(555);
 					match(RPAR);
 					}
 					} 
 				}
-				setState(552);
+				setState(561);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,39,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
 			}
-			setState(558);
+			setState(567);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,41,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(553);
+					setState(562);
 					((AccessExpressionContext)_localctx).a = accessList();
 
 					        isMultiDimentional = true;
@@ -3193,9 +3224,9 @@ public class FunctionCraftParser extends Parser {
 					}
 					} 
 				}
-				setState(560);
+				setState(569);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,41,_ctx);
 			}
 
 			        if(!isAccessExpression){
@@ -3285,13 +3316,13 @@ public class FunctionCraftParser extends Parser {
 		enterRule(_localctx, 60, RULE_otherExpression);
 		int _la;
 		try {
-			setState(590);
+			setState(599);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,42,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,43,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(563);
+				setState(572);
 				((OtherExpressionContext)_localctx).v = values();
 				((OtherExpressionContext)_localctx).expRet =  ((OtherExpressionContext)_localctx).v.valRet;
 				}
@@ -3299,7 +3330,7 @@ public class FunctionCraftParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(566);
+				setState(575);
 				((OtherExpressionContext)_localctx).id = match(IDENTIFIER);
 
 				        ((OtherExpressionContext)_localctx).expRet =  new Identifier((((OtherExpressionContext)_localctx).id!=null?((OtherExpressionContext)_localctx).id.getText():null));
@@ -3310,7 +3341,7 @@ public class FunctionCraftParser extends Parser {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(568);
+				setState(577);
 				((OtherExpressionContext)_localctx).lambda = lambdaFunction();
 				((OtherExpressionContext)_localctx).expRet =  ((OtherExpressionContext)_localctx).lambda.lambdaRet;
 				}
@@ -3318,7 +3349,7 @@ public class FunctionCraftParser extends Parser {
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(571);
+				setState(580);
 				((OtherExpressionContext)_localctx).chop = chopStatement();
 				((OtherExpressionContext)_localctx).expRet =  ((OtherExpressionContext)_localctx).chop.chopRet;
 				}
@@ -3326,7 +3357,7 @@ public class FunctionCraftParser extends Parser {
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(574);
+				setState(583);
 				((OtherExpressionContext)_localctx).chomp = chompStatement();
 				((OtherExpressionContext)_localctx).expRet =  ((OtherExpressionContext)_localctx).chomp.chompRet;
 				}
@@ -3334,7 +3365,7 @@ public class FunctionCraftParser extends Parser {
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(577);
+				setState(586);
 				((OtherExpressionContext)_localctx).match = matchPatternStatement();
 				((OtherExpressionContext)_localctx).expRet =  ((OtherExpressionContext)_localctx).match.matchPatRet;
 				}
@@ -3342,7 +3373,7 @@ public class FunctionCraftParser extends Parser {
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(580);
+				setState(589);
 				((OtherExpressionContext)_localctx).len_ = lenStatement();
 				((OtherExpressionContext)_localctx).expRet =  ((OtherExpressionContext)_localctx).len_.lenRet;
 				}
@@ -3350,20 +3381,20 @@ public class FunctionCraftParser extends Parser {
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(583);
+				setState(592);
 				match(LPAR);
-				setState(587);
+				setState(596);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -1150101502091851712L) != 0)) {
 					{
-					setState(584);
+					setState(593);
 					((OtherExpressionContext)_localctx).e = expression(0);
 					((OtherExpressionContext)_localctx).expRet =  ((OtherExpressionContext)_localctx).e.expRet;
 					}
 				}
 
-				setState(589);
+				setState(598);
 				match(RPAR);
 				}
 				break;
@@ -3420,15 +3451,15 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(592);
+			setState(601);
 			((LambdaFunctionContext)_localctx).a = match(ARROW);
-			setState(593);
+			setState(602);
 			((LambdaFunctionContext)_localctx).fd = functionArgumentsDeclaration();
-			setState(594);
+			setState(603);
 			match(LBRACE);
-			setState(595);
+			setState(604);
 			((LambdaFunctionContext)_localctx).b = body();
-			setState(596);
+			setState(605);
 			match(RBRACE);
 
 			        ((LambdaFunctionContext)_localctx).lambdaRet =  new LambdaExpression(((LambdaFunctionContext)_localctx).fd.argRet, ((LambdaFunctionContext)_localctx).b.bodyRet);
@@ -3491,14 +3522,14 @@ public class FunctionCraftParser extends Parser {
 		ValuesContext _localctx = new ValuesContext(_ctx, getState());
 		enterRule(_localctx, 64, RULE_values);
 		try {
-			setState(614);
+			setState(623);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
 			case FALSE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(599);
+				setState(608);
 				((ValuesContext)_localctx).b = boolValue();
 				((ValuesContext)_localctx).valRet =  ((ValuesContext)_localctx).b.boolValRet;
 				}
@@ -3506,7 +3537,7 @@ public class FunctionCraftParser extends Parser {
 			case STRING_VALUE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(602);
+				setState(611);
 				((ValuesContext)_localctx).s = match(STRING_VALUE);
 				((ValuesContext)_localctx).valRet =  new StringValue((((ValuesContext)_localctx).s!=null?((ValuesContext)_localctx).s.getText():null)); _localctx.valRet.setLine((((ValuesContext)_localctx).s!=null?((ValuesContext)_localctx).s.getLine():0));
 				}
@@ -3514,7 +3545,7 @@ public class FunctionCraftParser extends Parser {
 			case INT_VALUE:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(604);
+				setState(613);
 				((ValuesContext)_localctx).i = match(INT_VALUE);
 				((ValuesContext)_localctx).valRet =  new IntValue((((ValuesContext)_localctx).i!=null?Integer.valueOf(((ValuesContext)_localctx).i.getText()):0));_localctx.valRet.setLine((((ValuesContext)_localctx).i!=null?((ValuesContext)_localctx).i.getLine():0));
 				}
@@ -3522,7 +3553,7 @@ public class FunctionCraftParser extends Parser {
 			case FLOAT_VALUE:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(606);
+				setState(615);
 				((ValuesContext)_localctx).float_ = match(FLOAT_VALUE);
 				((ValuesContext)_localctx).valRet =  new FloatValue(Float.parseFloat((((ValuesContext)_localctx).float_!=null?((ValuesContext)_localctx).float_.getText():null)));_localctx.valRet.setLine((((ValuesContext)_localctx).float_!=null?((ValuesContext)_localctx).float_.getLine():0));
 				}
@@ -3530,7 +3561,7 @@ public class FunctionCraftParser extends Parser {
 			case LBRACK:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(608);
+				setState(617);
 				((ValuesContext)_localctx).l = listValue();
 				((ValuesContext)_localctx).valRet =  ((ValuesContext)_localctx).l.listValRet;
 				}
@@ -3538,7 +3569,7 @@ public class FunctionCraftParser extends Parser {
 			case METHOD:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(611);
+				setState(620);
 				((ValuesContext)_localctx).f = functionPointer();
 				((ValuesContext)_localctx).valRet =  ((ValuesContext)_localctx).f.fpRet;
 				}
@@ -3593,11 +3624,11 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(616);
+			setState(625);
 			((ListValueContext)_localctx).l = match(LBRACK);
-			setState(617);
+			setState(626);
 			((ListValueContext)_localctx).f = functionArguments();
-			setState(618);
+			setState(627);
 			match(RBRACK);
 
 			        ((ListValueContext)_localctx).listValRet =  new ListValue(((ListValueContext)_localctx).f.funcArgsRet);
@@ -3646,13 +3677,13 @@ public class FunctionCraftParser extends Parser {
 		BoolValueContext _localctx = new BoolValueContext(_ctx, getState());
 		enterRule(_localctx, 68, RULE_boolValue);
 		try {
-			setState(625);
+			setState(634);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(621);
+				setState(630);
 				((BoolValueContext)_localctx).t = match(TRUE);
 				((BoolValueContext)_localctx).boolValRet =  new BoolValue(true); _localctx.boolValRet.setLine((((BoolValueContext)_localctx).t!=null?((BoolValueContext)_localctx).t.getLine():0));
 				}
@@ -3660,7 +3691,7 @@ public class FunctionCraftParser extends Parser {
 			case FALSE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(623);
+				setState(632);
 				((BoolValueContext)_localctx).f = match(FALSE);
 				((BoolValueContext)_localctx).boolValRet =  new BoolValue(false); _localctx.boolValRet.setLine((((BoolValueContext)_localctx).f!=null?((BoolValueContext)_localctx).f.getLine():0));
 				}
@@ -3715,15 +3746,15 @@ public class FunctionCraftParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(627);
+			setState(636);
 			((FunctionPointerContext)_localctx).m = match(METHOD);
-			setState(628);
+			setState(637);
 			match(LPAR);
-			setState(629);
+			setState(638);
 			match(COLON);
-			setState(630);
+			setState(639);
 			((FunctionPointerContext)_localctx).id = match(IDENTIFIER);
-			setState(631);
+			setState(640);
 			match(RPAR);
 
 			        Identifier id_ = new Identifier((((FunctionPointerContext)_localctx).id!=null?((FunctionPointerContext)_localctx).id.getText():null));
@@ -3787,7 +3818,7 @@ public class FunctionCraftParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0001A\u027b\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0004\u0001A\u0284\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
 		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
 		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
 		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
@@ -3822,395 +3853,400 @@ public class FunctionCraftParser extends Parser {
 		"\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0003\u0007\u00cd\b\u0007\u0001"+
 		"\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0003"+
 		"\u0007\u00d5\b\u0007\u0001\u0007\u0001\u0007\u0001\b\u0001\b\u0001\b\u0001"+
-		"\b\u0001\b\u0001\b\u0001\b\u0003\b\u00e0\b\b\u0001\b\u0001\b\u0001\b\u0003"+
-		"\b\u00e5\b\b\u0005\b\u00e7\b\b\n\b\f\b\u00ea\t\b\u0005\b\u00ec\b\b\n\b"+
-		"\f\b\u00ef\t\b\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t"+
-		"\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b\u0001\u000b"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0003\b\u00e2\b\b\u0001\b\u0001"+
+		"\b\u0001\b\u0003\b\u00e7\b\b\u0001\b\u0001\b\u0001\b\u0003\b\u00ec\b\b"+
+		"\u0005\b\u00ee\b\b\n\b\f\b\u00f1\t\b\u0005\b\u00f3\b\b\n\b\f\b\u00f6\t"+
+		"\b\u0001\b\u0001\b\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001"+
+		"\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b\u0001\u000b"+
 		"\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b"+
 		"\u0001\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\r\u0001"+
 		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0003"+
-		"\r\u0117\b\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
-		"\r\u0003\r\u0121\b\r\u0001\r\u0001\r\u0005\r\u0125\b\r\n\r\f\r\u0128\t"+
-		"\r\u0001\r\u0001\r\u0001\r\u0003\r\u012d\b\r\u0001\u000e\u0001\u000e\u0001"+
+		"\r\u0120\b\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
+		"\r\u0003\r\u012a\b\r\u0001\r\u0001\r\u0005\r\u012e\b\r\n\r\f\r\u0131\t"+
+		"\r\u0001\r\u0001\r\u0001\r\u0003\r\u0136\b\r\u0001\u000e\u0001\u000e\u0001"+
 		"\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001"+
 		"\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
 		"\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
-		"\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0005\u000f\u0147\b\u000f\n"+
-		"\u000f\f\u000f\u014a\t\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
-		"\u000f\u0003\u000f\u0150\b\u000f\u0001\u000f\u0001\u000f\u0001\u0010\u0001"+
+		"\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0005\u000f\u0150\b\u000f\n"+
+		"\u000f\f\u000f\u0153\t\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
+		"\u000f\u0003\u000f\u0159\b\u000f\u0001\u000f\u0001\u000f\u0001\u0010\u0001"+
 		"\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001"+
 		"\u0010\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001"+
 		"\u0011\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001"+
 		"\u0012\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0003"+
-		"\u0013\u016d\b\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001"+
+		"\u0013\u0176\b\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001"+
 		"\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001"+
-		"\u0013\u0001\u0013\u0003\u0013\u017b\b\u0013\u0001\u0013\u0001\u0013\u0001"+
+		"\u0013\u0001\u0013\u0003\u0013\u0184\b\u0013\u0001\u0013\u0001\u0013\u0001"+
 		"\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001"+
 		"\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001"+
 		"\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001"+
 		"\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001"+
 		"\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0003"+
-		"\u0015\u019d\b\u0015\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0005"+
-		"\u0016\u01a3\b\u0016\n\u0016\f\u0016\u01a6\t\u0016\u0001\u0016\u0001\u0016"+
-		"\u0001\u0016\u0003\u0016\u01ab\b\u0016\u0001\u0017\u0001\u0017\u0001\u0017"+
+		"\u0015\u01a6\b\u0015\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0005"+
+		"\u0016\u01ac\b\u0016\n\u0016\f\u0016\u01af\t\u0016\u0001\u0016\u0001\u0016"+
+		"\u0001\u0016\u0003\u0016\u01b4\b\u0016\u0001\u0017\u0001\u0017\u0001\u0017"+
 		"\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017"+
-		"\u0005\u0017\u01b6\b\u0017\n\u0017\f\u0017\u01b9\t\u0017\u0001\u0018\u0001"+
-		"\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0003\u0018\u01c1"+
+		"\u0005\u0017\u01bf\b\u0017\n\u0017\f\u0017\u01c2\t\u0017\u0001\u0018\u0001"+
+		"\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0003\u0018\u01ca"+
 		"\b\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001"+
-		"\u0018\u0003\u0018\u01c9\b\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0001"+
+		"\u0018\u0003\u0018\u01d2\b\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0001"+
 		"\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001"+
-		"\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0003\u0019\u01d9"+
-		"\b\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0005\u0019\u01de\b\u0019"+
-		"\n\u0019\f\u0019\u01e1\t\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001"+
+		"\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0003\u0019\u01e2"+
+		"\b\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0005\u0019\u01e7\b\u0019"+
+		"\n\u0019\f\u0019\u01ea\t\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001"+
 		"\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001"+
-		"\u001a\u0003\u001a\u01ed\b\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0005"+
-		"\u001a\u01f2\b\u001a\n\u001a\f\u001a\u01f5\t\u001a\u0001\u001b\u0001\u001b"+
+		"\u001a\u0003\u001a\u01f6\b\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0005"+
+		"\u001a\u01fb\b\u001a\n\u001a\f\u001a\u01fe\t\u001a\u0001\u001b\u0001\u001b"+
 		"\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b"+
-		"\u0001\u001b\u0001\u001b\u0003\u001b\u0201\b\u001b\u0001\u001b\u0001\u001b"+
-		"\u0001\u001b\u0005\u001b\u0206\b\u001b\n\u001b\f\u001b\u0209\t\u001b\u0001"+
+		"\u0001\u001b\u0001\u001b\u0003\u001b\u020a\b\u001b\u0001\u001b\u0001\u001b"+
+		"\u0001\u001b\u0005\u001b\u020f\b\u001b\n\u001b\f\u001b\u0212\t\u001b\u0001"+
 		"\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001"+
-		"\u001c\u0001\u001c\u0001\u001c\u0003\u001c\u0214\b\u001c\u0001\u001c\u0001"+
-		"\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0003\u001c\u021c"+
+		"\u001c\u0001\u001c\u0001\u001c\u0003\u001c\u021d\b\u001c\u0001\u001c\u0001"+
+		"\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0003\u001c\u0225"+
 		"\b\u001c\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001"+
-		"\u001d\u0001\u001d\u0005\u001d\u0225\b\u001d\n\u001d\f\u001d\u0228\t\u001d"+
-		"\u0001\u001d\u0001\u001d\u0001\u001d\u0005\u001d\u022d\b\u001d\n\u001d"+
-		"\f\u001d\u0230\t\u001d\u0001\u001d\u0001\u001d\u0001\u001e\u0001\u001e"+
+		"\u001d\u0001\u001d\u0005\u001d\u022e\b\u001d\n\u001d\f\u001d\u0231\t\u001d"+
+		"\u0001\u001d\u0001\u001d\u0001\u001d\u0005\u001d\u0236\b\u001d\n\u001d"+
+		"\f\u001d\u0239\t\u001d\u0001\u001d\u0001\u001d\u0001\u001e\u0001\u001e"+
 		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e"+
 		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e"+
 		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e"+
-		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0003\u001e\u024c\b\u001e"+
-		"\u0001\u001e\u0003\u001e\u024f\b\u001e\u0001\u001f\u0001\u001f\u0001\u001f"+
+		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0003\u001e\u0255\b\u001e"+
+		"\u0001\u001e\u0003\u001e\u0258\b\u001e\u0001\u001f\u0001\u001f\u0001\u001f"+
 		"\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001 \u0001 \u0001 "+
 		"\u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001"+
-		" \u0001 \u0001 \u0003 \u0267\b \u0001!\u0001!\u0001!\u0001!\u0001!\u0001"+
-		"\"\u0001\"\u0001\"\u0001\"\u0003\"\u0272\b\"\u0001#\u0001#\u0001#\u0001"+
+		" \u0001 \u0001 \u0003 \u0270\b \u0001!\u0001!\u0001!\u0001!\u0001!\u0001"+
+		"\"\u0001\"\u0001\"\u0001\"\u0003\"\u027b\b\"\u0001#\u0001#\u0001#\u0001"+
 		"#\u0001#\u0001#\u0001#\u0001#\u0000\u0004.246$\u0000\u0002\u0004\u0006"+
 		"\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e \"$&(*,."+
-		"02468:<>@BDF\u0000\u0001\u0001\u0000\u001e\u001f\u029c\u0000H\u0001\u0000"+
-		"\u0000\u0000\u0002W\u0001\u0000\u0000\u0000\u0004b\u0001\u0000\u0000\u0000"+
-		"\u0006\u0089\u0001\u0000\u0000\u0000\b\u009f\u0001\u0000\u0000\u0000\n"+
-		"\u00a9\u0001\u0000\u0000\u0000\f\u00b7\u0001\u0000\u0000\u0000\u000e\u00c1"+
-		"\u0001\u0000\u0000\u0000\u0010\u00d8\u0001\u0000\u0000\u0000\u0012\u00f0"+
-		"\u0001\u0000\u0000\u0000\u0014\u00f7\u0001\u0000\u0000\u0000\u0016\u00fd"+
-		"\u0001\u0000\u0000\u0000\u0018\u0106\u0001\u0000\u0000\u0000\u001a\u010c"+
-		"\u0001\u0000\u0000\u0000\u001c\u012e\u0001\u0000\u0000\u0000\u001e\u0136"+
-		"\u0001\u0000\u0000\u0000 \u0153\u0001\u0000\u0000\u0000\"\u015b\u0001"+
-		"\u0000\u0000\u0000$\u0161\u0001\u0000\u0000\u0000&\u0167\u0001\u0000\u0000"+
-		"\u0000(\u0180\u0001\u0000\u0000\u0000*\u019c\u0001\u0000\u0000\u0000,"+
-		"\u019e\u0001\u0000\u0000\u0000.\u01ac\u0001\u0000\u0000\u00000\u01c8\u0001"+
-		"\u0000\u0000\u00002\u01ca\u0001\u0000\u0000\u00004\u01e2\u0001\u0000\u0000"+
-		"\u00006\u01f6\u0001\u0000\u0000\u00008\u021b\u0001\u0000\u0000\u0000:"+
-		"\u021d\u0001\u0000\u0000\u0000<\u024e\u0001\u0000\u0000\u0000>\u0250\u0001"+
-		"\u0000\u0000\u0000@\u0266\u0001\u0000\u0000\u0000B\u0268\u0001\u0000\u0000"+
-		"\u0000D\u0271\u0001\u0000\u0000\u0000F\u0273\u0001\u0000\u0000\u0000H"+
-		"Q\u0006\u0000\uffff\uffff\u0000IJ\u0003\u0002\u0001\u0000JK\u0006\u0000"+
-		"\uffff\uffff\u0000KP\u0001\u0000\u0000\u0000LM\u0003\u0006\u0003\u0000"+
-		"MN\u0006\u0000\uffff\uffff\u0000NP\u0001\u0000\u0000\u0000OI\u0001\u0000"+
-		"\u0000\u0000OL\u0001\u0000\u0000\u0000PS\u0001\u0000\u0000\u0000QO\u0001"+
-		"\u0000\u0000\u0000QR\u0001\u0000\u0000\u0000RT\u0001\u0000\u0000\u0000"+
-		"SQ\u0001\u0000\u0000\u0000TU\u0003\b\u0004\u0000UV\u0006\u0000\uffff\uffff"+
-		"\u0000V\u0001\u0001\u0000\u0000\u0000WX\u0006\u0001\uffff\uffff\u0000"+
-		"XY\u0005\u0001\u0000\u0000YZ\u0006\u0001\uffff\uffff\u0000Z[\u0005>\u0000"+
-		"\u0000[\\\u0006\u0001\uffff\uffff\u0000\\]\u0003\u0004\u0002\u0000]^\u0006"+
-		"\u0001\uffff\uffff\u0000^_\u0003,\u0016\u0000_`\u0006\u0001\uffff\uffff"+
-		"\u0000`a\u0005\u0002\u0000\u0000a\u0003\u0001\u0000\u0000\u0000bc\u0006"+
-		"\u0002\uffff\uffff\u0000c\u0085\u00051\u0000\u0000de\u0005>\u0000\u0000"+
-		"ek\u0006\u0002\uffff\uffff\u0000fg\u00057\u0000\u0000gh\u0005>\u0000\u0000"+
-		"hj\u0006\u0002\uffff\uffff\u0000if\u0001\u0000\u0000\u0000jm\u0001\u0000"+
-		"\u0000\u0000ki\u0001\u0000\u0000\u0000kl\u0001\u0000\u0000\u0000l\u0083"+
-		"\u0001\u0000\u0000\u0000mk\u0001\u0000\u0000\u0000no\u00057\u0000\u0000"+
-		"op\u00053\u0000\u0000pq\u0005>\u0000\u0000qr\u0006\u0002\uffff\uffff\u0000"+
-		"rs\u00050\u0000\u0000st\u0003.\u0017\u0000t~\u0006\u0002\uffff\uffff\u0000"+
-		"uv\u00057\u0000\u0000vw\u0005>\u0000\u0000wx\u0006\u0002\uffff\uffff\u0000"+
-		"xy\u00050\u0000\u0000yz\u0003.\u0017\u0000z{\u0006\u0002\uffff\uffff\u0000"+
-		"{}\u0001\u0000\u0000\u0000|u\u0001\u0000\u0000\u0000}\u0080\u0001\u0000"+
-		"\u0000\u0000~|\u0001\u0000\u0000\u0000~\u007f\u0001\u0000\u0000\u0000"+
-		"\u007f\u0081\u0001\u0000\u0000\u0000\u0080~\u0001\u0000\u0000\u0000\u0081"+
-		"\u0082\u00054\u0000\u0000\u0082\u0084\u0001\u0000\u0000\u0000\u0083n\u0001"+
-		"\u0000\u0000\u0000\u0083\u0084\u0001\u0000\u0000\u0000\u0084\u0086\u0001"+
-		"\u0000\u0000\u0000\u0085d\u0001\u0000\u0000\u0000\u0085\u0086\u0001\u0000"+
-		"\u0000\u0000\u0086\u0087\u0001\u0000\u0000\u0000\u0087\u0088\u00052\u0000"+
-		"\u0000\u0088\u0005\u0001\u0000\u0000\u0000\u0089\u008a\u0005\f\u0000\u0000"+
-		"\u008a\u008b\u0006\u0003\uffff\uffff\u0000\u008b\u008c\u0005>\u0000\u0000"+
-		"\u008c\u008d\u0006\u0003\uffff\uffff\u0000\u008d\u008e\u00051\u0000\u0000"+
-		"\u008e\u008f\u0005>\u0000\u0000\u008f\u0090\u0006\u0003\uffff\uffff\u0000"+
-		"\u0090\u009a\u00052\u0000\u0000\u0091\u0092\u0005#\u0000\u0000\u0092\u0093"+
-		"\u0003\u0010\b\u0000\u0093\u0094\u0006\u0003\uffff\uffff\u0000\u0094\u0095"+
-		"\u00050\u0000\u0000\u0095\u0096\u0003.\u0017\u0000\u0096\u0097\u0006\u0003"+
-		"\uffff\uffff\u0000\u0097\u0099\u0001\u0000\u0000\u0000\u0098\u0091\u0001"+
-		"\u0000\u0000\u0000\u0099\u009c\u0001\u0000\u0000\u0000\u009a\u0098\u0001"+
-		"\u0000\u0000\u0000\u009a\u009b\u0001\u0000\u0000\u0000\u009b\u009d\u0001"+
-		"\u0000\u0000\u0000\u009c\u009a\u0001\u0000\u0000\u0000\u009d\u009e\u0005"+
-		";\u0000\u0000\u009e\u0007\u0001\u0000\u0000\u0000\u009f\u00a0\u0006\u0004"+
-		"\uffff\uffff\u0000\u00a0\u00a1\u0005\u0001\u0000\u0000\u00a1\u00a2\u0005"+
-		"\u0003\u0000\u0000\u00a2\u00a3\u0006\u0004\uffff\uffff\u0000\u00a3\u00a4"+
-		"\u00051\u0000\u0000\u00a4\u00a5\u00052\u0000\u0000\u00a5\u00a6\u0003,"+
-		"\u0016\u0000\u00a6\u00a7\u0006\u0004\uffff\uffff\u0000\u00a7\u00a8\u0005"+
-		"\u0002\u0000\u0000\u00a8\t\u0001\u0000\u0000\u0000\u00a9\u00b5\u0006\u0005"+
-		"\uffff\uffff\u0000\u00aa\u00ab\u0003.\u0017\u0000\u00ab\u00b2\u0006\u0005"+
-		"\uffff\uffff\u0000\u00ac\u00ad\u00057\u0000\u0000\u00ad\u00ae\u0003.\u0017"+
-		"\u0000\u00ae\u00af\u0006\u0005\uffff\uffff\u0000\u00af\u00b1\u0001\u0000"+
-		"\u0000\u0000\u00b0\u00ac\u0001\u0000\u0000\u0000\u00b1\u00b4\u0001\u0000"+
-		"\u0000\u0000\u00b2\u00b0\u0001\u0000\u0000\u0000\u00b2\u00b3\u0001\u0000"+
-		"\u0000\u0000\u00b3\u00b6\u0001\u0000\u0000\u0000\u00b4\u00b2\u0001\u0000"+
-		"\u0000\u0000\u00b5\u00aa\u0001\u0000\u0000\u0000\u00b5\u00b6\u0001\u0000"+
-		"\u0000\u0000\u00b6\u000b\u0001\u0000\u0000\u0000\u00b7\u00b8\u0006\u0006"+
-		"\uffff\uffff\u0000\u00b8\u00bc\u0005\u0007\u0000\u0000\u00b9\u00ba\u0003"+
-		".\u0017\u0000\u00ba\u00bb\u0006\u0006\uffff\uffff\u0000\u00bb\u00bd\u0001"+
-		"\u0000\u0000\u0000\u00bc\u00b9\u0001\u0000\u0000\u0000\u00bc\u00bd\u0001"+
-		"\u0000\u0000\u0000\u00bd\u00be\u0001\u0000\u0000\u0000\u00be\u00bf\u0006"+
-		"\u0006\uffff\uffff\u0000\u00bf\u00c0\u0005;\u0000\u0000\u00c0\r\u0001"+
-		"\u0000\u0000\u0000\u00c1\u00c2\u0006\u0007\uffff\uffff\u0000\u00c2\u00c3"+
-		"\u0005\b\u0000\u0000\u00c3\u00cc\u0006\u0007\uffff\uffff\u0000\u00c4\u00c5"+
-		"\u0003\u0010\b\u0000\u00c5\u00c6\u0006\u0007\uffff\uffff\u0000\u00c6\u00cd"+
-		"\u0001\u0000\u0000\u0000\u00c7\u00c8\u00051\u0000\u0000\u00c8\u00c9\u0003"+
-		"\u0010\b\u0000\u00c9\u00ca\u00052\u0000\u0000\u00ca\u00cb\u0006\u0007"+
-		"\uffff\uffff\u0000\u00cb\u00cd\u0001\u0000\u0000\u0000\u00cc\u00c4\u0001"+
-		"\u0000\u0000\u0000\u00cc\u00c7\u0001\u0000\u0000\u0000\u00cd\u00ce\u0001"+
-		"\u0000\u0000\u0000\u00ce\u00cf\u0003\u001a\r\u0000\u00cf\u00d4\u0006\u0007"+
-		"\uffff\uffff\u0000\u00d0\u00d1\u0005\t\u0000\u0000\u00d1\u00d2\u0003\u001a"+
-		"\r\u0000\u00d2\u00d3\u0006\u0007\uffff\uffff\u0000\u00d3\u00d5\u0001\u0000"+
-		"\u0000\u0000\u00d4\u00d0\u0001\u0000\u0000\u0000\u00d4\u00d5\u0001\u0000"+
-		"\u0000\u0000\u00d5\u00d6\u0001\u0000\u0000\u0000\u00d6\u00d7\u0005\u0002"+
-		"\u0000\u0000\u00d7\u000f\u0001\u0000\u0000\u0000\u00d8\u00ed\u0006\b\uffff"+
-		"\uffff\u0000\u00d9\u00da\u00051\u0000\u0000\u00da\u00db\u0003.\u0017\u0000"+
-		"\u00db\u00dc\u0006\b\uffff\uffff\u0000\u00dc\u00e8\u00052\u0000\u0000"+
-		"\u00dd\u00df\u0007\u0000\u0000\u0000\u00de\u00e0\u00051\u0000\u0000\u00df"+
-		"\u00de\u0001\u0000\u0000\u0000\u00df\u00e0\u0001\u0000\u0000\u0000\u00e0"+
-		"\u00e1\u0001\u0000\u0000\u0000\u00e1\u00e2\u0003\u0010\b\u0000\u00e2\u00e4"+
-		"\u0006\b\uffff\uffff\u0000\u00e3\u00e5\u00052\u0000\u0000\u00e4\u00e3"+
-		"\u0001\u0000\u0000\u0000\u00e4\u00e5\u0001\u0000\u0000\u0000\u00e5\u00e7"+
-		"\u0001\u0000\u0000\u0000\u00e6\u00dd\u0001\u0000\u0000\u0000\u00e7\u00ea"+
-		"\u0001\u0000\u0000\u0000\u00e8\u00e6\u0001\u0000\u0000\u0000\u00e8\u00e9"+
-		"\u0001\u0000\u0000\u0000\u00e9\u00ec\u0001\u0000\u0000\u0000\u00ea\u00e8"+
-		"\u0001\u0000\u0000\u0000\u00eb\u00d9\u0001\u0000\u0000\u0000\u00ec\u00ef"+
-		"\u0001\u0000\u0000\u0000\u00ed\u00eb\u0001\u0000\u0000\u0000\u00ed\u00ee"+
-		"\u0001\u0000\u0000\u0000\u00ee\u0011\u0001\u0000\u0000\u0000\u00ef\u00ed"+
-		"\u0001\u0000\u0000\u0000\u00f0\u00f1\u0005\u0004\u0000\u0000\u00f1\u00f2"+
-		"\u00051\u0000\u0000\u00f2\u00f3\u0003.\u0017\u0000\u00f3\u00f4\u0006\t"+
-		"\uffff\uffff\u0000\u00f4\u00f5\u00052\u0000\u0000\u00f5\u00f6\u0005;\u0000"+
-		"\u0000\u00f6\u0013\u0001\u0000\u0000\u0000\u00f7\u00f8\u0005\u0006\u0000"+
-		"\u0000\u00f8\u00f9\u00051\u0000\u0000\u00f9\u00fa\u0003.\u0017\u0000\u00fa"+
-		"\u00fb\u0006\n\uffff\uffff\u0000\u00fb\u00fc\u00052\u0000\u0000\u00fc"+
-		"\u0015\u0001\u0000\u0000\u0000\u00fd\u00fe\u0005\u0005\u0000\u0000\u00fe"+
-		"\u00ff\u00051\u0000\u0000\u00ff\u0100\u0003.\u0017\u0000\u0100\u0101\u0005"+
-		"7\u0000\u0000\u0101\u0102\u0003.\u0017\u0000\u0102\u0103\u00052\u0000"+
-		"\u0000\u0103\u0104\u0005;\u0000\u0000\u0104\u0105\u0006\u000b\uffff\uffff"+
-		"\u0000\u0105\u0017\u0001\u0000\u0000\u0000\u0106\u0107\u0005\u000e\u0000"+
-		"\u0000\u0107\u0108\u0005\u0011\u0000\u0000\u0108\u0109\u0003\u001a\r\u0000"+
-		"\u0109\u010a\u0006\f\uffff\uffff\u0000\u010a\u010b\u0005\u0002\u0000\u0000"+
-		"\u010b\u0019\u0001\u0000\u0000\u0000\u010c\u0126\u0006\r\uffff\uffff\u0000"+
-		"\u010d\u010e\u0003*\u0015\u0000\u010e\u010f\u0006\r\uffff\uffff\u0000"+
-		"\u010f\u0125\u0001\u0000\u0000\u0000\u0110\u0111\u0005(\u0000\u0000\u0111"+
-		"\u0116\u0006\r\uffff\uffff\u0000\u0112\u0113\u0005\b\u0000\u0000\u0113"+
-		"\u0114\u0003\u0010\b\u0000\u0114\u0115\u0006\r\uffff\uffff\u0000\u0115"+
-		"\u0117\u0001\u0000\u0000\u0000\u0116\u0112\u0001\u0000\u0000\u0000\u0116"+
-		"\u0117\u0001\u0000\u0000\u0000\u0117\u0118\u0001\u0000\u0000\u0000\u0118"+
-		"\u0119\u0006\r\uffff\uffff\u0000\u0119\u0125\u0005;\u0000\u0000\u011a"+
-		"\u011b\u0005)\u0000\u0000\u011b\u0120\u0006\r\uffff\uffff\u0000\u011c"+
-		"\u011d\u0005\b\u0000\u0000\u011d\u011e\u0003\u0010\b\u0000\u011e\u011f"+
-		"\u0006\r\uffff\uffff\u0000\u011f\u0121\u0001\u0000\u0000\u0000\u0120\u011c"+
-		"\u0001\u0000\u0000\u0000\u0120\u0121\u0001\u0000\u0000\u0000\u0121\u0122"+
-		"\u0001\u0000\u0000\u0000\u0122\u0123\u0006\r\uffff\uffff\u0000\u0123\u0125"+
-		"\u0005;\u0000\u0000\u0124\u010d\u0001\u0000\u0000\u0000\u0124\u0110\u0001"+
-		"\u0000\u0000\u0000\u0124\u011a\u0001\u0000\u0000\u0000\u0125\u0128\u0001"+
-		"\u0000\u0000\u0000\u0126\u0124\u0001\u0000\u0000\u0000\u0126\u0127\u0001"+
-		"\u0000\u0000\u0000\u0127\u012c\u0001\u0000\u0000\u0000\u0128\u0126\u0001"+
-		"\u0000\u0000\u0000\u0129\u012a\u0003\f\u0006\u0000\u012a\u012b\u0006\r"+
-		"\uffff\uffff\u0000\u012b\u012d\u0001\u0000\u0000\u0000\u012c\u0129\u0001"+
-		"\u0000\u0000\u0000\u012c\u012d\u0001\u0000\u0000\u0000\u012d\u001b\u0001"+
-		"\u0000\u0000\u0000\u012e\u012f\u0005\u000f\u0000\u0000\u012f\u0130\u0005"+
-		">\u0000\u0000\u0130\u0131\u0005\u0010\u0000\u0000\u0131\u0132\u0003\u001e"+
-		"\u000f\u0000\u0132\u0133\u0003\u001a\r\u0000\u0133\u0134\u0005\u0002\u0000"+
-		"\u0000\u0134\u0135\u0006\u000e\uffff\uffff\u0000\u0135\u001d\u0001\u0000"+
-		"\u0000\u0000\u0136\u014f\u0006\u000f\uffff\uffff\u0000\u0137\u0138\u0005"+
-		"1\u0000\u0000\u0138\u0139\u0003.\u0017\u0000\u0139\u013a\u00059\u0000"+
-		"\u0000\u013a\u013b\u0003.\u0017\u0000\u013b\u013c\u0006\u000f\uffff\uffff"+
-		"\u0000\u013c\u013d\u00052\u0000\u0000\u013d\u0150\u0001\u0000\u0000\u0000"+
-		"\u013e\u013f\u0006\u000f\uffff\uffff\u0000\u013f\u0140\u00053\u0000\u0000"+
-		"\u0140\u0141\u0003.\u0017\u0000\u0141\u0148\u0006\u000f\uffff\uffff\u0000"+
-		"\u0142\u0143\u00057\u0000\u0000\u0143\u0144\u0003.\u0017\u0000\u0144\u0145"+
-		"\u0006\u000f\uffff\uffff\u0000\u0145\u0147\u0001\u0000\u0000\u0000\u0146"+
-		"\u0142\u0001\u0000\u0000\u0000\u0147\u014a\u0001\u0000\u0000\u0000\u0148"+
-		"\u0146\u0001\u0000\u0000\u0000\u0148\u0149\u0001\u0000\u0000\u0000\u0149"+
-		"\u014b\u0001\u0000\u0000\u0000\u014a\u0148\u0001\u0000\u0000\u0000\u014b"+
-		"\u014c\u00054\u0000\u0000\u014c\u0150\u0001\u0000\u0000\u0000\u014d\u014e"+
-		"\u0005>\u0000\u0000\u014e\u0150\u0006\u000f\uffff\uffff\u0000\u014f\u0137"+
-		"\u0001\u0000\u0000\u0000\u014f\u013e\u0001\u0000\u0000\u0000\u014f\u014d"+
-		"\u0001\u0000\u0000\u0000\u0150\u0151\u0001\u0000\u0000\u0000\u0151\u0152"+
-		"\u0006\u000f\uffff\uffff\u0000\u0152\u001f\u0001\u0000\u0000\u0000\u0153"+
-		"\u0154\u0005>\u0000\u0000\u0154\u0155\u00058\u0000\u0000\u0155\u0156\u0005"+
-		"\r\u0000\u0000\u0156\u0157\u00051\u0000\u0000\u0157\u0158\u0003.\u0017"+
-		"\u0000\u0158\u0159\u00052\u0000\u0000\u0159\u015a\u0006\u0010\uffff\uffff"+
-		"\u0000\u015a!\u0001\u0000\u0000\u0000\u015b\u015c\u0005\u0012\u0000\u0000"+
-		"\u015c\u015d\u00051\u0000\u0000\u015d\u015e\u0003.\u0017\u0000\u015e\u015f"+
-		"\u00052\u0000\u0000\u015f\u0160\u0006\u0011\uffff\uffff\u0000\u0160#\u0001"+
-		"\u0000\u0000\u0000\u0161\u0162\u0005\u0013\u0000\u0000\u0162\u0163\u0005"+
-		"1\u0000\u0000\u0163\u0164\u0003.\u0017\u0000\u0164\u0165\u00052\u0000"+
-		"\u0000\u0165\u0166\u0006\u0012\uffff\uffff\u0000\u0166%\u0001\u0000\u0000"+
-		"\u0000\u0167\u0168\u0006\u0013\uffff\uffff\u0000\u0168\u016c\u0005>\u0000"+
-		"\u0000\u0169\u016a\u0003(\u0014\u0000\u016a\u016b\u0006\u0013\uffff\uffff"+
-		"\u0000\u016b\u016d\u0001\u0000\u0000\u0000\u016c\u0169\u0001\u0000\u0000"+
-		"\u0000\u016c\u016d\u0001\u0000\u0000\u0000\u016d\u017a\u0001\u0000\u0000"+
-		"\u0000\u016e\u016f\u00050\u0000\u0000\u016f\u017b\u0006\u0013\uffff\uffff"+
-		"\u0000\u0170\u0171\u0005+\u0000\u0000\u0171\u017b\u0006\u0013\uffff\uffff"+
-		"\u0000\u0172\u0173\u0005,\u0000\u0000\u0173\u017b\u0006\u0013\uffff\uffff"+
-		"\u0000\u0174\u0175\u0005.\u0000\u0000\u0175\u017b\u0006\u0013\uffff\uffff"+
-		"\u0000\u0176\u0177\u0005-\u0000\u0000\u0177\u017b\u0006\u0013\uffff\uffff"+
-		"\u0000\u0178\u0179\u0005/\u0000\u0000\u0179\u017b\u0006\u0013\uffff\uffff"+
-		"\u0000\u017a\u016e\u0001\u0000\u0000\u0000\u017a\u0170\u0001\u0000\u0000"+
-		"\u0000\u017a\u0172\u0001\u0000\u0000\u0000\u017a\u0174\u0001\u0000\u0000"+
-		"\u0000\u017a\u0176\u0001\u0000\u0000\u0000\u017a\u0178\u0001\u0000\u0000"+
-		"\u0000\u017b\u017c\u0001\u0000\u0000\u0000\u017c\u017d\u0003.\u0017\u0000"+
-		"\u017d\u017e\u0005;\u0000\u0000\u017e\u017f\u0006\u0013\uffff\uffff\u0000"+
-		"\u017f\'\u0001\u0000\u0000\u0000\u0180\u0181\u00053\u0000\u0000\u0181"+
-		"\u0182\u0003.\u0017\u0000\u0182\u0183\u0006\u0014\uffff\uffff\u0000\u0183"+
-		"\u0184\u00054\u0000\u0000\u0184)\u0001\u0000\u0000\u0000\u0185\u0186\u0003"+
-		"\u000e\u0007\u0000\u0186\u0187\u0006\u0015\uffff\uffff\u0000\u0187\u019d"+
-		"\u0001\u0000\u0000\u0000\u0188\u0189\u0003\u0018\f\u0000\u0189\u018a\u0006"+
-		"\u0015\uffff\uffff\u0000\u018a\u019d\u0001\u0000\u0000\u0000\u018b\u018c"+
-		"\u0003\u001c\u000e\u0000\u018c\u018d\u0006\u0015\uffff\uffff\u0000\u018d"+
-		"\u019d\u0001\u0000\u0000\u0000\u018e\u018f\u0003\u0012\t\u0000\u018f\u0190"+
-		"\u0006\u0015\uffff\uffff\u0000\u0190\u019d\u0001\u0000\u0000\u0000\u0191"+
-		"\u0192\u0003\u0016\u000b\u0000\u0192\u0193\u0006\u0015\uffff\uffff\u0000"+
-		"\u0193\u019d\u0001\u0000\u0000\u0000\u0194\u0195\u0003.\u0017\u0000\u0195"+
-		"\u0196\u0006\u0015\uffff\uffff\u0000\u0196\u0197\u0006\u0015\uffff\uffff"+
-		"\u0000\u0197\u0198\u0005;\u0000\u0000\u0198\u019d\u0001\u0000\u0000\u0000"+
-		"\u0199\u019a\u0003&\u0013\u0000\u019a\u019b\u0006\u0015\uffff\uffff\u0000"+
-		"\u019b\u019d\u0001\u0000\u0000\u0000\u019c\u0185\u0001\u0000\u0000\u0000"+
-		"\u019c\u0188\u0001\u0000\u0000\u0000\u019c\u018b\u0001\u0000\u0000\u0000"+
-		"\u019c\u018e\u0001\u0000\u0000\u0000\u019c\u0191\u0001\u0000\u0000\u0000"+
-		"\u019c\u0194\u0001\u0000\u0000\u0000\u019c\u0199\u0001\u0000\u0000\u0000"+
-		"\u019d+\u0001\u0000\u0000\u0000\u019e\u01a4\u0006\u0016\uffff\uffff\u0000"+
-		"\u019f\u01a0\u0003*\u0015\u0000\u01a0\u01a1\u0006\u0016\uffff\uffff\u0000"+
-		"\u01a1\u01a3\u0001\u0000\u0000\u0000\u01a2\u019f\u0001\u0000\u0000\u0000"+
-		"\u01a3\u01a6\u0001\u0000\u0000\u0000\u01a4\u01a2\u0001\u0000\u0000\u0000"+
-		"\u01a4\u01a5\u0001\u0000\u0000\u0000\u01a5\u01aa\u0001\u0000\u0000\u0000"+
-		"\u01a6\u01a4\u0001\u0000\u0000\u0000\u01a7\u01a8\u0003\f\u0006\u0000\u01a8"+
-		"\u01a9\u0006\u0016\uffff\uffff\u0000\u01a9\u01ab\u0001\u0000\u0000\u0000"+
-		"\u01aa\u01a7\u0001\u0000\u0000\u0000\u01aa\u01ab\u0001\u0000\u0000\u0000"+
-		"\u01ab-\u0001\u0000\u0000\u0000\u01ac\u01ad\u0006\u0017\uffff\uffff\u0000"+
-		"\u01ad\u01ae\u00030\u0018\u0000\u01ae\u01af\u0006\u0017\uffff\uffff\u0000"+
-		"\u01af\u01b7\u0001\u0000\u0000\u0000\u01b0\u01b1\n\u0002\u0000\u0000\u01b1"+
-		"\u01b2\u0005%\u0000\u0000\u01b2\u01b3\u00030\u0018\u0000\u01b3\u01b4\u0006"+
-		"\u0017\uffff\uffff\u0000\u01b4\u01b6\u0001\u0000\u0000\u0000\u01b5\u01b0"+
-		"\u0001\u0000\u0000\u0000\u01b6\u01b9\u0001\u0000\u0000\u0000\u01b7\u01b5"+
-		"\u0001\u0000\u0000\u0000\u01b7\u01b8\u0001\u0000\u0000\u0000\u01b8/\u0001"+
-		"\u0000\u0000\u0000\u01b9\u01b7\u0001\u0000\u0000\u0000\u01ba\u01bb\u0003"+
-		"2\u0019\u0000\u01bb\u01c0\u0006\u0018\uffff\uffff\u0000\u01bc\u01bd\u0005"+
-		"\u0018\u0000\u0000\u01bd\u01c1\u0006\u0018\uffff\uffff\u0000\u01be\u01bf"+
-		"\u0005\u0019\u0000\u0000\u01bf\u01c1\u0006\u0018\uffff\uffff\u0000\u01c0"+
-		"\u01bc\u0001\u0000\u0000\u0000\u01c0\u01be\u0001\u0000\u0000\u0000\u01c1"+
-		"\u01c2\u0001\u0000\u0000\u0000\u01c2\u01c3\u00032\u0019\u0000\u01c3\u01c4"+
-		"\u0006\u0018\uffff\uffff\u0000\u01c4\u01c9\u0001\u0000\u0000\u0000\u01c5"+
-		"\u01c6\u00032\u0019\u0000\u01c6\u01c7\u0006\u0018\uffff\uffff\u0000\u01c7"+
-		"\u01c9\u0001\u0000\u0000\u0000\u01c8\u01ba\u0001\u0000\u0000\u0000\u01c8"+
-		"\u01c5\u0001\u0000\u0000\u0000\u01c91\u0001\u0000\u0000\u0000\u01ca\u01cb"+
-		"\u0006\u0019\uffff\uffff\u0000\u01cb\u01cc\u00034\u001a\u0000\u01cc\u01cd"+
-		"\u0006\u0019\uffff\uffff\u0000\u01cd\u01df\u0001\u0000\u0000\u0000\u01ce"+
-		"\u01cf\n\u0002\u0000\u0000\u01cf\u01d8\u0006\u0019\uffff\uffff\u0000\u01d0"+
-		"\u01d1\u0005\u001c\u0000\u0000\u01d1\u01d9\u0006\u0019\uffff\uffff\u0000"+
-		"\u01d2\u01d3\u0005\u001d\u0000\u0000\u01d3\u01d9\u0006\u0019\uffff\uffff"+
-		"\u0000\u01d4\u01d5\u0005\u001a\u0000\u0000\u01d5\u01d9\u0006\u0019\uffff"+
-		"\uffff\u0000\u01d6\u01d7\u0005\u001b\u0000\u0000\u01d7\u01d9\u0006\u0019"+
-		"\uffff\uffff\u0000\u01d8\u01d0\u0001\u0000\u0000\u0000\u01d8\u01d2\u0001"+
-		"\u0000\u0000\u0000\u01d8\u01d4\u0001\u0000\u0000\u0000\u01d8\u01d6\u0001"+
-		"\u0000\u0000\u0000\u01d9\u01da\u0001\u0000\u0000\u0000\u01da\u01db\u0003"+
-		"4\u001a\u0000\u01db\u01dc\u0006\u0019\uffff\uffff\u0000\u01dc\u01de\u0001"+
-		"\u0000\u0000\u0000\u01dd\u01ce\u0001\u0000\u0000\u0000\u01de\u01e1\u0001"+
-		"\u0000\u0000\u0000\u01df\u01dd\u0001\u0000\u0000\u0000\u01df\u01e0\u0001"+
-		"\u0000\u0000\u0000\u01e03\u0001\u0000\u0000\u0000\u01e1\u01df\u0001\u0000"+
-		"\u0000\u0000\u01e2\u01e3\u0006\u001a\uffff\uffff\u0000\u01e3\u01e4\u0003"+
-		"6\u001b\u0000\u01e4\u01e5\u0006\u001a\uffff\uffff\u0000\u01e5\u01f3\u0001"+
-		"\u0000\u0000\u0000\u01e6\u01e7\n\u0002\u0000\u0000\u01e7\u01ec\u0006\u001a"+
-		"\uffff\uffff\u0000\u01e8\u01e9\u0005\u0014\u0000\u0000\u01e9\u01ed\u0006"+
-		"\u001a\uffff\uffff\u0000\u01ea\u01eb\u0005\u0015\u0000\u0000\u01eb\u01ed"+
-		"\u0006\u001a\uffff\uffff\u0000\u01ec\u01e8\u0001\u0000\u0000\u0000\u01ec"+
-		"\u01ea\u0001\u0000\u0000\u0000\u01ed\u01ee\u0001\u0000\u0000\u0000\u01ee"+
-		"\u01ef\u00036\u001b\u0000\u01ef\u01f0\u0006\u001a\uffff\uffff\u0000\u01f0"+
-		"\u01f2\u0001\u0000\u0000\u0000\u01f1\u01e6\u0001\u0000\u0000\u0000\u01f2"+
-		"\u01f5\u0001\u0000\u0000\u0000\u01f3\u01f1\u0001\u0000\u0000\u0000\u01f3"+
-		"\u01f4\u0001\u0000\u0000\u0000\u01f45\u0001\u0000\u0000\u0000\u01f5\u01f3"+
-		"\u0001\u0000\u0000\u0000\u01f6\u01f7\u0006\u001b\uffff\uffff\u0000\u01f7"+
-		"\u01f8\u00038\u001c\u0000\u01f8\u01f9\u0006\u001b\uffff\uffff\u0000\u01f9"+
-		"\u0207\u0001\u0000\u0000\u0000\u01fa\u01fb\n\u0002\u0000\u0000\u01fb\u0200"+
-		"\u0006\u001b\uffff\uffff\u0000\u01fc\u01fd\u0005\u0016\u0000\u0000\u01fd"+
-		"\u0201\u0006\u001b\uffff\uffff\u0000\u01fe\u01ff\u0005\u0017\u0000\u0000"+
-		"\u01ff\u0201\u0006\u001b\uffff\uffff\u0000\u0200\u01fc\u0001\u0000\u0000"+
-		"\u0000\u0200\u01fe\u0001\u0000\u0000\u0000\u0201\u0202\u0001\u0000\u0000"+
-		"\u0000\u0202\u0203\u00038\u001c\u0000\u0203\u0204\u0006\u001b\uffff\uffff"+
-		"\u0000\u0204\u0206\u0001\u0000\u0000\u0000\u0205\u01fa\u0001\u0000\u0000"+
-		"\u0000\u0206\u0209\u0001\u0000\u0000\u0000\u0207\u0205\u0001\u0000\u0000"+
-		"\u0000\u0207\u0208\u0001\u0000\u0000\u0000\u02087\u0001\u0000\u0000\u0000"+
-		"\u0209\u0207\u0001\u0000\u0000\u0000\u020a\u0213\u0006\u001c\uffff\uffff"+
-		"\u0000\u020b\u020c\u0005 \u0000\u0000\u020c\u0214\u0006\u001c\uffff\uffff"+
-		"\u0000\u020d\u020e\u0005\u0015\u0000\u0000\u020e\u0214\u0006\u001c\uffff"+
-		"\uffff\u0000\u020f\u0210\u0005!\u0000\u0000\u0210\u0214\u0006\u001c\uffff"+
-		"\uffff\u0000\u0211\u0212\u0005\"\u0000\u0000\u0212\u0214\u0006\u001c\uffff"+
-		"\uffff\u0000\u0213\u020b\u0001\u0000\u0000\u0000\u0213\u020d\u0001\u0000"+
-		"\u0000\u0000\u0213\u020f\u0001\u0000\u0000\u0000\u0213\u0211\u0001\u0000"+
-		"\u0000\u0000\u0214\u0215\u0001\u0000\u0000\u0000\u0215\u0216\u0003:\u001d"+
-		"\u0000\u0216\u0217\u0006\u001c\uffff\uffff\u0000\u0217\u021c\u0001\u0000"+
-		"\u0000\u0000\u0218\u0219\u0003:\u001d\u0000\u0219\u021a\u0006\u001c\uffff"+
-		"\uffff\u0000\u021a\u021c\u0001\u0000\u0000\u0000\u021b\u020a\u0001\u0000"+
-		"\u0000\u0000\u021b\u0218\u0001\u0000\u0000\u0000\u021c9\u0001\u0000\u0000"+
-		"\u0000\u021d\u021e\u0006\u001d\uffff\uffff\u0000\u021e\u0226\u0003<\u001e"+
-		"\u0000\u021f\u0220\u00051\u0000\u0000\u0220\u0221\u0003\n\u0005\u0000"+
-		"\u0221\u0222\u0006\u001d\uffff\uffff\u0000\u0222\u0223\u00052\u0000\u0000"+
-		"\u0223\u0225\u0001\u0000\u0000\u0000\u0224\u021f\u0001\u0000\u0000\u0000"+
-		"\u0225\u0228\u0001\u0000\u0000\u0000\u0226\u0224\u0001\u0000\u0000\u0000"+
-		"\u0226\u0227\u0001\u0000\u0000\u0000\u0227\u022e\u0001\u0000\u0000\u0000"+
-		"\u0228\u0226\u0001\u0000\u0000\u0000\u0229\u022a\u0003(\u0014\u0000\u022a"+
-		"\u022b\u0006\u001d\uffff\uffff\u0000\u022b\u022d\u0001\u0000\u0000\u0000"+
-		"\u022c\u0229\u0001\u0000\u0000\u0000\u022d\u0230\u0001\u0000\u0000\u0000"+
-		"\u022e\u022c\u0001\u0000\u0000\u0000\u022e\u022f\u0001\u0000\u0000\u0000"+
-		"\u022f\u0231\u0001\u0000\u0000\u0000\u0230\u022e\u0001\u0000\u0000\u0000"+
-		"\u0231\u0232\u0006\u001d\uffff\uffff\u0000\u0232;\u0001\u0000\u0000\u0000"+
-		"\u0233\u0234\u0003@ \u0000\u0234\u0235\u0006\u001e\uffff\uffff\u0000\u0235"+
-		"\u024f\u0001\u0000\u0000\u0000\u0236\u0237\u0005>\u0000\u0000\u0237\u024f"+
-		"\u0006\u001e\uffff\uffff\u0000\u0238\u0239\u0003>\u001f\u0000\u0239\u023a"+
-		"\u0006\u001e\uffff\uffff\u0000\u023a\u024f\u0001\u0000\u0000\u0000\u023b"+
-		"\u023c\u0003\"\u0011\u0000\u023c\u023d\u0006\u001e\uffff\uffff\u0000\u023d"+
-		"\u024f\u0001\u0000\u0000\u0000\u023e\u023f\u0003$\u0012\u0000\u023f\u0240"+
-		"\u0006\u001e\uffff\uffff\u0000\u0240\u024f\u0001\u0000\u0000\u0000\u0241"+
-		"\u0242\u0003 \u0010\u0000\u0242\u0243\u0006\u001e\uffff\uffff\u0000\u0243"+
-		"\u024f\u0001\u0000\u0000\u0000\u0244\u0245\u0003\u0014\n\u0000\u0245\u0246"+
-		"\u0006\u001e\uffff\uffff\u0000\u0246\u024f\u0001\u0000\u0000\u0000\u0247"+
-		"\u024b\u00051\u0000\u0000\u0248\u0249\u0003.\u0017\u0000\u0249\u024a\u0006"+
-		"\u001e\uffff\uffff\u0000\u024a\u024c\u0001\u0000\u0000\u0000\u024b\u0248"+
-		"\u0001\u0000\u0000\u0000\u024b\u024c\u0001\u0000\u0000\u0000\u024c\u024d"+
-		"\u0001\u0000\u0000\u0000\u024d\u024f\u00052\u0000\u0000\u024e\u0233\u0001"+
-		"\u0000\u0000\u0000\u024e\u0236\u0001\u0000\u0000\u0000\u024e\u0238\u0001"+
-		"\u0000\u0000\u0000\u024e\u023b\u0001\u0000\u0000\u0000\u024e\u023e\u0001"+
-		"\u0000\u0000\u0000\u024e\u0241\u0001\u0000\u0000\u0000\u024e\u0244\u0001"+
-		"\u0000\u0000\u0000\u024e\u0247\u0001\u0000\u0000\u0000\u024f=\u0001\u0000"+
-		"\u0000\u0000\u0250\u0251\u0005*\u0000\u0000\u0251\u0252\u0003\u0004\u0002"+
-		"\u0000\u0252\u0253\u00055\u0000\u0000\u0253\u0254\u0003,\u0016\u0000\u0254"+
-		"\u0255\u00056\u0000\u0000\u0255\u0256\u0006\u001f\uffff\uffff\u0000\u0256"+
-		"?\u0001\u0000\u0000\u0000\u0257\u0258\u0003D\"\u0000\u0258\u0259\u0006"+
-		" \uffff\uffff\u0000\u0259\u0267\u0001\u0000\u0000\u0000\u025a\u025b\u0005"+
-		"?\u0000\u0000\u025b\u0267\u0006 \uffff\uffff\u0000\u025c\u025d\u0005<"+
-		"\u0000\u0000\u025d\u0267\u0006 \uffff\uffff\u0000\u025e\u025f\u0005=\u0000"+
-		"\u0000\u025f\u0267\u0006 \uffff\uffff\u0000\u0260\u0261\u0003B!\u0000"+
-		"\u0261\u0262\u0006 \uffff\uffff\u0000\u0262\u0267\u0001\u0000\u0000\u0000"+
-		"\u0263\u0264\u0003F#\u0000\u0264\u0265\u0006 \uffff\uffff\u0000\u0265"+
-		"\u0267\u0001\u0000\u0000\u0000\u0266\u0257\u0001\u0000\u0000\u0000\u0266"+
-		"\u025a\u0001\u0000\u0000\u0000\u0266\u025c\u0001\u0000\u0000\u0000\u0266"+
-		"\u025e\u0001\u0000\u0000\u0000\u0266\u0260\u0001\u0000\u0000\u0000\u0266"+
-		"\u0263\u0001\u0000\u0000\u0000\u0267A\u0001\u0000\u0000\u0000\u0268\u0269"+
-		"\u00053\u0000\u0000\u0269\u026a\u0003\n\u0005\u0000\u026a\u026b\u0005"+
-		"4\u0000\u0000\u026b\u026c\u0006!\uffff\uffff\u0000\u026cC\u0001\u0000"+
-		"\u0000\u0000\u026d\u026e\u0005&\u0000\u0000\u026e\u0272\u0006\"\uffff"+
-		"\uffff\u0000\u026f\u0270\u0005\'\u0000\u0000\u0270\u0272\u0006\"\uffff"+
-		"\uffff\u0000\u0271\u026d\u0001\u0000\u0000\u0000\u0271\u026f\u0001\u0000"+
-		"\u0000\u0000\u0272E\u0001\u0000\u0000\u0000\u0273\u0274\u0005\u000b\u0000"+
-		"\u0000\u0274\u0275\u00051\u0000\u0000\u0275\u0276\u0005:\u0000\u0000\u0276"+
-		"\u0277\u0005>\u0000\u0000\u0277\u0278\u00052\u0000\u0000\u0278\u0279\u0006"+
-		"#\uffff\uffff\u0000\u0279G\u0001\u0000\u0000\u0000-OQk~\u0083\u0085\u009a"+
-		"\u00b2\u00b5\u00bc\u00cc\u00d4\u00df\u00e4\u00e8\u00ed\u0116\u0120\u0124"+
-		"\u0126\u012c\u0148\u014f\u016c\u017a\u019c\u01a4\u01aa\u01b7\u01c0\u01c8"+
-		"\u01d8\u01df\u01ec\u01f3\u0200\u0207\u0213\u021b\u0226\u022e\u024b\u024e"+
-		"\u0266\u0271";
+		"02468:<>@BDF\u0000\u0000\u02a6\u0000H\u0001\u0000\u0000\u0000\u0002W\u0001"+
+		"\u0000\u0000\u0000\u0004b\u0001\u0000\u0000\u0000\u0006\u0089\u0001\u0000"+
+		"\u0000\u0000\b\u009f\u0001\u0000\u0000\u0000\n\u00a9\u0001\u0000\u0000"+
+		"\u0000\f\u00b7\u0001\u0000\u0000\u0000\u000e\u00c1\u0001\u0000\u0000\u0000"+
+		"\u0010\u00d8\u0001\u0000\u0000\u0000\u0012\u00f9\u0001\u0000\u0000\u0000"+
+		"\u0014\u0100\u0001\u0000\u0000\u0000\u0016\u0106\u0001\u0000\u0000\u0000"+
+		"\u0018\u010f\u0001\u0000\u0000\u0000\u001a\u0115\u0001\u0000\u0000\u0000"+
+		"\u001c\u0137\u0001\u0000\u0000\u0000\u001e\u013f\u0001\u0000\u0000\u0000"+
+		" \u015c\u0001\u0000\u0000\u0000\"\u0164\u0001\u0000\u0000\u0000$\u016a"+
+		"\u0001\u0000\u0000\u0000&\u0170\u0001\u0000\u0000\u0000(\u0189\u0001\u0000"+
+		"\u0000\u0000*\u01a5\u0001\u0000\u0000\u0000,\u01a7\u0001\u0000\u0000\u0000"+
+		".\u01b5\u0001\u0000\u0000\u00000\u01d1\u0001\u0000\u0000\u00002\u01d3"+
+		"\u0001\u0000\u0000\u00004\u01eb\u0001\u0000\u0000\u00006\u01ff\u0001\u0000"+
+		"\u0000\u00008\u0224\u0001\u0000\u0000\u0000:\u0226\u0001\u0000\u0000\u0000"+
+		"<\u0257\u0001\u0000\u0000\u0000>\u0259\u0001\u0000\u0000\u0000@\u026f"+
+		"\u0001\u0000\u0000\u0000B\u0271\u0001\u0000\u0000\u0000D\u027a\u0001\u0000"+
+		"\u0000\u0000F\u027c\u0001\u0000\u0000\u0000HQ\u0006\u0000\uffff\uffff"+
+		"\u0000IJ\u0003\u0002\u0001\u0000JK\u0006\u0000\uffff\uffff\u0000KP\u0001"+
+		"\u0000\u0000\u0000LM\u0003\u0006\u0003\u0000MN\u0006\u0000\uffff\uffff"+
+		"\u0000NP\u0001\u0000\u0000\u0000OI\u0001\u0000\u0000\u0000OL\u0001\u0000"+
+		"\u0000\u0000PS\u0001\u0000\u0000\u0000QO\u0001\u0000\u0000\u0000QR\u0001"+
+		"\u0000\u0000\u0000RT\u0001\u0000\u0000\u0000SQ\u0001\u0000\u0000\u0000"+
+		"TU\u0003\b\u0004\u0000UV\u0006\u0000\uffff\uffff\u0000V\u0001\u0001\u0000"+
+		"\u0000\u0000WX\u0006\u0001\uffff\uffff\u0000XY\u0005\u0001\u0000\u0000"+
+		"YZ\u0006\u0001\uffff\uffff\u0000Z[\u0005>\u0000\u0000[\\\u0006\u0001\uffff"+
+		"\uffff\u0000\\]\u0003\u0004\u0002\u0000]^\u0006\u0001\uffff\uffff\u0000"+
+		"^_\u0003,\u0016\u0000_`\u0006\u0001\uffff\uffff\u0000`a\u0005\u0002\u0000"+
+		"\u0000a\u0003\u0001\u0000\u0000\u0000bc\u0006\u0002\uffff\uffff\u0000"+
+		"c\u0085\u00051\u0000\u0000de\u0005>\u0000\u0000ek\u0006\u0002\uffff\uffff"+
+		"\u0000fg\u00057\u0000\u0000gh\u0005>\u0000\u0000hj\u0006\u0002\uffff\uffff"+
+		"\u0000if\u0001\u0000\u0000\u0000jm\u0001\u0000\u0000\u0000ki\u0001\u0000"+
+		"\u0000\u0000kl\u0001\u0000\u0000\u0000l\u0083\u0001\u0000\u0000\u0000"+
+		"mk\u0001\u0000\u0000\u0000no\u00057\u0000\u0000op\u00053\u0000\u0000p"+
+		"q\u0005>\u0000\u0000qr\u0006\u0002\uffff\uffff\u0000rs\u00050\u0000\u0000"+
+		"st\u0003.\u0017\u0000t~\u0006\u0002\uffff\uffff\u0000uv\u00057\u0000\u0000"+
+		"vw\u0005>\u0000\u0000wx\u0006\u0002\uffff\uffff\u0000xy\u00050\u0000\u0000"+
+		"yz\u0003.\u0017\u0000z{\u0006\u0002\uffff\uffff\u0000{}\u0001\u0000\u0000"+
+		"\u0000|u\u0001\u0000\u0000\u0000}\u0080\u0001\u0000\u0000\u0000~|\u0001"+
+		"\u0000\u0000\u0000~\u007f\u0001\u0000\u0000\u0000\u007f\u0081\u0001\u0000"+
+		"\u0000\u0000\u0080~\u0001\u0000\u0000\u0000\u0081\u0082\u00054\u0000\u0000"+
+		"\u0082\u0084\u0001\u0000\u0000\u0000\u0083n\u0001\u0000\u0000\u0000\u0083"+
+		"\u0084\u0001\u0000\u0000\u0000\u0084\u0086\u0001\u0000\u0000\u0000\u0085"+
+		"d\u0001\u0000\u0000\u0000\u0085\u0086\u0001\u0000\u0000\u0000\u0086\u0087"+
+		"\u0001\u0000\u0000\u0000\u0087\u0088\u00052\u0000\u0000\u0088\u0005\u0001"+
+		"\u0000\u0000\u0000\u0089\u008a\u0005\f\u0000\u0000\u008a\u008b\u0006\u0003"+
+		"\uffff\uffff\u0000\u008b\u008c\u0005>\u0000\u0000\u008c\u008d\u0006\u0003"+
+		"\uffff\uffff\u0000\u008d\u008e\u00051\u0000\u0000\u008e\u008f\u0005>\u0000"+
+		"\u0000\u008f\u0090\u0006\u0003\uffff\uffff\u0000\u0090\u009a\u00052\u0000"+
+		"\u0000\u0091\u0092\u0005#\u0000\u0000\u0092\u0093\u0003\u0010\b\u0000"+
+		"\u0093\u0094\u0006\u0003\uffff\uffff\u0000\u0094\u0095\u00050\u0000\u0000"+
+		"\u0095\u0096\u0003.\u0017\u0000\u0096\u0097\u0006\u0003\uffff\uffff\u0000"+
+		"\u0097\u0099\u0001\u0000\u0000\u0000\u0098\u0091\u0001\u0000\u0000\u0000"+
+		"\u0099\u009c\u0001\u0000\u0000\u0000\u009a\u0098\u0001\u0000\u0000\u0000"+
+		"\u009a\u009b\u0001\u0000\u0000\u0000\u009b\u009d\u0001\u0000\u0000\u0000"+
+		"\u009c\u009a\u0001\u0000\u0000\u0000\u009d\u009e\u0005;\u0000\u0000\u009e"+
+		"\u0007\u0001\u0000\u0000\u0000\u009f\u00a0\u0006\u0004\uffff\uffff\u0000"+
+		"\u00a0\u00a1\u0005\u0001\u0000\u0000\u00a1\u00a2\u0005\u0003\u0000\u0000"+
+		"\u00a2\u00a3\u0006\u0004\uffff\uffff\u0000\u00a3\u00a4\u00051\u0000\u0000"+
+		"\u00a4\u00a5\u00052\u0000\u0000\u00a5\u00a6\u0003,\u0016\u0000\u00a6\u00a7"+
+		"\u0006\u0004\uffff\uffff\u0000\u00a7\u00a8\u0005\u0002\u0000\u0000\u00a8"+
+		"\t\u0001\u0000\u0000\u0000\u00a9\u00b5\u0006\u0005\uffff\uffff\u0000\u00aa"+
+		"\u00ab\u0003.\u0017\u0000\u00ab\u00b2\u0006\u0005\uffff\uffff\u0000\u00ac"+
+		"\u00ad\u00057\u0000\u0000\u00ad\u00ae\u0003.\u0017\u0000\u00ae\u00af\u0006"+
+		"\u0005\uffff\uffff\u0000\u00af\u00b1\u0001\u0000\u0000\u0000\u00b0\u00ac"+
+		"\u0001\u0000\u0000\u0000\u00b1\u00b4\u0001\u0000\u0000\u0000\u00b2\u00b0"+
+		"\u0001\u0000\u0000\u0000\u00b2\u00b3\u0001\u0000\u0000\u0000\u00b3\u00b6"+
+		"\u0001\u0000\u0000\u0000\u00b4\u00b2\u0001\u0000\u0000\u0000\u00b5\u00aa"+
+		"\u0001\u0000\u0000\u0000\u00b5\u00b6\u0001\u0000\u0000\u0000\u00b6\u000b"+
+		"\u0001\u0000\u0000\u0000\u00b7\u00b8\u0006\u0006\uffff\uffff\u0000\u00b8"+
+		"\u00bc\u0005\u0007\u0000\u0000\u00b9\u00ba\u0003.\u0017\u0000\u00ba\u00bb"+
+		"\u0006\u0006\uffff\uffff\u0000\u00bb\u00bd\u0001\u0000\u0000\u0000\u00bc"+
+		"\u00b9\u0001\u0000\u0000\u0000\u00bc\u00bd\u0001\u0000\u0000\u0000\u00bd"+
+		"\u00be\u0001\u0000\u0000\u0000\u00be\u00bf\u0006\u0006\uffff\uffff\u0000"+
+		"\u00bf\u00c0\u0005;\u0000\u0000\u00c0\r\u0001\u0000\u0000\u0000\u00c1"+
+		"\u00c2\u0006\u0007\uffff\uffff\u0000\u00c2\u00c3\u0005\b\u0000\u0000\u00c3"+
+		"\u00cc\u0006\u0007\uffff\uffff\u0000\u00c4\u00c5\u0003\u0010\b\u0000\u00c5"+
+		"\u00c6\u0006\u0007\uffff\uffff\u0000\u00c6\u00cd\u0001\u0000\u0000\u0000"+
+		"\u00c7\u00c8\u00051\u0000\u0000\u00c8\u00c9\u0003\u0010\b\u0000\u00c9"+
+		"\u00ca\u00052\u0000\u0000\u00ca\u00cb\u0006\u0007\uffff\uffff\u0000\u00cb"+
+		"\u00cd\u0001\u0000\u0000\u0000\u00cc\u00c4\u0001\u0000\u0000\u0000\u00cc"+
+		"\u00c7\u0001\u0000\u0000\u0000\u00cd\u00ce\u0001\u0000\u0000\u0000\u00ce"+
+		"\u00cf\u0003\u001a\r\u0000\u00cf\u00d4\u0006\u0007\uffff\uffff\u0000\u00d0"+
+		"\u00d1\u0005\t\u0000\u0000\u00d1\u00d2\u0003\u001a\r\u0000\u00d2\u00d3"+
+		"\u0006\u0007\uffff\uffff\u0000\u00d3\u00d5\u0001\u0000\u0000\u0000\u00d4"+
+		"\u00d0\u0001\u0000\u0000\u0000\u00d4\u00d5\u0001\u0000\u0000\u0000\u00d5"+
+		"\u00d6\u0001\u0000\u0000\u0000\u00d6\u00d7\u0005\u0002\u0000\u0000\u00d7"+
+		"\u000f\u0001\u0000\u0000\u0000\u00d8\u00f4\u0006\b\uffff\uffff\u0000\u00d9"+
+		"\u00da\u00051\u0000\u0000\u00da\u00db\u0003.\u0017\u0000\u00db\u00dc\u0006"+
+		"\b\uffff\uffff\u0000\u00dc\u00ef\u00052\u0000\u0000\u00dd\u00de\u0005"+
+		"\u001e\u0000\u0000\u00de\u00e2\u0006\b\uffff\uffff\u0000\u00df\u00e0\u0005"+
+		"\u001f\u0000\u0000\u00e0\u00e2\u0006\b\uffff\uffff\u0000\u00e1\u00dd\u0001"+
+		"\u0000\u0000\u0000\u00e1\u00df\u0001\u0000\u0000\u0000\u00e2\u00e3\u0001"+
+		"\u0000\u0000\u0000\u00e3\u00e6\u0006\b\uffff\uffff\u0000\u00e4\u00e5\u0005"+
+		"1\u0000\u0000\u00e5\u00e7\u0006\b\uffff\uffff\u0000\u00e6\u00e4\u0001"+
+		"\u0000\u0000\u0000\u00e6\u00e7\u0001\u0000\u0000\u0000\u00e7\u00e8\u0001"+
+		"\u0000\u0000\u0000\u00e8\u00e9\u0003\u0010\b\u0000\u00e9\u00eb\u0006\b"+
+		"\uffff\uffff\u0000\u00ea\u00ec\u00052\u0000\u0000\u00eb\u00ea\u0001\u0000"+
+		"\u0000\u0000\u00eb\u00ec\u0001\u0000\u0000\u0000\u00ec\u00ee\u0001\u0000"+
+		"\u0000\u0000\u00ed\u00e1\u0001\u0000\u0000\u0000\u00ee\u00f1\u0001\u0000"+
+		"\u0000\u0000\u00ef\u00ed\u0001\u0000\u0000\u0000\u00ef\u00f0\u0001\u0000"+
+		"\u0000\u0000\u00f0\u00f3\u0001\u0000\u0000\u0000\u00f1\u00ef\u0001\u0000"+
+		"\u0000\u0000\u00f2\u00d9\u0001\u0000\u0000\u0000\u00f3\u00f6\u0001\u0000"+
+		"\u0000\u0000\u00f4\u00f2\u0001\u0000\u0000\u0000\u00f4\u00f5\u0001\u0000"+
+		"\u0000\u0000\u00f5\u00f7\u0001\u0000\u0000\u0000\u00f6\u00f4\u0001\u0000"+
+		"\u0000\u0000\u00f7\u00f8\u0006\b\uffff\uffff\u0000\u00f8\u0011\u0001\u0000"+
+		"\u0000\u0000\u00f9\u00fa\u0005\u0004\u0000\u0000\u00fa\u00fb\u00051\u0000"+
+		"\u0000\u00fb\u00fc\u0003.\u0017\u0000\u00fc\u00fd\u0006\t\uffff\uffff"+
+		"\u0000\u00fd\u00fe\u00052\u0000\u0000\u00fe\u00ff\u0005;\u0000\u0000\u00ff"+
+		"\u0013\u0001\u0000\u0000\u0000\u0100\u0101\u0005\u0006\u0000\u0000\u0101"+
+		"\u0102\u00051\u0000\u0000\u0102\u0103\u0003.\u0017\u0000\u0103\u0104\u0006"+
+		"\n\uffff\uffff\u0000\u0104\u0105\u00052\u0000\u0000\u0105\u0015\u0001"+
+		"\u0000\u0000\u0000\u0106\u0107\u0005\u0005\u0000\u0000\u0107\u0108\u0005"+
+		"1\u0000\u0000\u0108\u0109\u0003.\u0017\u0000\u0109\u010a\u00057\u0000"+
+		"\u0000\u010a\u010b\u0003.\u0017\u0000\u010b\u010c\u00052\u0000\u0000\u010c"+
+		"\u010d\u0005;\u0000\u0000\u010d\u010e\u0006\u000b\uffff\uffff\u0000\u010e"+
+		"\u0017\u0001\u0000\u0000\u0000\u010f\u0110\u0005\u000e\u0000\u0000\u0110"+
+		"\u0111\u0005\u0011\u0000\u0000\u0111\u0112\u0003\u001a\r\u0000\u0112\u0113"+
+		"\u0006\f\uffff\uffff\u0000\u0113\u0114\u0005\u0002\u0000\u0000\u0114\u0019"+
+		"\u0001\u0000\u0000\u0000\u0115\u012f\u0006\r\uffff\uffff\u0000\u0116\u0117"+
+		"\u0003*\u0015\u0000\u0117\u0118\u0006\r\uffff\uffff\u0000\u0118\u012e"+
+		"\u0001\u0000\u0000\u0000\u0119\u011a\u0005(\u0000\u0000\u011a\u011f\u0006"+
+		"\r\uffff\uffff\u0000\u011b\u011c\u0005\b\u0000\u0000\u011c\u011d\u0003"+
+		"\u0010\b\u0000\u011d\u011e\u0006\r\uffff\uffff\u0000\u011e\u0120\u0001"+
+		"\u0000\u0000\u0000\u011f\u011b\u0001\u0000\u0000\u0000\u011f\u0120\u0001"+
+		"\u0000\u0000\u0000\u0120\u0121\u0001\u0000\u0000\u0000\u0121\u0122\u0006"+
+		"\r\uffff\uffff\u0000\u0122\u012e\u0005;\u0000\u0000\u0123\u0124\u0005"+
+		")\u0000\u0000\u0124\u0129\u0006\r\uffff\uffff\u0000\u0125\u0126\u0005"+
+		"\b\u0000\u0000\u0126\u0127\u0003\u0010\b\u0000\u0127\u0128\u0006\r\uffff"+
+		"\uffff\u0000\u0128\u012a\u0001\u0000\u0000\u0000\u0129\u0125\u0001\u0000"+
+		"\u0000\u0000\u0129\u012a\u0001\u0000\u0000\u0000\u012a\u012b\u0001\u0000"+
+		"\u0000\u0000\u012b\u012c\u0006\r\uffff\uffff\u0000\u012c\u012e\u0005;"+
+		"\u0000\u0000\u012d\u0116\u0001\u0000\u0000\u0000\u012d\u0119\u0001\u0000"+
+		"\u0000\u0000\u012d\u0123\u0001\u0000\u0000\u0000\u012e\u0131\u0001\u0000"+
+		"\u0000\u0000\u012f\u012d\u0001\u0000\u0000\u0000\u012f\u0130\u0001\u0000"+
+		"\u0000\u0000\u0130\u0135\u0001\u0000\u0000\u0000\u0131\u012f\u0001\u0000"+
+		"\u0000\u0000\u0132\u0133\u0003\f\u0006\u0000\u0133\u0134\u0006\r\uffff"+
+		"\uffff\u0000\u0134\u0136\u0001\u0000\u0000\u0000\u0135\u0132\u0001\u0000"+
+		"\u0000\u0000\u0135\u0136\u0001\u0000\u0000\u0000\u0136\u001b\u0001\u0000"+
+		"\u0000\u0000\u0137\u0138\u0005\u000f\u0000\u0000\u0138\u0139\u0005>\u0000"+
+		"\u0000\u0139\u013a\u0005\u0010\u0000\u0000\u013a\u013b\u0003\u001e\u000f"+
+		"\u0000\u013b\u013c\u0003\u001a\r\u0000\u013c\u013d\u0005\u0002\u0000\u0000"+
+		"\u013d\u013e\u0006\u000e\uffff\uffff\u0000\u013e\u001d\u0001\u0000\u0000"+
+		"\u0000\u013f\u0158\u0006\u000f\uffff\uffff\u0000\u0140\u0141\u00051\u0000"+
+		"\u0000\u0141\u0142\u0003.\u0017\u0000\u0142\u0143\u00059\u0000\u0000\u0143"+
+		"\u0144\u0003.\u0017\u0000\u0144\u0145\u0006\u000f\uffff\uffff\u0000\u0145"+
+		"\u0146\u00052\u0000\u0000\u0146\u0159\u0001\u0000\u0000\u0000\u0147\u0148"+
+		"\u0006\u000f\uffff\uffff\u0000\u0148\u0149\u00053\u0000\u0000\u0149\u014a"+
+		"\u0003.\u0017\u0000\u014a\u0151\u0006\u000f\uffff\uffff\u0000\u014b\u014c"+
+		"\u00057\u0000\u0000\u014c\u014d\u0003.\u0017\u0000\u014d\u014e\u0006\u000f"+
+		"\uffff\uffff\u0000\u014e\u0150\u0001\u0000\u0000\u0000\u014f\u014b\u0001"+
+		"\u0000\u0000\u0000\u0150\u0153\u0001\u0000\u0000\u0000\u0151\u014f\u0001"+
+		"\u0000\u0000\u0000\u0151\u0152\u0001\u0000\u0000\u0000\u0152\u0154\u0001"+
+		"\u0000\u0000\u0000\u0153\u0151\u0001\u0000\u0000\u0000\u0154\u0155\u0005"+
+		"4\u0000\u0000\u0155\u0159\u0001\u0000\u0000\u0000\u0156\u0157\u0005>\u0000"+
+		"\u0000\u0157\u0159\u0006\u000f\uffff\uffff\u0000\u0158\u0140\u0001\u0000"+
+		"\u0000\u0000\u0158\u0147\u0001\u0000\u0000\u0000\u0158\u0156\u0001\u0000"+
+		"\u0000\u0000\u0159\u015a\u0001\u0000\u0000\u0000\u015a\u015b\u0006\u000f"+
+		"\uffff\uffff\u0000\u015b\u001f\u0001\u0000\u0000\u0000\u015c\u015d\u0005"+
+		">\u0000\u0000\u015d\u015e\u00058\u0000\u0000\u015e\u015f\u0005\r\u0000"+
+		"\u0000\u015f\u0160\u00051\u0000\u0000\u0160\u0161\u0003.\u0017\u0000\u0161"+
+		"\u0162\u00052\u0000\u0000\u0162\u0163\u0006\u0010\uffff\uffff\u0000\u0163"+
+		"!\u0001\u0000\u0000\u0000\u0164\u0165\u0005\u0012\u0000\u0000\u0165\u0166"+
+		"\u00051\u0000\u0000\u0166\u0167\u0003.\u0017\u0000\u0167\u0168\u00052"+
+		"\u0000\u0000\u0168\u0169\u0006\u0011\uffff\uffff\u0000\u0169#\u0001\u0000"+
+		"\u0000\u0000\u016a\u016b\u0005\u0013\u0000\u0000\u016b\u016c\u00051\u0000"+
+		"\u0000\u016c\u016d\u0003.\u0017\u0000\u016d\u016e\u00052\u0000\u0000\u016e"+
+		"\u016f\u0006\u0012\uffff\uffff\u0000\u016f%\u0001\u0000\u0000\u0000\u0170"+
+		"\u0171\u0006\u0013\uffff\uffff\u0000\u0171\u0175\u0005>\u0000\u0000\u0172"+
+		"\u0173\u0003(\u0014\u0000\u0173\u0174\u0006\u0013\uffff\uffff\u0000\u0174"+
+		"\u0176\u0001\u0000\u0000\u0000\u0175\u0172\u0001\u0000\u0000\u0000\u0175"+
+		"\u0176\u0001\u0000\u0000\u0000\u0176\u0183\u0001\u0000\u0000\u0000\u0177"+
+		"\u0178\u00050\u0000\u0000\u0178\u0184\u0006\u0013\uffff\uffff\u0000\u0179"+
+		"\u017a\u0005+\u0000\u0000\u017a\u0184\u0006\u0013\uffff\uffff\u0000\u017b"+
+		"\u017c\u0005,\u0000\u0000\u017c\u0184\u0006\u0013\uffff\uffff\u0000\u017d"+
+		"\u017e\u0005.\u0000\u0000\u017e\u0184\u0006\u0013\uffff\uffff\u0000\u017f"+
+		"\u0180\u0005-\u0000\u0000\u0180\u0184\u0006\u0013\uffff\uffff\u0000\u0181"+
+		"\u0182\u0005/\u0000\u0000\u0182\u0184\u0006\u0013\uffff\uffff\u0000\u0183"+
+		"\u0177\u0001\u0000\u0000\u0000\u0183\u0179\u0001\u0000\u0000\u0000\u0183"+
+		"\u017b\u0001\u0000\u0000\u0000\u0183\u017d\u0001\u0000\u0000\u0000\u0183"+
+		"\u017f\u0001\u0000\u0000\u0000\u0183\u0181\u0001\u0000\u0000\u0000\u0184"+
+		"\u0185\u0001\u0000\u0000\u0000\u0185\u0186\u0003.\u0017\u0000\u0186\u0187"+
+		"\u0005;\u0000\u0000\u0187\u0188\u0006\u0013\uffff\uffff\u0000\u0188\'"+
+		"\u0001\u0000\u0000\u0000\u0189\u018a\u00053\u0000\u0000\u018a\u018b\u0003"+
+		".\u0017\u0000\u018b\u018c\u0006\u0014\uffff\uffff\u0000\u018c\u018d\u0005"+
+		"4\u0000\u0000\u018d)\u0001\u0000\u0000\u0000\u018e\u018f\u0003\u000e\u0007"+
+		"\u0000\u018f\u0190\u0006\u0015\uffff\uffff\u0000\u0190\u01a6\u0001\u0000"+
+		"\u0000\u0000\u0191\u0192\u0003\u0018\f\u0000\u0192\u0193\u0006\u0015\uffff"+
+		"\uffff\u0000\u0193\u01a6\u0001\u0000\u0000\u0000\u0194\u0195\u0003\u001c"+
+		"\u000e\u0000\u0195\u0196\u0006\u0015\uffff\uffff\u0000\u0196\u01a6\u0001"+
+		"\u0000\u0000\u0000\u0197\u0198\u0003\u0012\t\u0000\u0198\u0199\u0006\u0015"+
+		"\uffff\uffff\u0000\u0199\u01a6\u0001\u0000\u0000\u0000\u019a\u019b\u0003"+
+		"\u0016\u000b\u0000\u019b\u019c\u0006\u0015\uffff\uffff\u0000\u019c\u01a6"+
+		"\u0001\u0000\u0000\u0000\u019d\u019e\u0003.\u0017\u0000\u019e\u019f\u0006"+
+		"\u0015\uffff\uffff\u0000\u019f\u01a0\u0006\u0015\uffff\uffff\u0000\u01a0"+
+		"\u01a1\u0005;\u0000\u0000\u01a1\u01a6\u0001\u0000\u0000\u0000\u01a2\u01a3"+
+		"\u0003&\u0013\u0000\u01a3\u01a4\u0006\u0015\uffff\uffff\u0000\u01a4\u01a6"+
+		"\u0001\u0000\u0000\u0000\u01a5\u018e\u0001\u0000\u0000\u0000\u01a5\u0191"+
+		"\u0001\u0000\u0000\u0000\u01a5\u0194\u0001\u0000\u0000\u0000\u01a5\u0197"+
+		"\u0001\u0000\u0000\u0000\u01a5\u019a\u0001\u0000\u0000\u0000\u01a5\u019d"+
+		"\u0001\u0000\u0000\u0000\u01a5\u01a2\u0001\u0000\u0000\u0000\u01a6+\u0001"+
+		"\u0000\u0000\u0000\u01a7\u01ad\u0006\u0016\uffff\uffff\u0000\u01a8\u01a9"+
+		"\u0003*\u0015\u0000\u01a9\u01aa\u0006\u0016\uffff\uffff\u0000\u01aa\u01ac"+
+		"\u0001\u0000\u0000\u0000\u01ab\u01a8\u0001\u0000\u0000\u0000\u01ac\u01af"+
+		"\u0001\u0000\u0000\u0000\u01ad\u01ab\u0001\u0000\u0000\u0000\u01ad\u01ae"+
+		"\u0001\u0000\u0000\u0000\u01ae\u01b3\u0001\u0000\u0000\u0000\u01af\u01ad"+
+		"\u0001\u0000\u0000\u0000\u01b0\u01b1\u0003\f\u0006\u0000\u01b1\u01b2\u0006"+
+		"\u0016\uffff\uffff\u0000\u01b2\u01b4\u0001\u0000\u0000\u0000\u01b3\u01b0"+
+		"\u0001\u0000\u0000\u0000\u01b3\u01b4\u0001\u0000\u0000\u0000\u01b4-\u0001"+
+		"\u0000\u0000\u0000\u01b5\u01b6\u0006\u0017\uffff\uffff\u0000\u01b6\u01b7"+
+		"\u00030\u0018\u0000\u01b7\u01b8\u0006\u0017\uffff\uffff\u0000\u01b8\u01c0"+
+		"\u0001\u0000\u0000\u0000\u01b9\u01ba\n\u0002\u0000\u0000\u01ba\u01bb\u0005"+
+		"%\u0000\u0000\u01bb\u01bc\u00030\u0018\u0000\u01bc\u01bd\u0006\u0017\uffff"+
+		"\uffff\u0000\u01bd\u01bf\u0001\u0000\u0000\u0000\u01be\u01b9\u0001\u0000"+
+		"\u0000\u0000\u01bf\u01c2\u0001\u0000\u0000\u0000\u01c0\u01be\u0001\u0000"+
+		"\u0000\u0000\u01c0\u01c1\u0001\u0000\u0000\u0000\u01c1/\u0001\u0000\u0000"+
+		"\u0000\u01c2\u01c0\u0001\u0000\u0000\u0000\u01c3\u01c4\u00032\u0019\u0000"+
+		"\u01c4\u01c9\u0006\u0018\uffff\uffff\u0000\u01c5\u01c6\u0005\u0018\u0000"+
+		"\u0000\u01c6\u01ca\u0006\u0018\uffff\uffff\u0000\u01c7\u01c8\u0005\u0019"+
+		"\u0000\u0000\u01c8\u01ca\u0006\u0018\uffff\uffff\u0000\u01c9\u01c5\u0001"+
+		"\u0000\u0000\u0000\u01c9\u01c7\u0001\u0000\u0000\u0000\u01ca\u01cb\u0001"+
+		"\u0000\u0000\u0000\u01cb\u01cc\u00032\u0019\u0000\u01cc\u01cd\u0006\u0018"+
+		"\uffff\uffff\u0000\u01cd\u01d2\u0001\u0000\u0000\u0000\u01ce\u01cf\u0003"+
+		"2\u0019\u0000\u01cf\u01d0\u0006\u0018\uffff\uffff\u0000\u01d0\u01d2\u0001"+
+		"\u0000\u0000\u0000\u01d1\u01c3\u0001\u0000\u0000\u0000\u01d1\u01ce\u0001"+
+		"\u0000\u0000\u0000\u01d21\u0001\u0000\u0000\u0000\u01d3\u01d4\u0006\u0019"+
+		"\uffff\uffff\u0000\u01d4\u01d5\u00034\u001a\u0000\u01d5\u01d6\u0006\u0019"+
+		"\uffff\uffff\u0000\u01d6\u01e8\u0001\u0000\u0000\u0000\u01d7\u01d8\n\u0002"+
+		"\u0000\u0000\u01d8\u01e1\u0006\u0019\uffff\uffff\u0000\u01d9\u01da\u0005"+
+		"\u001c\u0000\u0000\u01da\u01e2\u0006\u0019\uffff\uffff\u0000\u01db\u01dc"+
+		"\u0005\u001d\u0000\u0000\u01dc\u01e2\u0006\u0019\uffff\uffff\u0000\u01dd"+
+		"\u01de\u0005\u001a\u0000\u0000\u01de\u01e2\u0006\u0019\uffff\uffff\u0000"+
+		"\u01df\u01e0\u0005\u001b\u0000\u0000\u01e0\u01e2\u0006\u0019\uffff\uffff"+
+		"\u0000\u01e1\u01d9\u0001\u0000\u0000\u0000\u01e1\u01db\u0001\u0000\u0000"+
+		"\u0000\u01e1\u01dd\u0001\u0000\u0000\u0000\u01e1\u01df\u0001\u0000\u0000"+
+		"\u0000\u01e2\u01e3\u0001\u0000\u0000\u0000\u01e3\u01e4\u00034\u001a\u0000"+
+		"\u01e4\u01e5\u0006\u0019\uffff\uffff\u0000\u01e5\u01e7\u0001\u0000\u0000"+
+		"\u0000\u01e6\u01d7\u0001\u0000\u0000\u0000\u01e7\u01ea\u0001\u0000\u0000"+
+		"\u0000\u01e8\u01e6\u0001\u0000\u0000\u0000\u01e8\u01e9\u0001\u0000\u0000"+
+		"\u0000\u01e93\u0001\u0000\u0000\u0000\u01ea\u01e8\u0001\u0000\u0000\u0000"+
+		"\u01eb\u01ec\u0006\u001a\uffff\uffff\u0000\u01ec\u01ed\u00036\u001b\u0000"+
+		"\u01ed\u01ee\u0006\u001a\uffff\uffff\u0000\u01ee\u01fc\u0001\u0000\u0000"+
+		"\u0000\u01ef\u01f0\n\u0002\u0000\u0000\u01f0\u01f5\u0006\u001a\uffff\uffff"+
+		"\u0000\u01f1\u01f2\u0005\u0014\u0000\u0000\u01f2\u01f6\u0006\u001a\uffff"+
+		"\uffff\u0000\u01f3\u01f4\u0005\u0015\u0000\u0000\u01f4\u01f6\u0006\u001a"+
+		"\uffff\uffff\u0000\u01f5\u01f1\u0001\u0000\u0000\u0000\u01f5\u01f3\u0001"+
+		"\u0000\u0000\u0000\u01f6\u01f7\u0001\u0000\u0000\u0000\u01f7\u01f8\u0003"+
+		"6\u001b\u0000\u01f8\u01f9\u0006\u001a\uffff\uffff\u0000\u01f9\u01fb\u0001"+
+		"\u0000\u0000\u0000\u01fa\u01ef\u0001\u0000\u0000\u0000\u01fb\u01fe\u0001"+
+		"\u0000\u0000\u0000\u01fc\u01fa\u0001\u0000\u0000\u0000\u01fc\u01fd\u0001"+
+		"\u0000\u0000\u0000\u01fd5\u0001\u0000\u0000\u0000\u01fe\u01fc\u0001\u0000"+
+		"\u0000\u0000\u01ff\u0200\u0006\u001b\uffff\uffff\u0000\u0200\u0201\u0003"+
+		"8\u001c\u0000\u0201\u0202\u0006\u001b\uffff\uffff\u0000\u0202\u0210\u0001"+
+		"\u0000\u0000\u0000\u0203\u0204\n\u0002\u0000\u0000\u0204\u0209\u0006\u001b"+
+		"\uffff\uffff\u0000\u0205\u0206\u0005\u0016\u0000\u0000\u0206\u020a\u0006"+
+		"\u001b\uffff\uffff\u0000\u0207\u0208\u0005\u0017\u0000\u0000\u0208\u020a"+
+		"\u0006\u001b\uffff\uffff\u0000\u0209\u0205\u0001\u0000\u0000\u0000\u0209"+
+		"\u0207\u0001\u0000\u0000\u0000\u020a\u020b\u0001\u0000\u0000\u0000\u020b"+
+		"\u020c\u00038\u001c\u0000\u020c\u020d\u0006\u001b\uffff\uffff\u0000\u020d"+
+		"\u020f\u0001\u0000\u0000\u0000\u020e\u0203\u0001\u0000\u0000\u0000\u020f"+
+		"\u0212\u0001\u0000\u0000\u0000\u0210\u020e\u0001\u0000\u0000\u0000\u0210"+
+		"\u0211\u0001\u0000\u0000\u0000\u02117\u0001\u0000\u0000\u0000\u0212\u0210"+
+		"\u0001\u0000\u0000\u0000\u0213\u021c\u0006\u001c\uffff\uffff\u0000\u0214"+
+		"\u0215\u0005 \u0000\u0000\u0215\u021d\u0006\u001c\uffff\uffff\u0000\u0216"+
+		"\u0217\u0005\u0015\u0000\u0000\u0217\u021d\u0006\u001c\uffff\uffff\u0000"+
+		"\u0218\u0219\u0005!\u0000\u0000\u0219\u021d\u0006\u001c\uffff\uffff\u0000"+
+		"\u021a\u021b\u0005\"\u0000\u0000\u021b\u021d\u0006\u001c\uffff\uffff\u0000"+
+		"\u021c\u0214\u0001\u0000\u0000\u0000\u021c\u0216\u0001\u0000\u0000\u0000"+
+		"\u021c\u0218\u0001\u0000\u0000\u0000\u021c\u021a\u0001\u0000\u0000\u0000"+
+		"\u021d\u021e\u0001\u0000\u0000\u0000\u021e\u021f\u0003:\u001d\u0000\u021f"+
+		"\u0220\u0006\u001c\uffff\uffff\u0000\u0220\u0225\u0001\u0000\u0000\u0000"+
+		"\u0221\u0222\u0003:\u001d\u0000\u0222\u0223\u0006\u001c\uffff\uffff\u0000"+
+		"\u0223\u0225\u0001\u0000\u0000\u0000\u0224\u0213\u0001\u0000\u0000\u0000"+
+		"\u0224\u0221\u0001\u0000\u0000\u0000\u02259\u0001\u0000\u0000\u0000\u0226"+
+		"\u0227\u0006\u001d\uffff\uffff\u0000\u0227\u022f\u0003<\u001e\u0000\u0228"+
+		"\u0229\u00051\u0000\u0000\u0229\u022a\u0003\n\u0005\u0000\u022a\u022b"+
+		"\u0006\u001d\uffff\uffff\u0000\u022b\u022c\u00052\u0000\u0000\u022c\u022e"+
+		"\u0001\u0000\u0000\u0000\u022d\u0228\u0001\u0000\u0000\u0000\u022e\u0231"+
+		"\u0001\u0000\u0000\u0000\u022f\u022d\u0001\u0000\u0000\u0000\u022f\u0230"+
+		"\u0001\u0000\u0000\u0000\u0230\u0237\u0001\u0000\u0000\u0000\u0231\u022f"+
+		"\u0001\u0000\u0000\u0000\u0232\u0233\u0003(\u0014\u0000\u0233\u0234\u0006"+
+		"\u001d\uffff\uffff\u0000\u0234\u0236\u0001\u0000\u0000\u0000\u0235\u0232"+
+		"\u0001\u0000\u0000\u0000\u0236\u0239\u0001\u0000\u0000\u0000\u0237\u0235"+
+		"\u0001\u0000\u0000\u0000\u0237\u0238\u0001\u0000\u0000\u0000\u0238\u023a"+
+		"\u0001\u0000\u0000\u0000\u0239\u0237\u0001\u0000\u0000\u0000\u023a\u023b"+
+		"\u0006\u001d\uffff\uffff\u0000\u023b;\u0001\u0000\u0000\u0000\u023c\u023d"+
+		"\u0003@ \u0000\u023d\u023e\u0006\u001e\uffff\uffff\u0000\u023e\u0258\u0001"+
+		"\u0000\u0000\u0000\u023f\u0240\u0005>\u0000\u0000\u0240\u0258\u0006\u001e"+
+		"\uffff\uffff\u0000\u0241\u0242\u0003>\u001f\u0000\u0242\u0243\u0006\u001e"+
+		"\uffff\uffff\u0000\u0243\u0258\u0001\u0000\u0000\u0000\u0244\u0245\u0003"+
+		"\"\u0011\u0000\u0245\u0246\u0006\u001e\uffff\uffff\u0000\u0246\u0258\u0001"+
+		"\u0000\u0000\u0000\u0247\u0248\u0003$\u0012\u0000\u0248\u0249\u0006\u001e"+
+		"\uffff\uffff\u0000\u0249\u0258\u0001\u0000\u0000\u0000\u024a\u024b\u0003"+
+		" \u0010\u0000\u024b\u024c\u0006\u001e\uffff\uffff\u0000\u024c\u0258\u0001"+
+		"\u0000\u0000\u0000\u024d\u024e\u0003\u0014\n\u0000\u024e\u024f\u0006\u001e"+
+		"\uffff\uffff\u0000\u024f\u0258\u0001\u0000\u0000\u0000\u0250\u0254\u0005"+
+		"1\u0000\u0000\u0251\u0252\u0003.\u0017\u0000\u0252\u0253\u0006\u001e\uffff"+
+		"\uffff\u0000\u0253\u0255\u0001\u0000\u0000\u0000\u0254\u0251\u0001\u0000"+
+		"\u0000\u0000\u0254\u0255\u0001\u0000\u0000\u0000\u0255\u0256\u0001\u0000"+
+		"\u0000\u0000\u0256\u0258\u00052\u0000\u0000\u0257\u023c\u0001\u0000\u0000"+
+		"\u0000\u0257\u023f\u0001\u0000\u0000\u0000\u0257\u0241\u0001\u0000\u0000"+
+		"\u0000\u0257\u0244\u0001\u0000\u0000\u0000\u0257\u0247\u0001\u0000\u0000"+
+		"\u0000\u0257\u024a\u0001\u0000\u0000\u0000\u0257\u024d\u0001\u0000\u0000"+
+		"\u0000\u0257\u0250\u0001\u0000\u0000\u0000\u0258=\u0001\u0000\u0000\u0000"+
+		"\u0259\u025a\u0005*\u0000\u0000\u025a\u025b\u0003\u0004\u0002\u0000\u025b"+
+		"\u025c\u00055\u0000\u0000\u025c\u025d\u0003,\u0016\u0000\u025d\u025e\u0005"+
+		"6\u0000\u0000\u025e\u025f\u0006\u001f\uffff\uffff\u0000\u025f?\u0001\u0000"+
+		"\u0000\u0000\u0260\u0261\u0003D\"\u0000\u0261\u0262\u0006 \uffff\uffff"+
+		"\u0000\u0262\u0270\u0001\u0000\u0000\u0000\u0263\u0264\u0005?\u0000\u0000"+
+		"\u0264\u0270\u0006 \uffff\uffff\u0000\u0265\u0266\u0005<\u0000\u0000\u0266"+
+		"\u0270\u0006 \uffff\uffff\u0000\u0267\u0268\u0005=\u0000\u0000\u0268\u0270"+
+		"\u0006 \uffff\uffff\u0000\u0269\u026a\u0003B!\u0000\u026a\u026b\u0006"+
+		" \uffff\uffff\u0000\u026b\u0270\u0001\u0000\u0000\u0000\u026c\u026d\u0003"+
+		"F#\u0000\u026d\u026e\u0006 \uffff\uffff\u0000\u026e\u0270\u0001\u0000"+
+		"\u0000\u0000\u026f\u0260\u0001\u0000\u0000\u0000\u026f\u0263\u0001\u0000"+
+		"\u0000\u0000\u026f\u0265\u0001\u0000\u0000\u0000\u026f\u0267\u0001\u0000"+
+		"\u0000\u0000\u026f\u0269\u0001\u0000\u0000\u0000\u026f\u026c\u0001\u0000"+
+		"\u0000\u0000\u0270A\u0001\u0000\u0000\u0000\u0271\u0272\u00053\u0000\u0000"+
+		"\u0272\u0273\u0003\n\u0005\u0000\u0273\u0274\u00054\u0000\u0000\u0274"+
+		"\u0275\u0006!\uffff\uffff\u0000\u0275C\u0001\u0000\u0000\u0000\u0276\u0277"+
+		"\u0005&\u0000\u0000\u0277\u027b\u0006\"\uffff\uffff\u0000\u0278\u0279"+
+		"\u0005\'\u0000\u0000\u0279\u027b\u0006\"\uffff\uffff\u0000\u027a\u0276"+
+		"\u0001\u0000\u0000\u0000\u027a\u0278\u0001\u0000\u0000\u0000\u027bE\u0001"+
+		"\u0000\u0000\u0000\u027c\u027d\u0005\u000b\u0000\u0000\u027d\u027e\u0005"+
+		"1\u0000\u0000\u027e\u027f\u0005:\u0000\u0000\u027f\u0280\u0005>\u0000"+
+		"\u0000\u0280\u0281\u00052\u0000\u0000\u0281\u0282\u0006#\uffff\uffff\u0000"+
+		"\u0282G\u0001\u0000\u0000\u0000.OQk~\u0083\u0085\u009a\u00b2\u00b5\u00bc"+
+		"\u00cc\u00d4\u00e1\u00e6\u00eb\u00ef\u00f4\u011f\u0129\u012d\u012f\u0135"+
+		"\u0151\u0158\u0175\u0183\u01a5\u01ad\u01b3\u01c0\u01c9\u01d1\u01e1\u01e8"+
+		"\u01f5\u01fc\u0209\u0210\u021c\u0224\u022f\u0237\u0254\u0257\u026f\u027a";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -1,36 +1,104 @@
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 
 public class Fptr {
     Object instance;
+    Class<?> owner;
     String methodName;
+    // a function is compiled once per argument signature, so a pointer resolves to one handle per signature
+    HashMap<List<Object>, MethodHandle> handles;
+    List<Object> lastSignature;
+    MethodHandle lastHandle;
+    // captured values of a closure, passed ahead of the call arguments
+    Object[] environment;
 
     public Fptr(Object instance, String methodName) {
         this.instance = instance;
+        this.owner = instance.getClass();
         this.methodName = methodName;
+        this.handles = new HashMap<>();
+    }
+
+    public Fptr(String className, String methodName) throws ClassNotFoundException {
+        this.owner = Class.forName(className);
+        this.methodName = methodName;
+        this.handles = new HashMap<>();
+    }
+
+    public Fptr(String methodName, Object[] environment) throws ClassNotFoundException {
+        this.owner = Class.forName("Main");
+        this.methodName = methodName;
+        this.handles = new HashMap<>();
+        this.environment = environment;
     }
 
     public Object invoke(ArrayList<Object> arguments) {
-        int argumentsSize = arguments.size();
-        Class[] argsClasses = new Class[argumentsSize];
-        Object[] argsArray = new Object[argumentsSize];
-        for(int i = 0; i < argumentsSize; i++) {
-            argsClasses[i] = arguments.get(i).getClass();
-            argsArray[i] = arguments.get(i);
-        }
-        Method objectMethod = null;
-        try {
-            objectMethod = this.instance.getClass().getMethod(this.methodName, argsClasses);
-        } catch (NoSuchMethodException e) { 
-            e.printStackTrace();
+        Object[] argsArray = arguments.toArray();
+        if(this.environment != null) {
+            Object[] closureArgs = Arrays.copyOf(this.environment, this.environment.length + argsArray.length);
+            System.arraycopy(argsArray, 0, closureArgs, this.environment.length, argsArray.length);
+            argsArray = closureArgs;
         }
         try {
-            return objectMethod.invoke(this.instance, argsArray);
-        } catch (IllegalAccessException | InvocationTargetException e) { 
+            return handleFor(argsArray).invokeExact(argsArray);
+        } catch (Throwable e) {
             e.printStackTrace();
             System.exit(1);
         }
         return null;
     }
-}
\ No newline at end of file
+
+    private MethodHandle handleFor(Object[] argsArray) throws ReflectiveOperationException {
+        Object[] argsClasses = new Object[argsArray.length];
+        for(int i = 0; i < argsArray.length; i++)
+            argsClasses[i] = argsArray[i].getClass();
+        List<Object> signature = Arrays.asList(argsClasses);
+        if(signature.equals(this.lastSignature))
+            return this.lastHandle;
+        MethodHandle handle = this.handles.get(signature);
+        if(handle == null) {
+            handle = resolve(argsClasses);
+            this.handles.put(signature, handle);
+        }
+        this.lastSignature = signature;
+        this.lastHandle = handle;
+        return handle;
+    }
+
+    private MethodHandle resolve(Object[] argsClasses) throws ReflectiveOperationException {
+        for(Method method : this.owner.getMethods()) {
+            String name = method.getName();
+            if((name.equals(this.methodName) || name.startsWith(this.methodName + "$"))
+                    && accepts(method.getParameterTypes(), argsClasses)) {
+                MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+                if(!Modifier.isStatic(method.getModifiers()))
+                    handle = handle.bindTo(this.instance);
+                return handle.asSpreader(Object[].class, argsClasses.length)
+                        .asType(MethodType.genericMethodType(0, true));
+            }
+        }
+        throw new NoSuchMethodException(this.methodName);
+    }
+
+    private static boolean accepts(Class<?>[] parameterTypes, Object[] argsClasses) {
+        if(parameterTypes.length != argsClasses.length)
+            return false;
+        for(int i = 0; i < parameterTypes.length; i++) {
+            Class<?> parameterType = parameterTypes[i];
+            if(parameterType == int.class)
+                parameterType = Integer.class;
+            else if(parameterType == boolean.class)
+                parameterType = Boolean.class;
+            if(!parameterType.isAssignableFrom((Class<?>) argsClasses[i]))
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,52 @@
+import java.util.Arrays;
+
+// a list of ints kept unboxed in an array. A copy shares the array with the original, and whichever side writes
+// first clones it.
+public class IntList {
+    private int[] elements;
+    private int size;
+    private boolean shared;
+
+    public IntList() {
+        this.elements = new int[8];
+    }
+
+    public IntList(IntList that) {
+        that.shared = true;
+        this.shared = true;
+        this.elements = that.elements;
+        this.size = that.size;
+    }
+
+    public static IntList copy(IntList that) {
+        return new IntList(that);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int getElement(int index) {
+        if(index < 0 || index >= this.size)
+            throw new IndexOutOfBoundsException(index);
+        return this.elements[index];
+    }
+
+    public void setElement(int index, int value) {
+        if(index < 0 || index >= this.size)
+            throw new IndexOutOfBoundsException(index);
+        if(this.shared) {
+            this.elements = this.elements.clone();
+            this.shared = false;
+        }
+        this.elements[index] = value;
+    }
+
+    public void addElement(int value) {
+        if(this.shared || this.size == this.elements.length) {
+            this.elements = Arrays.copyOf(this.elements, Math.max(2 * this.size, 8));
+            this.shared = false;
+        }
+        this.elements[this.size++] = value;
+    }
+}
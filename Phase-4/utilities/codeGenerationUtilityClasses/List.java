@@ -1,31 +1,107 @@
 import java.util.ArrayList;
 
+// a persistent vector: elements live in the leaves of a 32-way trie, and copying a list shares the whole trie.
+// Every node keeps the owner token of the list that created it in its last slot and may only be written in
+// place by that list; a copy gives both lists fresh tokens, so any node they still share is path-copied on its
+// next write.
 public class List {
-    public ArrayList<Object> elements;
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private Object owner;
+    private Object[] root;
+    private int shift;
+    private int size;
+
+    public List() {
+        this.owner = new Object();
+        this.root = newNode();
+    }
 
     public List(ArrayList<Object> newElements) {
-        this.elements = new ArrayList<>();
+        this();
         for(Object newElement : newElements)
-            this.elements.add(getNewObject(newElement));
+            addElement(newElement);
     }
 
     public List(List that) {
-        this(that.elements);
+        that.owner = new Object();
+        this.owner = new Object();
+        this.root = that.root;
+        this.shift = that.shift;
+        this.size = that.size;
+    }
+
+    public static List copy(List that) {
+        return new List(that);
     }
 
     private Object getNewObject(Object o) {
         if(o instanceof List)
             return new List((List) o);
+        else if(o instanceof IntList)
+            return new IntList((IntList) o);
+        else if(o instanceof BoolList)
+            return new BoolList((BoolList) o);
         else
             return o;
     }
 
+    private Object[] newNode() {
+        Object[] node = new Object[WIDTH + 1];
+        node[WIDTH] = this.owner;
+        return node;
+    }
+
+    private Object[] editable(Object[] node) {
+        if(node[WIDTH] == this.owner)
+            return node;
+        Object[] copy = node.clone();
+        copy[WIDTH] = this.owner;
+        return copy;
+    }
+
+    private Object[] leafFor(int index) {
+        this.root = editable(this.root);
+        Object[] node = this.root;
+        for(int level = this.shift; level > 0; level -= BITS) {
+            int slot = (index >>> level) & MASK;
+            Object[] child = (Object[]) node[slot];
+            child = (child == null) ? newNode() : editable(child);
+            node[slot] = child;
+            node = child;
+        }
+        return node;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
     public Object getElement(int index) {
-        return this.elements.get(index);
+        if(index < 0 || index >= this.size)
+            throw new IndexOutOfBoundsException(index);
+        Object[] node = this.root;
+        for(int level = this.shift; level > 0; level -= BITS)
+            node = (Object[]) node[(index >>> level) & MASK];
+        return node[index & MASK];
     }
 
     public void setElement(int index, Object o) {
-        this.elements.set(index, getNewObject(o));
+        if(index < 0 || index >= this.size)
+            throw new IndexOutOfBoundsException(index);
+        leafFor(index)[index & MASK] = getNewObject(o);
     }
 
+    public void addElement(Object o) {
+        if(this.size == 1 << (this.shift + BITS)) {
+            Object[] newRoot = newNode();
+            newRoot[0] = this.root;
+            this.root = newRoot;
+            this.shift += BITS;
+        }
+        leafFor(this.size)[this.size & MASK] = getNewObject(o);
+        this.size++;
+    }
 }